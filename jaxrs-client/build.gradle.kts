@@ -9,4 +9,10 @@ dependencies {
     implementation(projects.micronautJaxrsCommon)
     implementation(mn.micronaut.http.client)
     implementation(mn.micronaut.buffer.netty)
+
+    testImplementation(mnTest.micronaut.test.junit5)
+    testImplementation(mnSerde.micronaut.serde.jackson)
+
+    testRuntimeOnly(mnLogging.logback.classic)
+    testRuntimeOnly(mnTest.junit.jupiter.engine)
 }
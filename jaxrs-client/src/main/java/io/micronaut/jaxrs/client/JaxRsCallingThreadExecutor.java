@@ -0,0 +1,98 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jaxrs.client;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+
+import java.time.Duration;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * The executor of a synchronous invocation running the tasks on the thread waiting for the result, the response
+ * filters and the entity readers don't run on the event loop. The tasks submitted after the caller stopped waiting
+ * run on the submitting thread.
+ *
+ * @author Denis Stepanov
+ * @since 4.7
+ */
+@Internal
+final class JaxRsCallingThreadExecutor implements Executor {
+
+    private static final Runnable WAKE_UP = () -> {
+    };
+
+    private final BlockingQueue<Runnable> tasks = new LinkedBlockingQueue<>();
+    private volatile boolean closed;
+
+    @Override
+    public void execute(Runnable task) {
+        if (closed) {
+            task.run();
+            return;
+        }
+        tasks.add(task);
+        if (closed && tasks.remove(task)) {
+            task.run();
+        }
+    }
+
+    /**
+     * Run the submitted tasks until the future is completed.
+     *
+     * @param future  The future
+     * @param timeout The timeout or null to wait indefinitely
+     * @param <T>     The result type
+     * @return The result
+     * @throws InterruptedException If the thread is interrupted
+     * @throws TimeoutException     If the future isn't completed in time
+     * @throws ExecutionException   If the future is completed exceptionally
+     */
+    <T> T await(CompletableFuture<T> future, @Nullable Duration timeout) throws InterruptedException, TimeoutException, ExecutionException {
+        future.whenComplete((result, throwable) -> tasks.add(WAKE_UP));
+        try {
+            long deadline = timeout == null ? 0 : System.nanoTime() + timeout.toNanos();
+            while (!future.isDone()) {
+                Runnable task;
+                if (timeout == null) {
+                    task = tasks.take();
+                } else {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        throw new TimeoutException();
+                    }
+                    task = tasks.poll(remaining, TimeUnit.NANOSECONDS);
+                }
+                if (task != null) {
+                    task.run();
+                }
+            }
+            return future.get();
+        } finally {
+            closed = true;
+            Runnable task;
+            while ((task = tasks.poll()) != null) {
+                task.run();
+            }
+        }
+    }
+}
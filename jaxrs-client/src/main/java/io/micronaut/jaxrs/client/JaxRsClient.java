@@ -16,8 +16,13 @@
 package io.micronaut.jaxrs.client;
 
 import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.http.body.MessageBodyHandlerRegistry;
 import io.micronaut.http.client.HttpClient;
+import io.micronaut.http.client.StreamingHttpClient;
 import io.micronaut.http.client.netty.DefaultHttpClient;
+import io.micronaut.http.client.sse.SseClient;
+import jakarta.ws.rs.ProcessingException;
 import jakarta.ws.rs.client.Client;
 import jakarta.ws.rs.client.Invocation;
 import jakarta.ws.rs.core.Link;
@@ -26,6 +31,15 @@ import jakarta.ws.rs.core.UriBuilder;
 import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.SSLContext;
 import java.net.URI;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * The implementation of {@link Client}.
@@ -36,18 +50,102 @@ import java.net.URI;
 @Internal
 final class JaxRsClient implements Client, JaxRsConfigurable<Client> {
 
+    private final JaxRsHttpClientRegistry.Lease lease;
     private final DefaultHttpClient httpClient;
     private final JaxRsConfiguration config;
-
-    JaxRsClient(DefaultHttpClient httpClient, JaxRsConfiguration config) {
-        this.httpClient = httpClient;
+    @Nullable
+    private final SSLContext sslContext;
+    @Nullable
+    private final HostnameVerifier hostnameVerifier;
+    @Nullable
+    private final ExecutorService executorService;
+    @Nullable
+    private final ScheduledExecutorService scheduledExecutorService;
+    @Nullable
+    private final Duration invocationTimeout;
+
+    JaxRsClient(JaxRsHttpClientRegistry.Lease lease,
+                JaxRsConfiguration config,
+                @Nullable SSLContext sslContext,
+                @Nullable HostnameVerifier hostnameVerifier,
+                @Nullable ExecutorService executorService,
+                @Nullable ScheduledExecutorService scheduledExecutorService,
+                @Nullable Duration invocationTimeout) {
+        this.lease = lease;
+        this.httpClient = lease.httpClient();
         this.config = config;
+        this.sslContext = sslContext;
+        this.hostnameVerifier = hostnameVerifier;
+        this.executorService = executorService;
+        this.scheduledExecutorService = scheduledExecutorService;
+        this.invocationTimeout = invocationTimeout;
     }
 
     public HttpClient getHttpClient() {
         return httpClient;
     }
 
+    public StreamingHttpClient getStreamingHttpClient() {
+        return httpClient;
+    }
+
+    public SseClient getSseClient() {
+        return httpClient;
+    }
+
+    /**
+     * @return The Micronaut message body handlers of the HTTP client
+     */
+    MessageBodyHandlerRegistry getHandlerRegistry() {
+        return httpClient.getHandlerRegistry();
+    }
+
+    /**
+     * @return The executor service configured by {@link jakarta.ws.rs.client.ClientBuilder#executorService}
+     */
+    @Nullable
+    ExecutorService getExecutorService() {
+        return executorService;
+    }
+
+    /**
+     * @return The executor of the blocking work, the configured executor service or the default one
+     */
+    Executor getBlockingExecutor() {
+        return executorService == null ? JaxRsDefaultExecutor.EXECUTOR : executorService;
+    }
+
+    /**
+     * @return The maximum time to wait for the synchronous invocation
+     */
+    @Nullable
+    Duration getInvocationTimeout() {
+        return invocationTimeout;
+    }
+
+    /**
+     * Fail the asynchronous invocation after the invocation timeout using the scheduled executor service
+     * configured by {@link jakarta.ws.rs.client.ClientBuilder#scheduledExecutorService}.
+     *
+     * @param future The future of the invocation
+     * @param <T>    The result type
+     * @return The same future
+     */
+    <T> CompletableFuture<T> withTimeout(CompletableFuture<T> future) {
+        if (scheduledExecutorService == null || invocationTimeout == null || future.isDone()) {
+            return future;
+        }
+        ScheduledFuture<?> timeout = scheduledExecutorService.schedule(
+            () -> future.completeExceptionally(new ProcessingException(
+                new TimeoutException("The invocation timed out after " + invocationTimeout.toMillis() + "ms")
+            )),
+            invocationTimeout.toNanos(),
+            TimeUnit.NANOSECONDS
+        );
+        future.whenComplete((result, throwable) -> timeout.cancel(false));
+        return future;
+    }
+
     @Override
     public Client self() {
         return this;
@@ -55,7 +153,8 @@ final class JaxRsClient implements Client, JaxRsConfigurable<Client> {
 
     @Override
     public void close() {
-        httpClient.close();
+        // The HTTP client is closed after it's released by all the clients sharing it
+        lease.release();
     }
 
     @Override
@@ -65,27 +164,32 @@ final class JaxRsClient implements Client, JaxRsConfigurable<Client> {
 
     @Override
     public JaxRsWebTarget target(String uri) {
-        return target(UriBuilder.fromUri(uri));
+        return newTarget(UriBuilder.fromUri(uri));
     }
 
     @Override
     public JaxRsWebTarget target(URI uri) {
-        return target(UriBuilder.fromUri(uri));
+        return newTarget(UriBuilder.fromUri(uri));
     }
 
     @Override
     public JaxRsWebTarget target(UriBuilder uriBuilder) {
-        return new JaxRsWebTarget(this, uriBuilder, config.copy());
+        // Detach the target from the builder
+        return newTarget(uriBuilder.clone());
     }
 
     @Override
     public JaxRsWebTarget target(Link link) {
-        return target(UriBuilder.fromLink(link));
+        return newTarget(UriBuilder.fromLink(link));
+    }
+
+    private JaxRsWebTarget newTarget(UriBuilder uriBuilder) {
+        return new JaxRsWebTarget(this, uriBuilder, config.copy());
     }
 
     @Override
     public Invocation.Builder invocation(Link link) {
-        Invocation.Builder request = target(UriBuilder.fromLink(link)).request();
+        Invocation.Builder request = newTarget(UriBuilder.fromLink(link)).request();
         String type = link.getType();
         if (type != null) {
             request = request.accept(type.split(","));
@@ -95,11 +199,18 @@ final class JaxRsClient implements Client, JaxRsConfigurable<Client> {
 
     @Override
     public SSLContext getSslContext() {
-        throw new UnsupportedOperationException();
+        if (sslContext != null) {
+            return sslContext;
+        }
+        try {
+            return SSLContext.getDefault();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
 
     @Override
     public HostnameVerifier getHostnameVerifier() {
-        throw new UnsupportedOperationException();
+        return hostnameVerifier;
     }
 }
@@ -15,9 +15,12 @@
  */
 package io.micronaut.jaxrs.client;
 
+import io.micronaut.core.annotation.AnnotationMetadataResolver;
 import io.micronaut.core.annotation.Internal;
 import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.convert.ConversionService;
+import io.micronaut.core.io.ResourceResolver;
 import io.micronaut.core.type.Argument;
 import io.micronaut.http.MediaType;
 import io.micronaut.http.body.ContextlessMessageBodyHandlerRegistry;
@@ -25,12 +28,19 @@ import io.micronaut.http.body.MessageBodyHandlerRegistry;
 import io.micronaut.http.body.MessageBodyReader;
 import io.micronaut.http.body.MessageBodyWriter;
 import io.micronaut.http.client.DefaultHttpClientConfiguration;
+import io.micronaut.http.client.HttpClientConfiguration;
+import io.micronaut.http.client.HttpVersionSelection;
+import io.micronaut.http.client.filter.DefaultHttpClientFilterResolver;
 import io.micronaut.http.client.netty.DefaultHttpClient;
+import io.micronaut.http.client.netty.DefaultHttpClientBuilder;
+import io.micronaut.http.client.netty.ssl.ClientSslBuilder;
+import io.micronaut.http.client.netty.ssl.NettyClientSslBuilder;
 import io.micronaut.jaxrs.common.JaxRsInputStreamMessageBodyReader;
 import io.micronaut.jaxrs.common.JaxRsInputStreamMessageBodyWriter;
 import io.micronaut.jaxrs.common.JaxRsReaderMessageBodyReader;
 import io.micronaut.jaxrs.common.JaxRsReaderMessageBodyWriter;
 import io.micronaut.jaxrs.common.JaxRsStreamingOutputMessageBodyWriter;
+import jakarta.ws.rs.ProcessingException;
 import jakarta.ws.rs.client.Client;
 import jakarta.ws.rs.client.ClientBuilder;
 import jakarta.ws.rs.client.Entity;
@@ -38,11 +48,9 @@ import jakarta.ws.rs.core.Configuration;
 
 import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.SSLContext;
-import java.lang.ref.WeakReference;
-import java.net.URI;
+import java.security.GeneralSecurityException;
 import java.security.KeyStore;
 import java.time.Duration;
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -60,15 +68,75 @@ import java.util.concurrent.TimeUnit;
 @Internal
 public final class JaxRsClientBuilder extends ClientBuilder implements JaxRsConfigurable<ClientBuilder> {
 
-    // Only for testing
-    private static final List<WeakReference<DefaultHttpClient>> TESTING_CLIENTS = new ArrayList<>();
-    private static final int TESTING_MIN_CLIENTS = Optional.ofNullable(System.getProperty("micronaut.testing.jaxrs.min.clients")).map(Integer::parseInt).orElse(-1);
+    /**
+     * The HTTP version: {@value #HTTP_VERSION_1_1} or {@value #HTTP_VERSION_2_0} negotiated with ALPN for HTTPS
+     * and with the prior knowledge for HTTP.
+     */
+    static final String HTTP_VERSION = "micronaut.jaxrs.client.http-version";
+    static final String HTTP_VERSION_1_1 = "1.1";
+    static final String HTTP_VERSION_2_0 = "2.0";
+    /**
+     * Whether the connections are kept alive and reused.
+     */
+    static final String CONNECTION_POOL_ENABLED = "micronaut.jaxrs.client.connection-pool.enabled";
+    /**
+     * The maximum number of the HTTP/1.1 connections to a single host.
+     */
+    static final String CONNECTION_POOL_MAX_CONNECTIONS_PER_HOST = "micronaut.jaxrs.client.connection-pool.max-connections-per-host";
+    /**
+     * The maximum number of the HTTP/2 connections to a single host.
+     */
+    static final String CONNECTION_POOL_MAX_HTTP2_CONNECTIONS_PER_HOST = "micronaut.jaxrs.client.connection-pool.max-http2-connections-per-host";
+    /**
+     * The maximum number of the requests waiting for a connection.
+     */
+    static final String CONNECTION_POOL_MAX_PENDING_ACQUIRES = "micronaut.jaxrs.client.connection-pool.max-pending-acquires";
+    /**
+     * The maximum time to wait for a connection, in milliseconds or as a duration.
+     */
+    static final String CONNECTION_POOL_ACQUIRE_TIMEOUT = "micronaut.jaxrs.client.connection-pool.acquire-timeout";
+    /**
+     * The time after which an idle connection is closed, in milliseconds or as a duration.
+     */
+    static final String CONNECTION_POOL_IDLE_TIMEOUT = "micronaut.jaxrs.client.connection-pool.idle-timeout";
+    /**
+     * The maximum lifetime of a connection, in milliseconds or as a duration.
+     */
+    static final String CONNECTION_TTL = "micronaut.jaxrs.client.connection-ttl";
+    /**
+     * Whether the client uses the event loop group shared by all the clients with this property.
+     */
+    static final String SHARED_EVENT_LOOP_GROUP = "micronaut.jaxrs.client.shared-event-loop-group";
+    /**
+     * The number of the event loop threads of the client not sharing the event loop group.
+     */
+    static final String EVENT_LOOP_THREADS = "micronaut.jaxrs.client.event-loop-threads";
+    /**
+     * Whether the HTTP client is shared with the other clients of the same configuration, enabled by default.
+     */
+    static final String SHARED_HTTP_CLIENT = "micronaut.jaxrs.client.shared-http-client";
 
-    private JaxRsConfiguration config;
+    private static final List<String> HTTP_CLIENT_PROPERTIES = List.of(
+        HTTP_VERSION,
+        CONNECTION_POOL_ENABLED,
+        CONNECTION_POOL_MAX_CONNECTIONS_PER_HOST,
+        CONNECTION_POOL_MAX_HTTP2_CONNECTIONS_PER_HOST,
+        CONNECTION_POOL_MAX_PENDING_ACQUIRES,
+        CONNECTION_POOL_ACQUIRE_TIMEOUT,
+        CONNECTION_POOL_IDLE_TIMEOUT,
+        CONNECTION_TTL,
+        SHARED_EVENT_LOOP_GROUP,
+        EVENT_LOOP_THREADS
+    );
+
+    private final JaxRsConfiguration config = new JaxRsConfiguration();
     private SSLContext sslContext;
-    private Map<KeyStore, char[]> keyStores = new HashMap<>();
+    private KeyStore keyStore;
+    private char[] keyStorePassword;
     private KeyStore trustStore;
     private HostnameVerifier hostnameVerifier;
+    private SSLContext clientSslContext;
+    private boolean clientSslContextResolved;
     private ExecutorService executorService;
     private ScheduledExecutorService scheduledExecutorService;
     private Duration connectTimeout;
@@ -76,12 +144,92 @@ public final class JaxRsClientBuilder extends ClientBuilder implements JaxRsConf
 
     @Override
     public Client build() {
-        DefaultHttpClientConfiguration configuration = new DefaultHttpClientConfiguration();
-        configuration.setConnectTimeout(connectTimeout);
-        configuration.setReadTimeout(readTimeout);
-        DefaultHttpClient httpClient = new DefaultHttpClient((URI) null, configuration);
+        SSLContext effectiveSslContext = clientSslContext();
+        JaxRsHttpClientRegistry.Lease lease;
+        if (configurationProperty(SHARED_HTTP_CLIENT, Boolean.class).orElse(true)) {
+            JaxRsHttpClientRegistry.Key key = new JaxRsHttpClientRegistry.Key(
+                connectTimeout,
+                readTimeout,
+                httpClientProperties(),
+                effectiveSslContext,
+                hostnameVerifier
+            );
+            lease = JaxRsHttpClientRegistry.acquire(key, () -> createHttpClient(effectiveSslContext));
+        } else {
+            lease = JaxRsHttpClientRegistry.unshared(createHttpClient(effectiveSslContext));
+        }
+        DefaultHttpClient httpClient = lease.httpClient();
+        // The components registered with the builder take the precedence over the defaults of the same priority
+        JaxRsConfiguration jaxRsConfiguration = config.copy();
+        jaxRsConfiguration.register(httpClient.getHandlerRegistry().findReader(Argument.STRING, List.of(MediaType.ALL_TYPE)).get());
+        jaxRsConfiguration.register(httpClient.getHandlerRegistry().findReader(Argument.of(byte[].class), List.of(MediaType.ALL_TYPE)).get());
+        jaxRsConfiguration.register(httpClient.getHandlerRegistry().findWriter(Argument.STRING, List.of(MediaType.ALL_TYPE)).get());
+        jaxRsConfiguration.register(httpClient.getHandlerRegistry().findWriter(Argument.of(byte[].class), List.of(MediaType.ALL_TYPE)).get());
+        jaxRsConfiguration.register(new JaxRsReaderMessageBodyWriter());
+        jaxRsConfiguration.register(new JaxRsReaderMessageBodyWriter());
+        jaxRsConfiguration.register(new JaxRsReaderMessageBodyReader());
+        jaxRsConfiguration.register(new JaxRsInputStreamMessageBodyWriter<>());
+        jaxRsConfiguration.register(new JaxRsInputStreamMessageBodyReader());
+        jaxRsConfiguration.register(new JaxRsStreamingOutputMessageBodyWriter<>());
+        return new JaxRsClient(
+            lease,
+            jaxRsConfiguration,
+            effectiveSslContext,
+            hostnameVerifier,
+            executorService,
+            scheduledExecutorService,
+            invocationTimeout()
+        );
+    }
+
+    private Map<String, Object> httpClientProperties() {
+        Map<String, Object> properties = new HashMap<>();
+        for (String name : HTTP_CLIENT_PROPERTIES) {
+            Object value = config.getProperty(name);
+            if (value != null) {
+                properties.put(name, value);
+            }
+        }
+        return properties;
+    }
+
+    /**
+     * The SSL context used by the connections, created once from the SSL settings of the builder.
+     * The clients built with the same settings share the context and the HTTP client.
+     *
+     * @return The SSL context or null if the default Micronaut SSL configuration is used
+     */
+    @Nullable
+    private SSLContext clientSslContext() {
+        if (!clientSslContextResolved) {
+            try {
+                clientSslContext = JaxRsClientSslBuilder.createSslContext(sslContext, keyStore, keyStorePassword, trustStore, hostnameVerifier);
+            } catch (GeneralSecurityException e) {
+                throw new ProcessingException("Failed to initialize the SSL context", e);
+            }
+            clientSslContextResolved = true;
+        }
+        return clientSslContext;
+    }
+
+    private DefaultHttpClient createHttpClient(@Nullable SSLContext effectiveSslContext) {
+        ClientSslBuilder clientSslBuilder = effectiveSslContext == null
+            ? new NettyClientSslBuilder(new ResourceResolver())
+            : new JaxRsClientSslBuilder(effectiveSslContext, JaxRsClientSslBuilder.usesHostnameVerifier(sslContext, hostnameVerifier));
+        DefaultHttpClientBuilder httpClientBuilder = DefaultHttpClient.builder()
+            .configuration(createHttpClientConfiguration())
+            .nettyClientSslBuilder(clientSslBuilder)
+            .filterResolver(new DefaultHttpClientFilterResolver(
+                null,
+                AnnotationMetadataResolver.DEFAULT,
+                List.of(new JaxRsStreamingResponseBody.HeadFilter())
+            ));
+        if (booleanProperty(SHARED_EVENT_LOOP_GROUP)) {
+            // The client doesn't shut down the group it didn't create
+            httpClientBuilder.eventLoopGroup(JaxRsSharedEventLoopGroup.get());
+        }
+        DefaultHttpClient httpClient = httpClientBuilder.build();
         ContextlessMessageBodyHandlerRegistry handlerRegistry = (ContextlessMessageBodyHandlerRegistry) httpClient.getHandlerRegistry();
-        JaxRsConfiguration jaxRsConfiguration = new JaxRsConfiguration();
         httpClient.setHandlerRegistry(new MessageBodyHandlerRegistry() {
 
             @Override
@@ -98,28 +246,69 @@ public final class JaxRsClientBuilder extends ClientBuilder implements JaxRsConf
             }
 
         });
-        jaxRsConfiguration.register(httpClient.getHandlerRegistry().findReader(Argument.STRING, List.of(MediaType.ALL_TYPE)).get());
-        jaxRsConfiguration.register(httpClient.getHandlerRegistry().findReader(Argument.of(byte[].class), List.of(MediaType.ALL_TYPE)).get());
-        jaxRsConfiguration.register(httpClient.getHandlerRegistry().findWriter(Argument.STRING, List.of(MediaType.ALL_TYPE)).get());
-        jaxRsConfiguration.register(httpClient.getHandlerRegistry().findWriter(Argument.of(byte[].class), List.of(MediaType.ALL_TYPE)).get());
-        jaxRsConfiguration.register(new JaxRsReaderMessageBodyWriter());
-        jaxRsConfiguration.register(new JaxRsReaderMessageBodyWriter());
-        jaxRsConfiguration.register(new JaxRsReaderMessageBodyReader());
-        jaxRsConfiguration.register(new JaxRsInputStreamMessageBodyWriter<>());
-        jaxRsConfiguration.register(new JaxRsInputStreamMessageBodyReader());
-        jaxRsConfiguration.register(new JaxRsStreamingOutputMessageBodyWriter<>());
+        return httpClient;
+    }
 
-        if (TESTING_MIN_CLIENTS > 0) {
-            TESTING_CLIENTS.removeIf(w -> w.get() == null);
-            TESTING_CLIENTS.add(new WeakReference<>(httpClient));
-            if (TESTING_CLIENTS.size() > TESTING_MIN_CLIENTS) {
-                DefaultHttpClient client = TESTING_CLIENTS.remove(0).get();
-                if (client != null) {
-                    client.close();
-                }
+    private HttpClientConfiguration createHttpClientConfiguration() {
+        DefaultHttpClientConfiguration configuration = new DefaultHttpClientConfiguration();
+        configuration.setConnectTimeout(connectTimeout);
+        configuration.setReadTimeout(readTimeout);
+        Object httpVersion = config.getProperty(HTTP_VERSION);
+        if (httpVersion != null) {
+            if (HTTP_VERSION_2_0.equals(httpVersion.toString())) {
+                configuration.setPlaintextMode(HttpVersionSelection.PlaintextMode.H2C);
+                configuration.setAlpnModes(List.of(HttpVersionSelection.ALPN_HTTP_2, HttpVersionSelection.ALPN_HTTP_1));
+            } else if (HTTP_VERSION_1_1.equals(httpVersion.toString())) {
+                configuration.setPlaintextMode(HttpVersionSelection.PlaintextMode.HTTP_1);
+                configuration.setAlpnModes(List.of(HttpVersionSelection.ALPN_HTTP_1));
+            } else {
+                throw new IllegalArgumentException("Unsupported HTTP version: " + httpVersion);
             }
         }
-        return new JaxRsClient(httpClient, jaxRsConfiguration);
+        HttpClientConfiguration.ConnectionPoolConfiguration connectionPool = configuration.getConnectionPoolConfiguration();
+        configurationProperty(CONNECTION_POOL_ENABLED, Boolean.class).ifPresent(connectionPool::setEnabled);
+        configurationProperty(CONNECTION_POOL_MAX_CONNECTIONS_PER_HOST, Integer.class).ifPresent(connectionPool::setMaxConcurrentHttp1Connections);
+        configurationProperty(CONNECTION_POOL_MAX_HTTP2_CONNECTIONS_PER_HOST, Integer.class).ifPresent(connectionPool::setMaxConcurrentHttp2Connections);
+        configurationProperty(CONNECTION_POOL_MAX_PENDING_ACQUIRES, Integer.class).ifPresent(connectionPool::setMaxPendingAcquires);
+        durationProperty(CONNECTION_POOL_ACQUIRE_TIMEOUT).ifPresent(connectionPool::setAcquireTimeout);
+        durationProperty(CONNECTION_POOL_IDLE_TIMEOUT).ifPresent(configuration::setConnectionPoolIdleTimeout);
+        durationProperty(CONNECTION_TTL).ifPresent(configuration::setConnectTtl);
+        configurationProperty(EVENT_LOOP_THREADS, Integer.class).ifPresent(configuration::setNumOfThreads);
+        return configuration;
+    }
+
+    private boolean booleanProperty(String name) {
+        return configurationProperty(name, Boolean.class).orElse(false);
+    }
+
+    private Optional<Duration> durationProperty(String name) {
+        if (config.getProperty(name) instanceof Number millis) {
+            return Optional.of(Duration.ofMillis(millis.longValue()));
+        }
+        return configurationProperty(name, Duration.class);
+    }
+
+    private <T> Optional<T> configurationProperty(String name, Class<T> type) {
+        Object value = config.getProperty(name);
+        if (value == null) {
+            return Optional.empty();
+        }
+        return Optional.of(ConversionService.SHARED.convert(value, type)
+            .orElseThrow(() -> new IllegalArgumentException("Invalid value of the property " + name + ": " + value)));
+    }
+
+    /**
+     * The synchronous invocations wait at most for the connect and the read timeout.
+     * The zero read timeout is interpreted as an infinite timeout.
+     *
+     * @return The invocation timeout or null if not limited
+     */
+    @Nullable
+    private Duration invocationTimeout() {
+        if (readTimeout == null || readTimeout.isZero()) {
+            return null;
+        }
+        return connectTimeout == null ? readTimeout : readTimeout.plus(connectTimeout);
     }
 
     @Override
@@ -140,24 +329,29 @@ public final class JaxRsClientBuilder extends ClientBuilder implements JaxRsConf
     @Override
     public ClientBuilder sslContext(SSLContext sslContext) {
         this.sslContext = sslContext;
+        this.clientSslContextResolved = false;
         return this;
     }
 
     @Override
     public ClientBuilder keyStore(KeyStore keyStore, char[] password) {
-        keyStores.put(keyStore, password);
+        this.keyStore = keyStore;
+        this.keyStorePassword = password;
+        this.clientSslContextResolved = false;
         return this;
     }
 
     @Override
     public ClientBuilder trustStore(KeyStore trustStore) {
         this.trustStore = trustStore;
+        this.clientSslContextResolved = false;
         return this;
     }
 
     @Override
     public ClientBuilder hostnameVerifier(HostnameVerifier verifier) {
         this.hostnameVerifier = verifier;
+        this.clientSslContextResolved = false;
         return this;
     }
 
@@ -60,6 +60,7 @@ final class JaxRsClientRequestContext implements ClientRequestContext {
     private Response response;
     private Argument<?> bodyType;
     private Annotation[] annotations;
+    private boolean entityChanged;
 
     public JaxRsClientRequestContext(Client client,
                                      Configuration configuration,
@@ -185,6 +186,7 @@ final class JaxRsClientRequestContext implements ClientRequestContext {
     @Override
     public void setEntity(Object entity) {
         mutableHttpRequest.body(entity);
+        entityChanged = true;
         bodyType = Argument.of(entity.getClass());
     }
 
@@ -201,6 +203,7 @@ final class JaxRsClientRequestContext implements ClientRequestContext {
     @Override
     public void setEntity(Object entity, Annotation[] annotations, MediaType mediaType) {
         mutableHttpRequest.body(entity);
+        entityChanged = true;
         if (mediaType != null) {
             mutableHttpRequest.contentType(JaxRsUtils.convert(mediaType));
         }
@@ -247,4 +250,18 @@ final class JaxRsClientRequestContext implements ClientRequestContext {
     public Response getResponse() {
         return response;
     }
+
+    /**
+     * @return Whether a filter has replaced the entity
+     */
+    boolean isEntityChanged() {
+        return entityChanged;
+    }
+
+    /**
+     * @return The type of the entity
+     */
+    Argument<?> getEntityArgument() {
+        return bodyType;
+    }
 }
@@ -0,0 +1,233 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jaxrs.client;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.http.client.HttpVersionSelection;
+import io.micronaut.http.client.netty.ssl.ClientSslBuilder;
+import io.micronaut.http.ssl.SslConfiguration;
+import io.netty.handler.ssl.ApplicationProtocolConfig;
+import io.netty.handler.ssl.ClientAuth;
+import io.netty.handler.ssl.DelegatingSslContext;
+import io.netty.handler.ssl.IdentityCipherSuiteFilter;
+import io.netty.handler.ssl.JdkSslContext;
+import io.netty.handler.ssl.SslContext;
+
+import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.KeyManager;
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.SSLParameters;
+import javax.net.ssl.SSLSession;
+import javax.net.ssl.SSLSocket;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.TrustManagerFactory;
+import javax.net.ssl.X509ExtendedTrustManager;
+import javax.net.ssl.X509TrustManager;
+import java.net.Socket;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+import java.security.cert.CertificateException;
+import java.security.cert.X509Certificate;
+
+/**
+ * The {@link ClientSslBuilder} using the {@link SSLContext} configured by the {@link jakarta.ws.rs.client.ClientBuilder}
+ * instead of the Micronaut SSL configuration.
+ * The endpoint identification of the SSL engines is explicitly enabled, unless the hostname is checked
+ * by the {@link HostnameVerifier} of the trust managers.
+ *
+ * @author Denis Stepanov
+ * @since 4.7
+ */
+@Internal
+final class JaxRsClientSslBuilder implements ClientSslBuilder {
+
+    private static final String HTTPS_ENDPOINT_IDENTIFICATION = "HTTPS";
+
+    private final SSLContext sslContext;
+    private final boolean verifiesHostname;
+
+    /**
+     * @param sslContext       The SSL context
+     * @param verifiesHostname Whether the hostname is checked by the hostname verifier of the trust managers
+     */
+    JaxRsClientSslBuilder(SSLContext sslContext, boolean verifiesHostname) {
+        this.sslContext = sslContext;
+        this.verifiesHostname = verifiesHostname;
+    }
+
+    /**
+     * Whether the SSL context created by {@link #createSslContext} checks the hostname with the hostname verifier.
+     * The hostname verifier cannot be installed into a supplied SSL context, the endpoint identification is used instead.
+     *
+     * @param sslContext       The supplied SSL context
+     * @param hostnameVerifier The hostname verifier
+     * @return true if the hostname verifier is used
+     */
+    static boolean usesHostnameVerifier(@Nullable SSLContext sslContext, @Nullable HostnameVerifier hostnameVerifier) {
+        return sslContext == null && hostnameVerifier != null;
+    }
+
+    /**
+     * Create the SSL context of the client builder settings. The supplied SSL context is used as is, otherwise
+     * the context is initialized with the key store, the trust store and the hostname verifier.
+     *
+     * @param sslContext         The SSL context
+     * @param keyStore           The key store
+     * @param keyStorePassword   The password of the key store
+     * @param trustStore         The trust store
+     * @param hostnameVerifier   The hostname verifier
+     * @return The SSL context or null if the default Micronaut SSL configuration should be used
+     * @throws GeneralSecurityException If the context cannot be initialized
+     */
+    @Nullable
+    static SSLContext createSslContext(@Nullable SSLContext sslContext,
+                                       @Nullable KeyStore keyStore,
+                                       @Nullable char[] keyStorePassword,
+                                       @Nullable KeyStore trustStore,
+                                       @Nullable HostnameVerifier hostnameVerifier) throws GeneralSecurityException {
+        if (sslContext != null) {
+            return sslContext;
+        }
+        if (keyStore == null && trustStore == null && hostnameVerifier == null) {
+            return null;
+        }
+        KeyManager[] keyManagers = null;
+        if (keyStore != null) {
+            KeyManagerFactory keyManagerFactory = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+            keyManagerFactory.init(keyStore, keyStorePassword);
+            keyManagers = keyManagerFactory.getKeyManagers();
+        }
+        TrustManagerFactory trustManagerFactory = TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
+        // The null trust store initializes the factory with the default trusted certificates
+        trustManagerFactory.init(trustStore);
+        TrustManager[] trustManagers = trustManagerFactory.getTrustManagers();
+        if (hostnameVerifier != null) {
+            for (int i = 0; i < trustManagers.length; i++) {
+                if (trustManagers[i] instanceof X509TrustManager x509TrustManager) {
+                    trustManagers[i] = new HostnameVerifyingTrustManager(x509TrustManager, hostnameVerifier);
+                }
+            }
+        }
+        SSLContext context = SSLContext.getInstance("TLS");
+        context.init(keyManagers, trustManagers, null);
+        return context;
+    }
+
+    @Override
+    public SslContext build(SslConfiguration ssl, HttpVersionSelection versionSelection) {
+        ApplicationProtocolConfig applicationProtocolConfig = versionSelection.isAlpn() ? new ApplicationProtocolConfig(
+            ApplicationProtocolConfig.Protocol.ALPN,
+            ApplicationProtocolConfig.SelectorFailureBehavior.NO_ADVERTISE,
+            ApplicationProtocolConfig.SelectedListenerFailureBehavior.ACCEPT,
+            versionSelection.getAlpnSupportedProtocols()
+        ) : ApplicationProtocolConfig.DISABLED;
+        SslContext context = new JdkSslContext(
+            sslContext,
+            true,
+            null,
+            IdentityCipherSuiteFilter.INSTANCE,
+            applicationProtocolConfig,
+            ClientAuth.NONE,
+            null,
+            false
+        );
+        return new EndpointIdentificationSslContext(context, verifiesHostname ? null : HTTPS_ENDPOINT_IDENTIFICATION);
+    }
+
+    /**
+     * The SSL context setting the endpoint identification algorithm of the created engines.
+     */
+    private static final class EndpointIdentificationSslContext extends DelegatingSslContext {
+
+        @Nullable
+        private final String endpointIdentificationAlgorithm;
+
+        EndpointIdentificationSslContext(SslContext context, @Nullable String endpointIdentificationAlgorithm) {
+            super(context);
+            this.endpointIdentificationAlgorithm = endpointIdentificationAlgorithm;
+        }
+
+        @Override
+        protected void initEngine(SSLEngine engine) {
+            SSLParameters parameters = engine.getSSLParameters();
+            parameters.setEndpointIdentificationAlgorithm(endpointIdentificationAlgorithm);
+            engine.setSSLParameters(parameters);
+        }
+    }
+
+    /**
+     * The trust manager replacing the endpoint identification with the {@link HostnameVerifier}.
+     */
+    private static final class HostnameVerifyingTrustManager extends X509ExtendedTrustManager {
+
+        private final X509TrustManager delegate;
+        private final HostnameVerifier hostnameVerifier;
+
+        HostnameVerifyingTrustManager(X509TrustManager delegate, HostnameVerifier hostnameVerifier) {
+            this.delegate = delegate;
+            this.hostnameVerifier = hostnameVerifier;
+        }
+
+        @Override
+        public void checkClientTrusted(X509Certificate[] chain, String authType, Socket socket) throws CertificateException {
+            delegate.checkClientTrusted(chain, authType);
+        }
+
+        @Override
+        public void checkClientTrusted(X509Certificate[] chain, String authType, SSLEngine engine) throws CertificateException {
+            delegate.checkClientTrusted(chain, authType);
+        }
+
+        @Override
+        public void checkClientTrusted(X509Certificate[] chain, String authType) throws CertificateException {
+            delegate.checkClientTrusted(chain, authType);
+        }
+
+        @Override
+        public void checkServerTrusted(X509Certificate[] chain, String authType, Socket socket) throws CertificateException {
+            delegate.checkServerTrusted(chain, authType);
+            if (socket instanceof SSLSocket sslSocket) {
+                SSLSession session = sslSocket.getHandshakeSession();
+                verify(session.getPeerHost(), session);
+            }
+        }
+
+        @Override
+        public void checkServerTrusted(X509Certificate[] chain, String authType, SSLEngine engine) throws CertificateException {
+            delegate.checkServerTrusted(chain, authType);
+            verify(engine.getPeerHost(), engine.getHandshakeSession());
+        }
+
+        @Override
+        public void checkServerTrusted(X509Certificate[] chain, String authType) throws CertificateException {
+            delegate.checkServerTrusted(chain, authType);
+        }
+
+        @Override
+        public X509Certificate[] getAcceptedIssuers() {
+            return delegate.getAcceptedIssuers();
+        }
+
+        private void verify(String host, SSLSession session) throws CertificateException {
+            if (!hostnameVerifier.verify(host, session)) {
+                throw new CertificateException("The hostname verifier rejected the host: " + host);
+            }
+        }
+    }
+}
@@ -17,6 +17,7 @@ package io.micronaut.jaxrs.client;
 
 import io.micronaut.context.AnnotationReflectionUtils;
 import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.convert.ConversionService;
 import io.micronaut.core.io.buffer.ByteBuffer;
 import io.micronaut.core.order.OrderUtil;
 import io.micronaut.core.reflect.ReflectionUtils;
@@ -24,13 +25,16 @@ import io.micronaut.core.type.Argument;
 import io.micronaut.core.type.MutableHeaders;
 import io.micronaut.http.HttpMessage;
 import io.micronaut.http.MediaType;
+import io.micronaut.http.MutableHttpHeaders;
 import io.micronaut.http.MutableHttpMessage;
 import io.micronaut.http.body.TypedMessageBodyReader;
 import io.micronaut.http.body.TypedMessageBodyWriter;
+import io.micronaut.http.simple.SimpleHttpHeaders;
 import io.micronaut.jaxrs.common.ByteArrayByteBuffer;
 import io.micronaut.jaxrs.common.HttpMessageEntityReader;
 import io.micronaut.jaxrs.common.InterceptedMessageBodyReader;
 import io.micronaut.jaxrs.common.InterceptedMessageBodyWriter;
+import io.micronaut.jaxrs.common.JaxRsBoundedCache;
 import io.micronaut.jaxrs.common.JaxRsMessageBodyReader;
 import io.micronaut.jaxrs.common.JaxRsMessageBodyReaderDefinition;
 import io.micronaut.jaxrs.common.JaxRsMessageBodyWriter;
@@ -40,8 +44,10 @@ import io.micronaut.jaxrs.common.JaxRsUtils;
 import jakarta.ws.rs.RuntimeType;
 import jakarta.ws.rs.client.ClientRequestFilter;
 import jakarta.ws.rs.client.ClientResponseFilter;
+import jakarta.ws.rs.client.RxInvokerProvider;
 import jakarta.ws.rs.core.Configuration;
 import jakarta.ws.rs.core.Feature;
+import jakarta.ws.rs.core.StreamingOutput;
 import jakarta.ws.rs.ext.MessageBodyReader;
 import jakarta.ws.rs.ext.MessageBodyWriter;
 import jakarta.ws.rs.ext.ReaderInterceptor;
@@ -52,6 +58,7 @@ import org.slf4j.LoggerFactory;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.Reader;
 import java.io.UncheckedIOException;
 import java.lang.reflect.Constructor;
 import java.util.ArrayList;
@@ -65,6 +72,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -78,16 +86,21 @@ import java.util.stream.Stream;
 final class JaxRsConfiguration implements Configuration {
 
     private static final Logger LOG = LoggerFactory.getLogger(JaxRsConfiguration.class);
-
-    private final Map<String, Object> properties;
-    private final List<Component> components;
-
-    private List<ReaderInterceptor> readerInterceptors;
-    private List<WriterInterceptor> writerInterceptors;
-    private List<JaxRsMessageBodyReaderDefinition> readers;
-    private List<JaxRsMessageBodyWriterDefinition> writers;
-    private List<ClientRequestFilter> requestFilters;
-    private List<ClientResponseFilter> responseFilters;
+    private static final int MAX_LOOKUP_SIZE = 100;
+
+    /**
+     * The property defining how the request entities are written: {@value #REQUEST_ENTITY_PROCESSING_BUFFERED} into
+     * an array before sending the request, or {@value #REQUEST_ENTITY_PROCESSING_CHUNKED} streamed with the chunked
+     * transfer encoding. By default, only {@link InputStream}, {@link Reader} and {@link StreamingOutput} entities are streamed.
+     */
+    static final String REQUEST_ENTITY_PROCESSING = "micronaut.jaxrs.client.request-entity-processing";
+    static final String REQUEST_ENTITY_PROCESSING_BUFFERED = "BUFFERED";
+    static final String REQUEST_ENTITY_PROCESSING_CHUNKED = "CHUNKED";
+
+    private volatile Map<String, Object> properties;
+    private volatile List<Component> components;
+    private boolean shared;
+    private volatile Compiled compiled;
 
     public JaxRsConfiguration() {
         this(new LinkedHashMap<>(), new ArrayList<>());
@@ -98,11 +111,47 @@ final class JaxRsConfiguration implements Configuration {
         this.components = components;
     }
 
-    JaxRsConfiguration copy() {
-        return new JaxRsConfiguration(new LinkedHashMap<>(properties), new ArrayList<>(components));
+    /**
+     * Copy the configuration. The properties, the components and the compiled readers, writers, interceptors and filters
+     * are shared until one of the configurations is modified. The copy and the modifications are synchronized,
+     * so a target can be derived from a configuration shared by several threads.
+     *
+     * @return The copy
+     */
+    synchronized JaxRsConfiguration copy() {
+        shared = true;
+        JaxRsConfiguration copy = new JaxRsConfiguration(properties, components);
+        copy.shared = true;
+        copy.compiled = compiled();
+        return copy;
+    }
+
+    private void beforeModification() {
+        if (shared) {
+            properties = new LinkedHashMap<>(properties);
+            components = new ArrayList<>(components);
+            shared = false;
+        }
+    }
+
+    private synchronized void addComponent(Component component) {
+        beforeModification();
+        components.add(component);
+        compiled = null;
+    }
+
+    private Compiled compiled() {
+        Compiled compiled = this.compiled;
+        if (compiled == null) {
+            // The instances created concurrently are equivalent, the content is resolved lazily
+            compiled = new Compiled();
+            this.compiled = compiled;
+        }
+        return compiled;
     }
 
-    public void addProperty(String name, Object value) {
+    public synchronized void addProperty(String name, Object value) {
+        beforeModification();
         properties.put(name, value);
     }
 
@@ -126,11 +175,11 @@ final class JaxRsConfiguration implements Configuration {
     }
 
     void register(Class<?> componentClass, int priority, Class<?>... contracts) {
-        components.add(new ClassComponent(componentClass, priority, toContracts(contracts)));
+        addComponent(new ClassComponent(componentClass, priority, toContracts(contracts)));
     }
 
     void register(Class<?> componentClass, Map<Class<?>, Integer> contracts) {
-        components.add(new ClassComponent(componentClass, 0, toContracts(contracts)));
+        addComponent(new ClassComponent(componentClass, 0, toContracts(contracts)));
     }
 
     private List<ComponentContract> toContracts(Map<Class<?>, Integer> contracts) {
@@ -153,11 +202,11 @@ final class JaxRsConfiguration implements Configuration {
     }
 
     void register(Object component, int priority, Class<?>... contracts) {
-        components.add(new InstanceComponent(component, priority, toContracts(contracts)));
+        addComponent(new InstanceComponent(component, priority, toContracts(contracts)));
     }
 
     void register(Object component, Map<Class<?>, Integer> contracts) {
-        components.add(new InstanceComponent(component, 0, toContracts(contracts)));
+        addComponent(new InstanceComponent(component, 0, toContracts(contracts)));
     }
 
     @Override
@@ -232,21 +281,29 @@ final class JaxRsConfiguration implements Configuration {
     }
 
     private List<ReaderInterceptor> getReaderInterceptors() {
+        Compiled compiled = compiled();
+        List<ReaderInterceptor> readerInterceptors = compiled.readerInterceptors;
         if (readerInterceptors == null) {
             readerInterceptors = getComponentOfType(ReaderInterceptor.class);
+            compiled.readerInterceptors = readerInterceptors;
         }
         return readerInterceptors;
     }
 
     private List<WriterInterceptor> getWriterInterceptors() {
+        Compiled compiled = compiled();
+        List<WriterInterceptor> writerInterceptors = compiled.writerInterceptors;
         if (writerInterceptors == null) {
             writerInterceptors = getComponentOfType(WriterInterceptor.class);
             Collections.reverse(writerInterceptors);
+            compiled.writerInterceptors = writerInterceptors;
         }
         return writerInterceptors;
     }
 
     private List<JaxRsMessageBodyReaderDefinition> getReaders() {
+        Compiled compiled = compiled();
+        List<JaxRsMessageBodyReaderDefinition> readers = compiled.readers;
         if (readers == null) {
             readers = new ArrayList<>();
             List<ReaderInterceptor> readerInterceptors = getReaderInterceptors();
@@ -278,11 +335,14 @@ final class JaxRsConfiguration implements Configuration {
                 }
             }
             OrderUtil.sortOrdered(readers);
+            compiled.readers = readers;
         }
         return readers;
     }
 
     private List<JaxRsMessageBodyWriterDefinition> getWriters() {
+        Compiled compiled = compiled();
+        List<JaxRsMessageBodyWriterDefinition> writers = compiled.writers;
         if (writers == null) {
             writers = new ArrayList<>();
             List<WriterInterceptor> writerInterceptors = getWriterInterceptors();
@@ -315,6 +375,7 @@ final class JaxRsConfiguration implements Configuration {
                 }
             }
             OrderUtil.sortOrdered(writers);
+            compiled.writers = writers;
         }
         return writers;
     }
@@ -331,11 +392,10 @@ final class JaxRsConfiguration implements Configuration {
                     List<JaxRsMessageBodyReaderDefinition> readers = getReaders();
                     if (!readers.isEmpty()) {
                         io.micronaut.http.MediaType mediaType = message.getContentType().orElse(MediaType.ALL_TYPE);
-                        for (JaxRsMessageBodyReaderDefinition readerDef : readers) {
+                        JaxRsMessageBodyReaderDefinition readerDef = findReader(entityType, mediaType);
+                        if (readerDef != null) {
                             io.micronaut.http.body.MessageBodyReader<T> reader = (io.micronaut.http.body.MessageBodyReader<T>) readerDef.messageBodyReader();
-                            if (entityType.isAssignableFrom(readerDef.type()) && reader.isReadable(entityType, mediaType)) {
-                                return reader.read(entityType, mediaType, message.getHeaders(), byteBuffer);
-                            }
+                            return reader.read(entityType, mediaType, message.getHeaders(), byteBuffer);
                         }
                     }
                     Iterator<ReaderInterceptor> readerInterceptor = getReaderInterceptors().iterator();
@@ -369,13 +429,11 @@ final class JaxRsConfiguration implements Configuration {
                                     }
                                 }
                                 if (ctx.getInputStream() != null) {
-                                    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+                                    byte[] bytes;
                                     try (InputStream is = ctx.getInputStream()) {
-                                        while (is.available() > 0) {
-                                            outputStream.write(is.read());
-                                        }
+                                        bytes = is.readAllBytes();
                                     }
-                                    return super.readEntity(new ByteArrayByteBuffer<>(outputStream.toByteArray()), Argument.of(ctx.getType()));
+                                    return super.readEntity(new ByteArrayByteBuffer<>(bytes), Argument.of(ctx.getType()));
                                 } else {
                                     return super.readEntity(message, Argument.of(ctx.getType()));
                                 }
@@ -394,26 +452,70 @@ final class JaxRsConfiguration implements Configuration {
                 }
                 return super.readEntity(message, entityType);
             }
+
+            @Override
+            public <T> Optional<T> readEntity(HttpMessage<?> message, InputStream inputStream, Argument<T> entityType) {
+                if (getReaders().isEmpty()) {
+                    return Optional.empty();
+                }
+                io.micronaut.http.MediaType mediaType = message.getContentType().orElse(MediaType.ALL_TYPE);
+                JaxRsMessageBodyReaderDefinition readerDef = findReader(entityType, mediaType);
+                if (readerDef == null) {
+                    return Optional.empty();
+                }
+                io.micronaut.http.body.MessageBodyReader<T> reader = (io.micronaut.http.body.MessageBodyReader<T>) readerDef.messageBodyReader();
+                return Optional.ofNullable(reader.read(entityType, mediaType, message.getHeaders(), inputStream));
+            }
         };
     }
 
-    <T> void writeBody(MutableHttpMessage<?> mutableHttpMessage, Argument<T> bodyArgument, T body) {
+    /**
+     * Find the reader of the entity of the registered readers.
+     *
+     * @param entityType The entity type
+     * @param mediaType  The media type
+     * @param <T>        The entity type
+     * @return The reader
+     */
+    <T> Optional<io.micronaut.http.body.MessageBodyReader<T>> findMessageBodyReader(Argument<T> entityType, io.micronaut.http.MediaType mediaType) {
+        if (getReaders().isEmpty()) {
+            return Optional.empty();
+        }
+        JaxRsMessageBodyReaderDefinition readerDef = findReader(entityType, mediaType);
+        if (readerDef == null) {
+            return Optional.empty();
+        }
+        return Optional.of((io.micronaut.http.body.MessageBodyReader<T>) readerDef.messageBodyReader());
+    }
+
+    <T> void writeBody(MutableHttpMessage<?> mutableHttpMessage, Argument<T> bodyArgument, T body, Executor executor) {
         if (body == null) {
             return;
         }
-        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
         io.micronaut.http.MediaType mediaType = mutableHttpMessage.getContentType().orElse(MediaType.ALL_TYPE);
-        boolean written = false;
-        for (JaxRsMessageBodyWriterDefinition writerDef : getWriters()) {
+        JaxRsMessageBodyWriterDefinition writerDef = findWriter(bodyArgument, mediaType);
+        if (writerDef != null) {
             io.micronaut.http.body.MessageBodyWriter<T> writer = (io.micronaut.http.body.MessageBodyWriter<T>) writerDef.messageBodyWriter();
-            if (writerDef.type().isAssignableFrom(bodyArgument.getType()) && writer.isWriteable(bodyArgument, mediaType)) {
+            if (isStreaming(body)) {
+                // The writer runs on a separate thread, it changes a copy of the headers
+                // that is applied to the message before the first chunk is written
+                MutableHttpHeaders headers = mutableHttpMessage.getHeaders();
+                MutableHttpHeaders writerHeaders = new SimpleHttpHeaders(ConversionService.SHARED);
+                headers.forEachValue(writerHeaders::add);
+                try {
+                    mutableHttpMessage.body(JaxRsStreamingRequestBody.write(
+                        outputStream -> writer.writeTo(bodyArgument, mediaType, body, writerHeaders, outputStream),
+                        () -> replaceHeaders(headers, writerHeaders),
+                        executor
+                    ));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            } else {
+                ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
                 writer.writeTo(bodyArgument, mediaType, body, mutableHttpMessage.getHeaders(), outputStream);
-                written = true;
-                break;
+                mutableHttpMessage.body(outputStream.toByteArray());
             }
-        }
-        if (written) {
-            mutableHttpMessage.body(outputStream.toByteArray());
         } else if (!getWriterInterceptors().isEmpty()) {
             throw new IllegalStateException("Unknown entity type " + bodyArgument.getType());
         } else {
@@ -421,20 +523,115 @@ final class JaxRsConfiguration implements Configuration {
         }
     }
 
+    private static void replaceHeaders(MutableHttpHeaders headers, MutableHttpHeaders values) {
+        for (String name : new ArrayList<>(headers.names())) {
+            if (!values.contains(name)) {
+                headers.remove(name);
+            }
+        }
+        values.forEach((name, list) -> {
+            headers.remove(name);
+            list.forEach(value -> headers.add(name, value));
+        });
+    }
+
+    private boolean isStreaming(Object body) {
+        Object processing = properties.get(REQUEST_ENTITY_PROCESSING);
+        if (processing == null) {
+            return body instanceof InputStream || body instanceof Reader || body instanceof StreamingOutput;
+        }
+        return REQUEST_ENTITY_PROCESSING_CHUNKED.equalsIgnoreCase(processing.toString());
+    }
+
+    /**
+     * Find the first matching reader. The result is memoized by the entity class and the media type unless the entity
+     * type is generic or annotated, the readers might decide based on that.
+     *
+     * @param entityType The entity type
+     * @param mediaType  The media type
+     * @return The reader definition or null
+     */
+    private JaxRsMessageBodyReaderDefinition findReader(Argument<?> entityType, io.micronaut.http.MediaType mediaType) {
+        List<JaxRsMessageBodyReaderDefinition> readers = getReaders();
+        if (!isLookupKey(entityType)) {
+            return findReader(readers, entityType, mediaType);
+        }
+        return compiled().readerLookup
+            .get(new LookupKey(entityType.getType(), mediaType), key -> Optional.ofNullable(findReader(readers, entityType, mediaType)))
+            .orElse(null);
+    }
+
+    private static JaxRsMessageBodyReaderDefinition findReader(List<JaxRsMessageBodyReaderDefinition> readers,
+                                                               Argument<?> entityType,
+                                                               io.micronaut.http.MediaType mediaType) {
+        for (JaxRsMessageBodyReaderDefinition readerDef : readers) {
+            if (entityType.isAssignableFrom(readerDef.type()) && readerDef.messageBodyReader().isReadable((Argument) entityType, mediaType)) {
+                return readerDef;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Find the first matching writer. The result is memoized by the body class and the media type unless the body
+     * type is generic or annotated, the writers might decide based on that.
+     *
+     * @param bodyArgument The body type
+     * @param mediaType    The media type
+     * @return The writer definition or null
+     */
+    private JaxRsMessageBodyWriterDefinition findWriter(Argument<?> bodyArgument, io.micronaut.http.MediaType mediaType) {
+        List<JaxRsMessageBodyWriterDefinition> writers = getWriters();
+        if (!isLookupKey(bodyArgument)) {
+            return findWriter(writers, bodyArgument, mediaType);
+        }
+        return compiled().writerLookup
+            .get(new LookupKey(bodyArgument.getType(), mediaType), key -> Optional.ofNullable(findWriter(writers, bodyArgument, mediaType)))
+            .orElse(null);
+    }
+
+    private static JaxRsMessageBodyWriterDefinition findWriter(List<JaxRsMessageBodyWriterDefinition> writers,
+                                                               Argument<?> bodyArgument,
+                                                               io.micronaut.http.MediaType mediaType) {
+        for (JaxRsMessageBodyWriterDefinition writerDef : writers) {
+            if (writerDef.type().isAssignableFrom(bodyArgument.getType()) && writerDef.messageBodyWriter().isWriteable((Argument) bodyArgument, mediaType)) {
+                return writerDef;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isLookupKey(Argument<?> argument) {
+        return argument.getTypeParameters().length == 0 && argument.getAnnotationMetadata().isEmpty();
+    }
+
     public List<ClientRequestFilter> getRequestFilters() {
+        Compiled compiled = compiled();
+        List<ClientRequestFilter> requestFilters = compiled.requestFilters;
         if (requestFilters == null) {
             requestFilters = getComponentOfType(ClientRequestFilter.class);
+            compiled.requestFilters = requestFilters;
         }
         return requestFilters;
     }
 
     public List<ClientResponseFilter> getResponseFilters() {
+        Compiled compiled = compiled();
+        List<ClientResponseFilter> responseFilters = compiled.responseFilters;
         if (responseFilters == null) {
             responseFilters = getComponentOfType(ClientResponseFilter.class);
+            compiled.responseFilters = responseFilters;
         }
         return responseFilters;
     }
 
+    /**
+     * @return The registered providers of the reactive invokers
+     */
+    List<RxInvokerProvider> getRxInvokerProviders() {
+        return getComponentOfType(RxInvokerProvider.class);
+    }
+
     private <T> List<T> getComponentOfType(Class<T> type) {
         var valuesWithPriority = new ArrayList<Map.Entry<T, Integer>>();
         for (JaxRsConfiguration.Component component : components) {
@@ -475,13 +672,46 @@ final class JaxRsConfiguration implements Configuration {
         }
     }
 
-    record ClassComponent(Class<?> componentClass, int priority,
-                          List<ComponentContract> components) implements Component {
+    /**
+     * The component registered by the class. The class is instantiated once, on the first access.
+     */
+    static final class ClassComponent implements Component {
+
+        private final Class<?> componentClass;
+        private final int priority;
+        private final List<ComponentContract> components;
+        private volatile Object instance;
+
+        ClassComponent(Class<?> componentClass, int priority, List<ComponentContract> components) {
+            this.componentClass = componentClass;
+            this.priority = priority;
+            this.components = components;
+        }
+
+        @Override
+        public int priority() {
+            return priority;
+        }
+
+        @Override
+        public List<ComponentContract> components() {
+            return components;
+        }
 
         @Override
         public <T> T tryGet(Class<T> type) {
             if (type.isAssignableFrom(componentClass)) {
-                return initialize(componentClass);
+                Object instance = this.instance;
+                if (instance == null) {
+                    synchronized (this) {
+                        instance = this.instance;
+                        if (instance == null) {
+                            instance = initialize(componentClass);
+                            this.instance = instance;
+                        }
+                    }
+                }
+                return (T) instance;
             }
             return null;
         }
@@ -507,4 +737,24 @@ final class JaxRsConfiguration implements Configuration {
 
     record ComponentContract(Class<?> contract, int priority) {
     }
+
+    private record LookupKey(Class<?> type, io.micronaut.http.MediaType mediaType) {
+    }
+
+    /**
+     * The readers, writers, interceptors and filters compiled from the components.
+     * Shared by the copies of the configuration until a component is registered.
+     */
+    private static final class Compiled {
+
+        private final JaxRsBoundedCache<LookupKey, Optional<JaxRsMessageBodyReaderDefinition>> readerLookup = new JaxRsBoundedCache<>(MAX_LOOKUP_SIZE);
+        private final JaxRsBoundedCache<LookupKey, Optional<JaxRsMessageBodyWriterDefinition>> writerLookup = new JaxRsBoundedCache<>(MAX_LOOKUP_SIZE);
+
+        private volatile List<ReaderInterceptor> readerInterceptors;
+        private volatile List<WriterInterceptor> writerInterceptors;
+        private volatile List<JaxRsMessageBodyReaderDefinition> readers;
+        private volatile List<JaxRsMessageBodyWriterDefinition> writers;
+        private volatile List<ClientRequestFilter> requestFilters;
+        private volatile List<ClientResponseFilter> responseFilters;
+    }
 }
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jaxrs.client;
+
+import io.micronaut.core.annotation.Internal;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The executor of the blocking work of the client (writing the streamed request entities, reading the streamed
+ * response entities) used if the client doesn't have an executor service configured.
+ * The tasks run on virtual threads if the runtime supports them.
+ *
+ * @author Denis Stepanov
+ * @since 4.7
+ */
+@Internal
+final class JaxRsDefaultExecutor {
+
+    private static final Logger LOG = LoggerFactory.getLogger(JaxRsDefaultExecutor.class);
+    private static final AtomicInteger COUNTER = new AtomicInteger();
+
+    static final ExecutorService EXECUTOR = createExecutor();
+
+    private JaxRsDefaultExecutor() {
+    }
+
+    private static ExecutorService createExecutor() {
+        try {
+            // Java 21+
+            Method newVirtualThreadPerTaskExecutor = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) newVirtualThreadPerTaskExecutor.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            LOG.debug("Virtual threads are not available, using platform threads for the blocking client work");
+        }
+        return Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "jaxrs-client-" + COUNTER.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jaxrs.client;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.http.client.netty.DefaultHttpClient;
+
+import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.SSLContext;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * The registry of the HTTP clients shared by the JAX-RS clients with the same effective configuration.
+ * The HTTP client, its connection pool and its event loop group, is closed after all the JAX-RS clients using it are closed.
+ *
+ * @author Denis Stepanov
+ * @since 4.7
+ */
+@Internal
+final class JaxRsHttpClientRegistry {
+
+    private static final Map<Key, Entry> CLIENTS = new HashMap<>();
+
+    private JaxRsHttpClientRegistry() {
+    }
+
+    /**
+     * Acquire the shared HTTP client of the configuration, the client is created if there is none.
+     * The client is created outside the lock, the concurrent callers with the same configuration wait for it.
+     *
+     * @param key     The effective configuration
+     * @param factory The factory of the client
+     * @return The lease of the client
+     */
+    static Lease acquire(Key key, Supplier<DefaultHttpClient> factory) {
+        Entry entry;
+        boolean created = false;
+        synchronized (CLIENTS) {
+            entry = CLIENTS.get(key);
+            if (entry == null) {
+                entry = new Entry();
+                CLIENTS.put(key, entry);
+                created = true;
+            }
+            entry.references++;
+        }
+        if (created) {
+            try {
+                entry.httpClient.complete(factory.get());
+            } catch (Throwable e) {
+                entry.httpClient.completeExceptionally(e);
+            }
+        }
+        DefaultHttpClient httpClient;
+        try {
+            httpClient = entry.httpClient.join();
+        } catch (CompletionException e) {
+            synchronized (CLIENTS) {
+                entry.references--;
+                CLIENTS.remove(key, entry);
+            }
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+        Entry acquired = entry;
+        return new Lease(httpClient, () -> release(key, acquired));
+    }
+
+    /**
+     * Create a lease of the HTTP client not shared with other clients.
+     *
+     * @param httpClient The HTTP client
+     * @return The lease closing the client when released
+     */
+    static Lease unshared(DefaultHttpClient httpClient) {
+        return new Lease(httpClient, httpClient::close);
+    }
+
+    private static void release(Key key, Entry entry) {
+        synchronized (CLIENTS) {
+            if (--entry.references > 0) {
+                return;
+            }
+            CLIENTS.remove(key, entry);
+        }
+        entry.httpClient.join().close();
+    }
+
+    /**
+     * The effective configuration of the HTTP client. The SSL settings are compared by the identity.
+     *
+     * @param connectTimeout   The connect timeout
+     * @param readTimeout      The read timeout
+     * @param properties       The client properties affecting the HTTP client
+     * @param sslContext       The SSL context used by the connections
+     * @param hostnameVerifier The hostname verifier
+     */
+    record Key(@Nullable Duration connectTimeout,
+               @Nullable Duration readTimeout,
+               Map<String, Object> properties,
+               @Nullable SSLContext sslContext,
+               @Nullable HostnameVerifier hostnameVerifier) {
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            return o instanceof Key key
+                && Objects.equals(connectTimeout, key.connectTimeout)
+                && Objects.equals(readTimeout, key.readTimeout)
+                && properties.equals(key.properties)
+                && sslContext == key.sslContext
+                && hostnameVerifier == key.hostnameVerifier;
+        }
+
+        @Override
+        public int hashCode() {
+            int result = Objects.hash(connectTimeout, readTimeout, properties);
+            result = 31 * result + System.identityHashCode(sslContext);
+            result = 31 * result + System.identityHashCode(hostnameVerifier);
+            return result;
+        }
+
+        @Override
+        public String toString() {
+            return "Key[connectTimeout=" + connectTimeout + ", readTimeout=" + readTimeout + ", properties=" + properties + "]";
+        }
+    }
+
+    /**
+     * The use of the HTTP client by a single JAX-RS client.
+     */
+    static final class Lease {
+
+        private final DefaultHttpClient httpClient;
+        private final Runnable release;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Lease(DefaultHttpClient httpClient, Runnable release) {
+            this.httpClient = httpClient;
+            this.release = release;
+        }
+
+        /**
+         * @return The HTTP client
+         */
+        DefaultHttpClient httpClient() {
+            return httpClient;
+        }
+
+        /**
+         * Release the client, only the first call has an effect.
+         */
+        void release() {
+            if (released.compareAndSet(false, true)) {
+                release.run();
+            }
+        }
+    }
+
+    private static final class Entry {
+
+        private final CompletableFuture<DefaultHttpClient> httpClient = new CompletableFuture<>();
+        private int references;
+    }
+}
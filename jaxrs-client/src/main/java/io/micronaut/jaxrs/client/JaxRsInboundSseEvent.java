@@ -0,0 +1,130 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jaxrs.client;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.convert.ConversionService;
+import io.micronaut.core.type.Argument;
+import io.micronaut.http.body.MessageBodyHandlerRegistry;
+import io.micronaut.http.body.MessageBodyReader;
+import io.micronaut.http.simple.SimpleHttpHeaders;
+import io.micronaut.http.sse.Event;
+import io.micronaut.jaxrs.common.JaxRsArgumentUtil;
+import io.micronaut.jaxrs.common.JaxRsUtils;
+import jakarta.ws.rs.ProcessingException;
+import jakarta.ws.rs.core.GenericType;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.sse.InboundSseEvent;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * The implementation of {@link InboundSseEvent} of the event received by the Micronaut client.
+ * The data is read with the readers of the client, or the Micronaut readers if none of the client readers matches.
+ *
+ * @author Denis Stepanov
+ * @since 4.7
+ */
+@Internal
+final class JaxRsInboundSseEvent implements InboundSseEvent {
+
+    private final Event<String> event;
+    private final JaxRsConfiguration configuration;
+    private final MessageBodyHandlerRegistry handlerRegistry;
+
+    JaxRsInboundSseEvent(Event<String> event, JaxRsConfiguration configuration, MessageBodyHandlerRegistry handlerRegistry) {
+        this.event = event;
+        this.configuration = configuration;
+        this.handlerRegistry = handlerRegistry;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        String data = event.getData();
+        return data == null || data.isEmpty();
+    }
+
+    @Override
+    public String readData() {
+        return event.getData();
+    }
+
+    @Override
+    public <T> T readData(Class<T> type) {
+        return readData(type, MediaType.TEXT_PLAIN_TYPE);
+    }
+
+    @Override
+    public <T> T readData(GenericType<T> type) {
+        return readData(type, MediaType.TEXT_PLAIN_TYPE);
+    }
+
+    @Override
+    public <T> T readData(Class<T> messageType, MediaType mediaType) {
+        return read(Argument.of(messageType), JaxRsUtils.convert(mediaType));
+    }
+
+    @Override
+    public <T> T readData(GenericType<T> type, MediaType mediaType) {
+        return read(JaxRsArgumentUtil.from(type), JaxRsUtils.convert(mediaType));
+    }
+
+    private <T> T read(Argument<T> type, io.micronaut.http.MediaType mediaType) {
+        String data = event.getData();
+        if (type.getType().equals(String.class)) {
+            return (T) data;
+        }
+        MessageBodyReader<T> reader = configuration.findMessageBodyReader(type, mediaType)
+            .or(() -> handlerRegistry.findReader(type, List.of(mediaType)))
+            .orElseThrow(() -> new ProcessingException("No reader of the event data " + type.getTypeName() + " as " + mediaType));
+        byte[] bytes = data == null ? new byte[0] : data.getBytes(StandardCharsets.UTF_8);
+        return reader.read(type, mediaType, new SimpleHttpHeaders(ConversionService.SHARED), new ByteArrayInputStream(bytes));
+    }
+
+    @Override
+    public String getId() {
+        return event.getId();
+    }
+
+    @Override
+    public String getName() {
+        return event.getName();
+    }
+
+    @Override
+    public String getComment() {
+        return event.getComment();
+    }
+
+    @Override
+    public long getReconnectDelay() {
+        Duration retry = event.getRetry();
+        return retry == null ? RECONNECT_NOT_SET : retry.toMillis();
+    }
+
+    @Override
+    public boolean isReconnectDelaySet() {
+        return event.getRetry() != null;
+    }
+
+    @Override
+    public String toString() {
+        return "InboundSseEvent{id=" + getId() + ", name=" + getName() + ", data=" + event.getData() + "}";
+    }
+}
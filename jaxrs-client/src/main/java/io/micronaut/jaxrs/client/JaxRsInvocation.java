@@ -18,7 +18,9 @@ package io.micronaut.jaxrs.client;
 import io.micronaut.core.annotation.Internal;
 import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.async.publisher.Publishers;
 import io.micronaut.core.io.buffer.ByteBuffer;
+import io.micronaut.core.io.buffer.ReferenceCounted;
 import io.micronaut.core.type.Argument;
 import io.micronaut.http.HttpHeaders;
 import io.micronaut.http.HttpMethod;
@@ -44,17 +46,25 @@ import jakarta.ws.rs.client.InvocationCallback;
 import jakarta.ws.rs.core.GenericEntity;
 import jakarta.ws.rs.core.GenericType;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.sse.InboundSseEvent;
+import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
 import java.io.UncheckedIOException;
 import java.net.URI;
+import java.time.Duration;
 import java.util.List;
 import java.util.Locale;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
 import java.util.function.BiConsumer;
 
 /**
@@ -66,6 +76,15 @@ import java.util.function.BiConsumer;
 @Internal
 final class JaxRsInvocation implements Invocation, CompletionStageRxInvoker, AsyncInvoker {
 
+    /**
+     * The property defining how the response entities are read: {@value #RESPONSE_ENTITY_PROCESSING_BUFFERED} into
+     * an array before the entity is read, or {@value #RESPONSE_ENTITY_PROCESSING_STREAMING} from the chunks as they are
+     * received. By default, only the entities read as {@link InputStream} or {@link Reader} are streamed.
+     */
+    static final String RESPONSE_ENTITY_PROCESSING = "micronaut.jaxrs.client.response-entity-processing";
+    static final String RESPONSE_ENTITY_PROCESSING_BUFFERED = "BUFFERED";
+    static final String RESPONSE_ENTITY_PROCESSING_STREAMING = "STREAMING";
+
     @NonNull
     private final JaxRsClient client;
     @NonNull
@@ -101,12 +120,12 @@ final class JaxRsInvocation implements Invocation, CompletionStageRxInvoker, Asy
 
     @Override
     public Response invoke() {
-        return asyncBlock(async(Argument.of(Response.class)));
+        return invoke(Argument.of(Response.class));
     }
 
     @Override
     public <T> T invoke(Class<T> aClass) {
-        return asyncBlock(async(Argument.of(aClass)));
+        return invoke(Argument.of(aClass));
     }
 
     @Override
@@ -135,14 +154,30 @@ final class JaxRsInvocation implements Invocation, CompletionStageRxInvoker, Asy
     }
 
     private <T> T invoke(Argument<T> type) {
-        return asyncBlock(async(type));
-    }
-
-    private <T> T asyncBlock(CompletableFuture<T> future) {
+        JaxRsCallingThreadExecutor callingThreadExecutor = new JaxRsCallingThreadExecutor();
+        return asyncBlock(async(null, type, null, callingThreadExecutor), callingThreadExecutor);
+    }
+
+    /**
+     * Wait for the result of the synchronous invocation. The response is filtered and read on the calling thread
+     * without dispatching to the executor service. The calling thread is parked, which doesn't pin the carrier of a virtual thread.
+     *
+     * @param future                The future
+     * @param callingThreadExecutor The executor of the invocation completion
+     * @param <T>                   The result type
+     * @return The result
+     */
+    private <T> T asyncBlock(CompletableFuture<T> future, JaxRsCallingThreadExecutor callingThreadExecutor) {
+        Duration timeout = client.getInvocationTimeout();
         try {
-            return future.get();
+            return callingThreadExecutor.await(future, timeout);
         } catch (InterruptedException e) {
-            throw new RuntimeException(e);
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new ProcessingException(e);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new ProcessingException("The invocation timed out after " + timeout.toMillis() + "ms", e);
         } catch (ExecutionException e) {
             if (e.getCause() instanceof RuntimeException runtimeException) {
                 throw runtimeException;
@@ -152,7 +187,8 @@ final class JaxRsInvocation implements Invocation, CompletionStageRxInvoker, Asy
     }
 
     <T> T invokeExchange(Argument<T> type, Entity<?> entity) {
-        return asyncBlock(async(method, type, entity));
+        JaxRsCallingThreadExecutor callingThreadExecutor = new JaxRsCallingThreadExecutor();
+        return asyncBlock(async(method, type, entity, callingThreadExecutor), callingThreadExecutor);
     }
 
     private <T> CompletableFuture<T> async(Argument<T> type) {
@@ -172,104 +208,456 @@ final class JaxRsInvocation implements Invocation, CompletionStageRxInvoker, Asy
     }
 
     private <T> CompletableFuture<T> async(String method, Argument<T> type, Entity<?> entity) {
+        return client.withTimeout(async(method, type, entity, client.getExecutorService()));
+    }
+
+    /**
+     * Execute the invocation.
+     *
+     * @param method             The method or null for the method of the invocation
+     * @param type               The result type
+     * @param entity             The entity or null for the entity of the invocation
+     * @param completionExecutor The executor to read the response on or null to read it on the event loop
+     * @param <T>                The result type
+     * @return The future
+     */
+    private <T> CompletableFuture<T> async(String method, Argument<T> type, Entity<?> entity, @Nullable Executor completionExecutor) {
         var future = new CompletableFuture<T>();
+        MutableHttpRequest<Object> request = null;
+        boolean sent = false;
         try {
-            var requestBodyType = Argument.of(Object.class);
-            if (entity == null) {
-                entity = this.entity;
-            }
-            MutableHttpRequest<Object> request = createRequest(method, entity);
-            if (entity != null) {
-                Object entityValue = entity.getEntity();
-                if (entityValue instanceof GenericEntity<?> genericEntity) {
-                    requestBodyType = (Argument<Object>) JaxRsArgumentUtil.from(genericEntity);
+            FilteredRequest filteredRequest = filterRequest(method, entity);
+            request = filteredRequest.request();
+            JaxRsClientRequestContext requestContext = filteredRequest.requestContext();
+            Response abortResponse = requestContext.getResponse();
+            if (abortResponse != null) {
+                Response response = filterResponse(abortResponse, requestContext);
+                if (type.getType().equals(Response.class)) {
+                    future.complete((T) response);
                 } else {
-                    requestBodyType = (Argument<Object>) Argument.of(entityValue.getClass(), JaxRsArgumentUtil.createAnnotationMetadata(entity.getAnnotations()));
+                    if (response.getStatusInfo().getFamily() == Response.Status.Family.SUCCESSFUL) {
+                        future.complete(response.readEntity(type.getType()));
+                    } else {
+                        future.completeExceptionally(new WebApplicationException(response));
+                    }
                 }
+                return future;
             }
-            List<ClientRequestFilter> requestFilters = configuration.getRequestFilters();
-            JaxRsClientRequestContext requestContext = new JaxRsClientRequestContext(client, configuration, request, requestBodyType);
-            if (!requestFilters.isEmpty()) {
-                for (ClientRequestFilter requestFilter : requestFilters) {
-                    requestFilter.filter(requestContext);
-                    Response response = requestContext.getResponse();
-                    if (response != null) {
-                        response = filterResponse(response, requestContext);
-                        if (type.getType().equals(Response.class)) {
-                            future.complete((T) response);
-                        } else {
-                            if (response.getStatusInfo().getFamily() == Response.Status.Family.SUCCESSFUL) {
-                                future.complete(response.readEntity(type.getType()));
-                            } else {
-                                future.completeExceptionally(new WebApplicationException(response));
-                            }
-                        }
-                        return future;
-                    }
+            // The invocation is cancelled by a timeout or an interrupt of the blocking call
+            MutableHttpRequest<Object> sentRequest = request;
+            future.whenComplete((result, throwable) -> {
+                if (future.isCancelled()) {
+                    JaxRsStreamingRequestBody.cancel(sentRequest);
                 }
+            });
+            if (isStreamingResponse(type)) {
+                JaxRsStreamingResponseBody responseBody = new JaxRsStreamingResponseBody();
+                responseBody.attach(request);
+                // The exchange of the failed or timed out invocation is cancelled
+                future.whenComplete((result, throwable) -> {
+                    if (throwable != null) {
+                        closeQuietly(responseBody.getInputStream());
+                    }
+                });
+                sent = true;
+                client.getStreamingHttpClient().exchangeStream(request).subscribe(responseBody);
+                // The entity is read on a separate thread, the reader blocks until the chunks are received
+                responseBody.getHead().whenCompleteAsync((response, throwable) -> {
+                    if (future.isDone()) {
+                        return;
+                    }
+                    if (throwable != null) {
+                        completeExceptionally(future, type, throwable, sentRequest, requestContext);
+                        return;
+                    }
+                    try {
+                        MutableHttpResponse<?> mutableResponse = response == null ? HttpResponse.noContent() : response.toMutableResponse();
+                        JaxRsMutableResponse jaxRsMutableResponse = new JaxRsMutableResponse(mutableResponse, configuration.createHttpMessageEntityReader());
+                        jaxRsMutableResponse.setEntityStream(responseBody.getInputStream());
+                        filterResponse(jaxRsMutableResponse, requestContext);
+                        future.complete(jaxRsMutableResponse.readEntity(type));
+                    } catch (Exception e) {
+                        closeQuietly(responseBody.getInputStream());
+                        future.completeExceptionally(new ProcessingException(e));
+                    }
+                }, client.getBlockingExecutor());
+                return future;
             }
+            sent = true;
             client.getHttpClient().exchange(request)
                 .subscribe(new Subscriber<>() {
+
+                    private boolean received;
+
                     @Override
                     public void onSubscribe(Subscription subscription) {
+                        // The exchange of the cancelled or timed out invocation is cancelled
+                        future.whenComplete((result, throwable) -> {
+                            if (throwable != null) {
+                                subscription.cancel();
+                            }
+                        });
                         subscription.request(1L);
                     }
 
                     @Override
                     public void onNext(HttpResponse<ByteBuffer> response) {
-                        try {
-                            JaxRsMutableResponse jaxRsMutableResponse = filterResponse(response.toMutableResponse(), requestContext);
-                            complete(jaxRsMutableResponse);
-                        } catch (Exception e) {
-                            future.completeExceptionally(new ProcessingException(e));
-                        }
+                        received = true;
+                        execute(completionExecutor, future, () -> {
+                            try {
+                                JaxRsMutableResponse jaxRsMutableResponse = filterResponse(response.toMutableResponse(), requestContext);
+                                complete(future, type, jaxRsMutableResponse);
+                            } catch (Exception e) {
+                                future.completeExceptionally(new ProcessingException(e));
+                            }
+                        });
                     }
 
                     @Override
                     public void onError(Throwable throwable) {
-                        if (throwable instanceof HttpClientResponseException httpClientResponseException) {
-                            HttpResponse<?> response = httpClientResponseException.getResponse();
-                            if (isResponseReturn()) {
-                                try {
-                                    MutableHttpResponse<?> mutableResponse = response.toMutableResponse();
-                                    JaxRsMutableResponse jaxRsMutableResponse = filterResponse(mutableResponse, requestContext);
-                                    complete(jaxRsMutableResponse);
-                                } catch (Exception e) {
-                                    future.completeExceptionally(new ProcessingException(e));
-                                }
-                            } else {
-                                future.completeExceptionally(new WebApplicationException(new JaxRsResponse(response)));
-                            }
-                        } else {
-                            future.completeExceptionally(new ProcessingException(throwable));
-                        }
+                        received = true;
+                        execute(completionExecutor, future, () -> completeExceptionally(future, type, throwable, sentRequest, requestContext));
                     }
 
                     @Override
                     public void onComplete() {
-                        if (!future.isDone()) {
+                        if (!received) {
                             future.completeExceptionally(new ProcessingException("Expected a response"));
                         }
                     }
-
-                    private void complete(JaxRsMutableResponse jaxRsMutableResponse) {
-                        if (isResponseReturn()) {
-                            future.complete((T) jaxRsMutableResponse);
-                        } else {
-                            future.complete(jaxRsMutableResponse.readEntity(type));
-                        }
-                    }
-
-                    private boolean isResponseReturn() {
-                        return type.getType().equals(Response.class);
-                    }
                 });
         } catch (Exception e) {
             future.completeExceptionally(new ProcessingException(e));
+        } finally {
+            if (!sent && request != null) {
+                JaxRsStreamingRequestBody.cancel(request);
+            }
         }
         return future;
     }
 
+    /**
+     * Create the publisher of the invocation for {@link PublisherRxInvoker}. The request is sent on the subscription.
+     *
+     * @param method The method
+     * @param type   The result type
+     * @param entity The entity or null for the entity of the invocation
+     * @param <T>    The result type
+     * @return The publisher
+     */
+    <T> Publisher<T> publisher(String method, Argument<T> type, @Nullable Entity<?> entity) {
+        if (isResponseReturn(type)) {
+            return Publishers.fromCompletableFuture(() -> async(method, type, entity));
+        }
+        return subscriber -> {
+            Publisher<T> publisher;
+            try {
+                publisher = stream(method, type, entity);
+            } catch (Exception e) {
+                publisher = Publishers.just(new ProcessingException(e));
+            }
+            publisher.subscribe(subscriber);
+        };
+    }
+
+    private <T> Publisher<T> stream(String method, Argument<T> type, @Nullable Entity<?> entity) throws IOException {
+        FilteredRequest filteredRequest = filterRequest(method, entity);
+        MutableHttpRequest<Object> request = filteredRequest.request();
+        JaxRsClientRequestContext requestContext = filteredRequest.requestContext();
+        Response abortResponse = requestContext.getResponse();
+        if (abortResponse != null) {
+            Response response = filterResponse(abortResponse, requestContext);
+            if (response.getStatusInfo().getFamily() != Response.Status.Family.SUCCESSFUL) {
+                return Publishers.just(new WebApplicationException(response));
+            }
+            T value = response.readEntity(type.getType());
+            return value == null ? Publishers.empty() : Publishers.just(value);
+        }
+        CompletableFuture<HttpResponse<?>> head = new CompletableFuture<>();
+        JaxRsStreamingResponseBody.captureHead(request, head);
+        Class<?> resultType = type.getType();
+        Publisher<?> publisher;
+        try {
+            if (resultType.equals(byte[].class)) {
+                publisher = Publishers.map(client.getStreamingHttpClient().dataStream(request), JaxRsInvocation::toByteArray);
+            } else if (resultType.equals(ByteBuffer.class)) {
+                publisher = client.getStreamingHttpClient().dataStream(request);
+            } else {
+                publisher = client.getStreamingHttpClient().jsonStream(request, type);
+            }
+        } catch (RuntimeException e) {
+            JaxRsStreamingRequestBody.cancel(request);
+            throw e;
+        }
+        Publisher<T> mapped = mapErrors((Publisher<T>) publisher, request);
+        if (configuration.getResponseFilters().isEmpty()) {
+            return mapped;
+        }
+        return filterStreamedResponse(mapped, head, requestContext);
+    }
+
+    /**
+     * Run the response filters with the status and the headers of the streamed response before the first element
+     * or the completion is emitted. The filters cannot replace the streamed elements.
+     *
+     * @param publisher      The publisher of the elements
+     * @param head           The status and the headers of the response
+     * @param requestContext The request context
+     * @param <T>            The element type
+     * @return The filtered publisher
+     */
+    private <T> Publisher<T> filterStreamedResponse(Publisher<T> publisher,
+                                                    CompletableFuture<HttpResponse<?>> head,
+                                                    JaxRsClientRequestContext requestContext) {
+        return subscriber -> publisher.subscribe(new Subscriber<>() {
+
+            private Subscription subscription;
+            private boolean filtered;
+            private boolean failed;
+
+            @Override
+            public void onSubscribe(Subscription subscription) {
+                this.subscription = subscription;
+                subscriber.onSubscribe(subscription);
+            }
+
+            @Override
+            public void onNext(T element) {
+                if (filter()) {
+                    subscriber.onNext(element);
+                } else if (element instanceof ReferenceCounted referenceCounted) {
+                    referenceCounted.release();
+                }
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                if (!failed) {
+                    subscriber.onError(throwable);
+                }
+            }
+
+            @Override
+            public void onComplete() {
+                if (filter()) {
+                    subscriber.onComplete();
+                }
+            }
+
+            private boolean filter() {
+                if (filtered) {
+                    return !failed;
+                }
+                filtered = true;
+                HttpResponse<?> response = head.getNow(null);
+                if (response == null) {
+                    return true;
+                }
+                try {
+                    filterResponse(response.toMutableResponse(), requestContext);
+                    return true;
+                } catch (Exception e) {
+                    failed = true;
+                    subscription.cancel();
+                    subscriber.onError(new ProcessingException(e));
+                    return false;
+                }
+            }
+        });
+    }
+
+    /**
+     * Create the publisher of the server-sent events of the invocation for {@link JaxRsSseEventSource}.
+     * The request is sent on the subscription.
+     *
+     * @return The publisher of the events
+     */
+    Publisher<InboundSseEvent> eventStream() {
+        return subscriber -> {
+            Publisher<InboundSseEvent> publisher;
+            try {
+                FilteredRequest filteredRequest = filterRequest(HttpMethod.GET.name(), null);
+                MutableHttpRequest<Object> request = filteredRequest.request();
+                JaxRsClientRequestContext requestContext = filteredRequest.requestContext();
+                Response abortResponse = requestContext.getResponse();
+                if (abortResponse == null) {
+                    publisher = Publishers.map(
+                        mapErrors(client.getSseClient().eventStream(request, Argument.STRING), request),
+                        event -> new JaxRsInboundSseEvent(event, configuration, client.getHandlerRegistry())
+                    );
+                } else {
+                    Response response = filterResponse(abortResponse, requestContext);
+                    if (response.getStatusInfo().getFamily() == Response.Status.Family.SUCCESSFUL) {
+                        publisher = Publishers.empty();
+                    } else {
+                        publisher = Publishers.just(new WebApplicationException(response));
+                    }
+                }
+            } catch (Exception e) {
+                publisher = Publishers.just(new ProcessingException(e));
+            }
+            publisher.subscribe(subscriber);
+        };
+    }
+
+    /**
+     * Map the errors of the HTTP client to {@link WebApplicationException} and {@link ProcessingException}.
+     *
+     * @param publisher The publisher
+     * @param request   The request
+     * @param <T>       The element type
+     * @return The mapped publisher
+     */
+    private static <T> Publisher<T> mapErrors(Publisher<T> publisher, HttpRequest<?> request) {
+        return subscriber -> publisher.subscribe(new Subscriber<>() {
+
+            @Override
+            public void onSubscribe(Subscription subscription) {
+                subscriber.onSubscribe(subscription);
+            }
+
+            @Override
+            public void onNext(T element) {
+                subscriber.onNext(element);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                JaxRsStreamingRequestBody.cancel(request);
+                if (throwable instanceof HttpClientResponseException httpClientResponseException) {
+                    subscriber.onError(new WebApplicationException(new JaxRsResponse(httpClientResponseException.getResponse())));
+                } else {
+                    subscriber.onError(new ProcessingException(throwable));
+                }
+            }
+
+            @Override
+            public void onComplete() {
+                subscriber.onComplete();
+            }
+        });
+    }
+
+    private static byte[] toByteArray(ByteBuffer<?> byteBuffer) {
+        try {
+            return byteBuffer.toByteArray();
+        } finally {
+            if (byteBuffer instanceof ReferenceCounted referenceCounted) {
+                referenceCounted.release();
+            }
+        }
+    }
+
+    /**
+     * Create the request and run the request filters. The body is written after the filters unless a filter aborts the request.
+     *
+     * @param method The method or null for the method of the invocation
+     * @param entity The entity or null for the entity of the invocation
+     * @return The filtered request
+     * @throws IOException If a filter fails
+     */
+    private FilteredRequest filterRequest(@Nullable String method, @Nullable Entity<?> entity) throws IOException {
+        var requestBodyType = Argument.of(Object.class);
+        if (entity == null) {
+            entity = this.entity;
+        }
+        MutableHttpRequest<Object> request = createRequest(method, entity);
+        if (entity != null) {
+            Object entityValue = entity.getEntity();
+            if (entityValue instanceof GenericEntity<?> genericEntity) {
+                requestBodyType = (Argument<Object>) JaxRsArgumentUtil.from(genericEntity);
+            } else {
+                requestBodyType = (Argument<Object>) Argument.of(entityValue.getClass(), JaxRsArgumentUtil.createAnnotationMetadata(entity.getAnnotations()));
+            }
+        }
+        List<ClientRequestFilter> requestFilters = configuration.getRequestFilters();
+        JaxRsClientRequestContext requestContext = new JaxRsClientRequestContext(client, configuration, request, requestBodyType);
+        for (ClientRequestFilter requestFilter : requestFilters) {
+            requestFilter.filter(requestContext);
+            if (requestContext.getResponse() != null) {
+                return new FilteredRequest(request, requestContext);
+            }
+        }
+        writeBody(request, entity, requestContext);
+        return new FilteredRequest(request, requestContext);
+    }
+
+    private <T> void complete(CompletableFuture<T> future, Argument<T> type, JaxRsMutableResponse jaxRsMutableResponse) {
+        if (isResponseReturn(type)) {
+            future.complete((T) jaxRsMutableResponse);
+        } else {
+            future.complete(jaxRsMutableResponse.readEntity(type));
+        }
+    }
+
+    private <T> void completeExceptionally(CompletableFuture<T> future,
+                                           Argument<T> type,
+                                           Throwable throwable,
+                                           HttpRequest<?> request,
+                                           JaxRsClientRequestContext requestContext) {
+        JaxRsStreamingRequestBody.cancel(request);
+        if (throwable instanceof HttpClientResponseException httpClientResponseException) {
+            HttpResponse<?> response = httpClientResponseException.getResponse();
+            if (isResponseReturn(type)) {
+                try {
+                    MutableHttpResponse<?> mutableResponse = response.toMutableResponse();
+                    JaxRsMutableResponse jaxRsMutableResponse = filterResponse(mutableResponse, requestContext);
+                    complete(future, type, jaxRsMutableResponse);
+                } catch (Exception e) {
+                    future.completeExceptionally(new ProcessingException(e));
+                }
+            } else {
+                future.completeExceptionally(new WebApplicationException(new JaxRsResponse(response)));
+            }
+        } else {
+            future.completeExceptionally(new ProcessingException(throwable));
+        }
+    }
+
+    private static void execute(@Nullable Executor executor, CompletableFuture<?> future, Runnable runnable) {
+        if (executor == null) {
+            runnable.run();
+            return;
+        }
+        try {
+            executor.execute(runnable);
+        } catch (RejectedExecutionException e) {
+            future.completeExceptionally(new ProcessingException(e));
+        }
+    }
+
+    private static boolean isResponseReturn(Argument<?> type) {
+        return type.getType().equals(Response.class);
+    }
+
+    /**
+     * The response entity is streamed if the entity is read as a stream or the streaming is enabled by
+     * the {@value #RESPONSE_ENTITY_PROCESSING} property. The responses returned as {@link Response} are always buffered,
+     * the streaming exchange provides the status and the headers only with the first chunk of the body.
+     *
+     * @param type The result type
+     * @return true if the response entity should be streamed
+     */
+    private boolean isStreamingResponse(Argument<?> type) {
+        Class<?> resultType = type.getType();
+        if (resultType.equals(Response.class)) {
+            return false;
+        }
+        Object processing = configuration.getProperty(RESPONSE_ENTITY_PROCESSING);
+        if (processing == null) {
+            return resultType.equals(InputStream.class) || resultType.equals(Reader.class);
+        }
+        return RESPONSE_ENTITY_PROCESSING_STREAMING.equalsIgnoreCase(processing.toString());
+    }
+
+    private static void closeQuietly(InputStream inputStream) {
+        try {
+            inputStream.close();
+        } catch (IOException ignore) {
+            // Ignore
+        }
+    }
+
     private Response filterResponse(Response response, JaxRsClientRequestContext requestContext) {
         if (response instanceof JaxRsMutableResponse jaxRsMutableResponse) {
             jaxRsMutableResponse = jaxRsMutableResponse.withEntityReader(configuration.createHttpMessageEntityReader());
@@ -324,21 +712,30 @@ final class JaxRsInvocation implements Invocation, CompletionStageRxInvoker, Asy
         if (mutableHttpHeaders != null) {
             mutableHttpHeaders.forEachValue(mutableHttpRequest::header);
         }
+        return mutableHttpRequest;
+    }
+
+    /**
+     * Write the body of the filtered request with the message body writers.
+     *
+     * @param request        The request
+     * @param entity         The entity of the request or null
+     * @param requestContext The request context
+     */
+    private void writeBody(MutableHttpRequest<Object> request, @Nullable Entity<?> entity, JaxRsClientRequestContext requestContext) {
+        Object body = request.getBody().orElse(null);
+        if (body == null) {
+            return;
+        }
         Argument<Object> bodyArgument;
-        Object body;
-        if (entity != null) {
+        if (requestContext.isEntityChanged()) {
+            bodyArgument = (Argument<Object>) requestContext.getEntityArgument();
+        } else if (entity != null) {
             bodyArgument = (Argument<Object>) JaxRsArgumentUtil.from(entity);
-            body = entity.getEntity();
         } else {
-            body = mutableHttpRequest.getBody().orElse(null);
-            if (body != null) {
-                bodyArgument = (Argument<Object>) Argument.of(body.getClass());
-            } else {
-                bodyArgument = null;
-            }
+            bodyArgument = (Argument<Object>) Argument.of(body.getClass());
         }
-        configuration.writeBody(mutableHttpRequest, bodyArgument, body);
-        return mutableHttpRequest;
+        configuration.writeBody(request, bodyArgument, body, client.getBlockingExecutor());
     }
 
     @Override
@@ -520,4 +917,13 @@ final class JaxRsInvocation implements Invocation, CompletionStageRxInvoker, Asy
     public <T> Future<T> method(String name, Entity<?> entity, InvocationCallback<T> callback) {
         return async(name, JaxRsArgumentUtil.from(callback), entity).whenComplete(withCallback(callback));
     }
+
+    /**
+     * The request after the request filters.
+     *
+     * @param request        The request
+     * @param requestContext The request context with the abort response if the request was aborted
+     */
+    private record FilteredRequest(MutableHttpRequest<Object> request, JaxRsClientRequestContext requestContext) {
+    }
 }
@@ -29,6 +29,7 @@ import jakarta.ws.rs.client.CompletionStageRxInvoker;
 import jakarta.ws.rs.client.Entity;
 import jakarta.ws.rs.client.Invocation;
 import jakarta.ws.rs.client.RxInvoker;
+import jakarta.ws.rs.client.RxInvokerProvider;
 import jakarta.ws.rs.core.CacheControl;
 import jakarta.ws.rs.core.Cookie;
 import jakarta.ws.rs.core.GenericType;
@@ -181,7 +182,18 @@ final class JaxRsInvocationBuilder implements Invocation.Builder {
 
     @Override
     public <T extends RxInvoker> T rx(Class<T> clazz) {
-        throw new IllegalStateException("unsupported");
+        if (clazz.isAssignableFrom(CompletionStageRxInvoker.class)) {
+            return clazz.cast(rx());
+        }
+        if (clazz.isAssignableFrom(PublisherRxInvoker.class)) {
+            return clazz.cast(new JaxRsPublisherRxInvoker(new JaxRsInvocation(client, uri, null, null, mutableHttpHeaders, configuration)));
+        }
+        for (RxInvokerProvider<?> provider : configuration.getRxInvokerProviders()) {
+            if (provider.isProviderFor(clazz)) {
+                return clazz.cast(provider.getRxInvoker(this, client.getExecutorService()));
+            }
+        }
+        throw new IllegalStateException("No provider of the reactive invoker: " + clazz.getName());
     }
 
     @Override
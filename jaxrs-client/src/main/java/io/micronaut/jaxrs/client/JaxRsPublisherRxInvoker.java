@@ -0,0 +1,166 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jaxrs.client;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.type.Argument;
+import io.micronaut.http.HttpMethod;
+import io.micronaut.jaxrs.common.JaxRsArgumentUtil;
+import jakarta.ws.rs.client.Entity;
+import jakarta.ws.rs.core.GenericType;
+import jakarta.ws.rs.core.Response;
+import org.reactivestreams.Publisher;
+
+/**
+ * The implementation of {@link PublisherRxInvoker}.
+ *
+ * @author Denis Stepanov
+ * @since 4.7
+ */
+@Internal
+final class JaxRsPublisherRxInvoker implements PublisherRxInvoker {
+
+    private final JaxRsInvocation invocation;
+
+    JaxRsPublisherRxInvoker(JaxRsInvocation invocation) {
+        this.invocation = invocation;
+    }
+
+    @Override
+    public Publisher<Response> get() {
+        return method(HttpMethod.GET.name());
+    }
+
+    @Override
+    public <R> Publisher<R> get(Class<R> responseType) {
+        return method(HttpMethod.GET.name(), responseType);
+    }
+
+    @Override
+    public <R> Publisher<R> get(GenericType<R> responseType) {
+        return method(HttpMethod.GET.name(), responseType);
+    }
+
+    @Override
+    public Publisher<Response> put(Entity<?> entity) {
+        return method(HttpMethod.PUT.name(), entity);
+    }
+
+    @Override
+    public <R> Publisher<R> put(Entity<?> entity, Class<R> responseType) {
+        return method(HttpMethod.PUT.name(), entity, responseType);
+    }
+
+    @Override
+    public <R> Publisher<R> put(Entity<?> entity, GenericType<R> responseType) {
+        return method(HttpMethod.PUT.name(), entity, responseType);
+    }
+
+    @Override
+    public Publisher<Response> post(Entity<?> entity) {
+        return method(HttpMethod.POST.name(), entity);
+    }
+
+    @Override
+    public <R> Publisher<R> post(Entity<?> entity, Class<R> responseType) {
+        return method(HttpMethod.POST.name(), entity, responseType);
+    }
+
+    @Override
+    public <R> Publisher<R> post(Entity<?> entity, GenericType<R> responseType) {
+        return method(HttpMethod.POST.name(), entity, responseType);
+    }
+
+    @Override
+    public Publisher<Response> delete() {
+        return method(HttpMethod.DELETE.name());
+    }
+
+    @Override
+    public <R> Publisher<R> delete(Class<R> responseType) {
+        return method(HttpMethod.DELETE.name(), responseType);
+    }
+
+    @Override
+    public <R> Publisher<R> delete(GenericType<R> responseType) {
+        return method(HttpMethod.DELETE.name(), responseType);
+    }
+
+    @Override
+    public Publisher<Response> head() {
+        return method(HttpMethod.HEAD.name());
+    }
+
+    @Override
+    public Publisher<Response> options() {
+        return method(HttpMethod.OPTIONS.name());
+    }
+
+    @Override
+    public <R> Publisher<R> options(Class<R> responseType) {
+        return method(HttpMethod.OPTIONS.name(), responseType);
+    }
+
+    @Override
+    public <R> Publisher<R> options(GenericType<R> responseType) {
+        return method(HttpMethod.OPTIONS.name(), responseType);
+    }
+
+    @Override
+    public Publisher<Response> trace() {
+        return method(HttpMethod.TRACE.name());
+    }
+
+    @Override
+    public <R> Publisher<R> trace(Class<R> responseType) {
+        return method(HttpMethod.TRACE.name(), responseType);
+    }
+
+    @Override
+    public <R> Publisher<R> trace(GenericType<R> responseType) {
+        return method(HttpMethod.TRACE.name(), responseType);
+    }
+
+    @Override
+    public Publisher<Response> method(String name) {
+        return invocation.publisher(name, Argument.of(Response.class), null);
+    }
+
+    @Override
+    public <R> Publisher<R> method(String name, Class<R> responseType) {
+        return invocation.publisher(name, Argument.of(responseType), null);
+    }
+
+    @Override
+    public <R> Publisher<R> method(String name, GenericType<R> responseType) {
+        return invocation.publisher(name, JaxRsArgumentUtil.from(responseType), null);
+    }
+
+    @Override
+    public Publisher<Response> method(String name, Entity<?> entity) {
+        return invocation.publisher(name, Argument.of(Response.class), entity);
+    }
+
+    @Override
+    public <R> Publisher<R> method(String name, Entity<?> entity, Class<R> responseType) {
+        return invocation.publisher(name, Argument.of(responseType), entity);
+    }
+
+    @Override
+    public <R> Publisher<R> method(String name, Entity<?> entity, GenericType<R> responseType) {
+        return invocation.publisher(name, JaxRsArgumentUtil.from(responseType), entity);
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jaxrs.client;
+
+import io.micronaut.core.annotation.Internal;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.util.concurrent.DefaultThreadFactory;
+
+/**
+ * The event loop group shared by the clients built with the property {@value JaxRsClientBuilder#SHARED_EVENT_LOOP_GROUP}.
+ * The group is created on the first use, its daemon threads are never shut down and closing a client doesn't affect it.
+ *
+ * @author Denis Stepanov
+ * @since 4.7
+ */
+@Internal
+final class JaxRsSharedEventLoopGroup {
+
+    private JaxRsSharedEventLoopGroup() {
+    }
+
+    /**
+     * @return The shared event loop group
+     */
+    static EventLoopGroup get() {
+        return Holder.GROUP;
+    }
+
+    private static final class Holder {
+
+        private static final EventLoopGroup GROUP = new NioEventLoopGroup(0, new DefaultThreadFactory("jaxrs-client-event-loop", true));
+
+    }
+}
@@ -0,0 +1,238 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jaxrs.client;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.http.HttpHeaders;
+import io.micronaut.http.HttpStatus;
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.sse.InboundSseEvent;
+import jakarta.ws.rs.sse.SseEventSource;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * The implementation of {@link SseEventSource} using the Micronaut client event stream.
+ * The source reconnects after the reconnect delay, or the retry delay sent by the server, if the stream completes
+ * or the connection fails; the connection failures are passed to the error consumers before reconnecting.
+ * The last received event id is sent with the {@code Last-Event-ID} header.
+ * The source stops if the server responds with an error status, except 503 with the {@code Retry-After} header.
+ * The consumers are called in the order of the events on the blocking executor of the client, never on the event loop,
+ * and the next event is requested once the consumers return.
+ *
+ * @author Denis Stepanov
+ * @since 4.7
+ */
+@Internal
+final class JaxRsSseEventSource implements SseEventSource {
+
+    private static final Logger LOG = LoggerFactory.getLogger(JaxRsSseEventSource.class);
+    private static final String LAST_EVENT_ID = "Last-Event-ID";
+
+    private final JaxRsWebTarget target;
+    private final List<Consumer<InboundSseEvent>> eventConsumers = new CopyOnWriteArrayList<>();
+    private final List<Consumer<Throwable>> errorConsumers = new CopyOnWriteArrayList<>();
+    private final List<Runnable> completionConsumers = new CopyOnWriteArrayList<>();
+    private final Object lock = new Object();
+
+    private volatile long reconnectDelay;
+    private volatile boolean open;
+    @Nullable
+    private volatile String lastEventId;
+    @Nullable
+    private volatile Subscription subscription;
+
+    JaxRsSseEventSource(JaxRsWebTarget target, long reconnectDelay) {
+        this.target = target;
+        this.reconnectDelay = reconnectDelay;
+    }
+
+    @Override
+    public void register(Consumer<InboundSseEvent> onEvent) {
+        eventConsumers.add(onEvent);
+    }
+
+    @Override
+    public void register(Consumer<InboundSseEvent> onEvent, Consumer<Throwable> onError) {
+        eventConsumers.add(onEvent);
+        errorConsumers.add(onError);
+    }
+
+    @Override
+    public void register(Consumer<InboundSseEvent> onEvent, Consumer<Throwable> onError, Runnable onComplete) {
+        eventConsumers.add(onEvent);
+        errorConsumers.add(onError);
+        completionConsumers.add(onComplete);
+    }
+
+    @Override
+    public void open() {
+        synchronized (lock) {
+            if (open) {
+                throw new IllegalStateException("The event source is already open");
+            }
+            open = true;
+        }
+        connect();
+    }
+
+    @Override
+    public boolean isOpen() {
+        return open;
+    }
+
+    @Override
+    public boolean close(long timeout, TimeUnit unit) {
+        Subscription toCancel;
+        synchronized (lock) {
+            if (!open) {
+                return true;
+            }
+            open = false;
+            toCancel = subscription;
+            subscription = null;
+        }
+        if (toCancel != null) {
+            toCancel.cancel();
+        }
+        completionConsumers.forEach(Runnable::run);
+        return true;
+    }
+
+    private void connect() {
+        if (!open) {
+            return;
+        }
+        JaxRsInvocationBuilder request = (JaxRsInvocationBuilder) target.request(MediaType.SERVER_SENT_EVENTS_TYPE);
+        String id = lastEventId;
+        if (id != null) {
+            request.header(LAST_EVENT_ID, id);
+        }
+        Executor executor = target.getClient().getBlockingExecutor();
+        request.buildGet().eventStream().subscribe(new Subscriber<>() {
+
+            // The signals are dispatched one after another, the consumers may block
+            private CompletableFuture<Void> dispatched = CompletableFuture.completedFuture(null);
+            private Subscription own;
+
+            @Override
+            public void onSubscribe(Subscription s) {
+                synchronized (lock) {
+                    if (!open) {
+                        s.cancel();
+                        return;
+                    }
+                    subscription = s;
+                }
+                own = s;
+                s.request(1);
+            }
+
+            @Override
+            public void onNext(InboundSseEvent event) {
+                if (event.getId() != null) {
+                    lastEventId = event.getId();
+                }
+                if (event.isReconnectDelaySet()) {
+                    reconnectDelay = event.getReconnectDelay();
+                }
+                dispatch(() -> {
+                    try {
+                        for (Consumer<InboundSseEvent> eventConsumer : eventConsumers) {
+                            eventConsumer.accept(event);
+                        }
+                    } finally {
+                        own.request(1);
+                    }
+                });
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                dispatch(() -> handleError(throwable));
+            }
+
+            @Override
+            public void onComplete() {
+                dispatch(() -> reconnect(reconnectDelay));
+            }
+
+            private void dispatch(Runnable task) {
+                dispatched = dispatched.thenRunAsync(() -> {
+                    try {
+                        task.run();
+                    } catch (RuntimeException e) {
+                        LOG.warn("The event source consumer failed", e);
+                    }
+                }, executor);
+            }
+
+            private void handleError(Throwable throwable) {
+                if (throwable instanceof WebApplicationException webApplicationException) {
+                    Response response = webApplicationException.getResponse();
+                    String retryAfter = response.getHeaderString(HttpHeaders.RETRY_AFTER);
+                    if (response.getStatus() == HttpStatus.SERVICE_UNAVAILABLE.getCode() && retryAfter != null) {
+                        reconnect(retryDelay(retryAfter));
+                        return;
+                    }
+                    synchronized (lock) {
+                        open = false;
+                        subscription = null;
+                    }
+                    errorConsumers.forEach(consumer -> consumer.accept(throwable));
+                    return;
+                }
+                if (!open) {
+                    return;
+                }
+                LOG.debug("The event stream failed, reconnecting", throwable);
+                errorConsumers.forEach(consumer -> consumer.accept(throwable));
+                reconnect(reconnectDelay);
+            }
+        });
+    }
+
+    private void reconnect(long delay) {
+        synchronized (lock) {
+            subscription = null;
+            if (!open) {
+                return;
+            }
+        }
+        CompletableFuture.delayedExecutor(delay, TimeUnit.MILLISECONDS).execute(this::connect);
+    }
+
+    private long retryDelay(String retryAfter) {
+        try {
+            return TimeUnit.SECONDS.toMillis(Long.parseLong(retryAfter.trim()));
+        } catch (NumberFormatException e) {
+            // The HTTP date isn't supported
+            return reconnectDelay;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jaxrs.client;
+
+import io.micronaut.core.annotation.Internal;
+import jakarta.ws.rs.client.WebTarget;
+import jakarta.ws.rs.sse.SseEventSource;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The implementation of {@link SseEventSource.Builder}.
+ *
+ * @author Denis Stepanov
+ * @since 4.7
+ */
+@Internal
+public final class JaxRsSseEventSourceBuilder extends SseEventSource.Builder {
+
+    private static final long DEFAULT_RECONNECT_DELAY = 500;
+
+    private JaxRsWebTarget target;
+    private long reconnectDelay = DEFAULT_RECONNECT_DELAY;
+
+    @Override
+    protected SseEventSource.Builder target(WebTarget endpoint) {
+        if (!(endpoint instanceof JaxRsWebTarget jaxRsWebTarget)) {
+            throw new IllegalArgumentException("Not a Micronaut JAX-RS client target: " + endpoint);
+        }
+        this.target = jaxRsWebTarget;
+        return this;
+    }
+
+    @Override
+    public SseEventSource.Builder reconnectingEvery(long delay, TimeUnit unit) {
+        this.reconnectDelay = unit.toMillis(delay);
+        return this;
+    }
+
+    @Override
+    public SseEventSource build() {
+        if (target == null) {
+            throw new IllegalStateException("The target is required");
+        }
+        return new JaxRsSseEventSource(target, reconnectDelay);
+    }
+}
@@ -0,0 +1,395 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jaxrs.client;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.http.HttpMessage;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The request body streamed from a message body writer.
+ * <p>
+ * The writer runs on a separate thread and writes into pooled chunks of {@link #CHUNK_SIZE} bytes. At most
+ * {@link #MAX_BUFFERED_CHUNKS} chunks are buffered, the writer is blocked until the chunks are requested by the HTTP client.
+ * If the writer finishes before filling the first chunk the body is sent as an ordinary byte array.
+ * The body must be cancelled if it's not handed to the HTTP client, otherwise the writer stays blocked.
+ * <p>
+ * The calling thread is blocked until the first chunk is written. If the executor doesn't start the writer within
+ * {@link #START_TIMEOUT_MILLIS}, for example because the calling thread is the only thread of the executor, the writer
+ * is handed to the default executor instead.
+ *
+ * @author Denis Stepanov
+ * @since 4.7
+ */
+@Internal
+final class JaxRsStreamingRequestBody implements Publisher<ByteBuf> {
+
+    static final int CHUNK_SIZE = 32 * 1024;
+    static final int MAX_BUFFERED_CHUNKS = 4;
+    static final long START_TIMEOUT_MILLIS = 100;
+
+    private static final ByteBuf END = Unpooled.EMPTY_BUFFER;
+
+    private final BlockingQueue<ByteBuf> chunks = new ArrayBlockingQueue<>(MAX_BUFFERED_CHUNKS);
+    private final CompletableFuture<byte[]> head = new CompletableFuture<>();
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+    private final AtomicLong requested = new AtomicLong();
+    private final AtomicInteger wip = new AtomicInteger();
+
+    private volatile Subscriber<? super ByteBuf> subscriber;
+    private volatile boolean cancelled;
+    private volatile Throwable error;
+
+    private JaxRsStreamingRequestBody() {
+    }
+
+    /**
+     * Start writing the body.
+     *
+     * @param writer   The writer
+     * @param onCommit The callback run on the writer thread before the first chunk is written or the body completes,
+     *                 the calling thread is blocked until then
+     * @param executor The executor to run the writer on, the default executor if null
+     * @return The bytes if the whole body fits into a single chunk, otherwise the streaming body
+     * @throws IOException If the writer fails before the first chunk is written
+     */
+    static Object write(BodyWriter writer, Runnable onCommit, @Nullable Executor executor) throws IOException {
+        JaxRsStreamingRequestBody body = new JaxRsStreamingRequestBody();
+        WriterTask task = body.new WriterTask(writer, onCommit);
+        byte[] bytes;
+        try {
+            if (executor == null || executor == JaxRsDefaultExecutor.EXECUTOR) {
+                JaxRsDefaultExecutor.EXECUTOR.execute(task);
+                bytes = body.head.get();
+            } else {
+                executor.execute(task);
+                bytes = body.awaitHead(task);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            body.cancel();
+            throw new InterruptedIOException("Interrupted while writing the request body");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException ioException) {
+                throw ioException;
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IOException(cause);
+        }
+        return bytes == null ? body : bytes;
+    }
+
+    private byte[] awaitHead(WriterTask task) throws InterruptedException, ExecutionException {
+        try {
+            return head.get(START_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            if (task.claim()) {
+                // The executor might be waiting for the calling thread to be released
+                JaxRsDefaultExecutor.EXECUTOR.execute(task::write);
+            }
+            return head.get();
+        }
+    }
+
+    /**
+     * Cancel the streaming body of the message if it's not going to be sent.
+     *
+     * @param message The message
+     */
+    static void cancel(HttpMessage<?> message) {
+        if (message.getBody().orElse(null) instanceof JaxRsStreamingRequestBody body) {
+            body.cancel();
+        }
+    }
+
+    /**
+     * Cancel the body, the writer fails on the next write and the buffered chunks are released.
+     */
+    void cancel() {
+        cancelled = true;
+        drain();
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super ByteBuf> subscriber) {
+        if (!subscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(new Subscription() {
+                @Override
+                public void request(long n) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            subscriber.onError(new IllegalStateException("The request body can only be subscribed once"));
+            return;
+        }
+        this.subscriber = subscriber;
+        subscriber.onSubscribe(new Subscription() {
+            @Override
+            public void request(long n) {
+                if (n <= 0) {
+                    error = new IllegalArgumentException("Requested a non-positive number of chunks: " + n);
+                    JaxRsStreamingRequestBody.this.cancel();
+                    subscriber.onError(error);
+                    return;
+                }
+                requested.getAndAccumulate(n, (current, add) -> current + add < 0 ? Long.MAX_VALUE : current + add);
+                drain();
+            }
+
+            @Override
+            public void cancel() {
+                JaxRsStreamingRequestBody.this.cancel();
+            }
+        });
+        drain();
+    }
+
+    private void drain() {
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        do {
+            Subscriber<? super ByteBuf> subscriber = this.subscriber;
+            if (cancelled) {
+                // The chunks are only released by the draining thread, so a chunk is never released while it's emitted
+                releaseChunks();
+            } else if (subscriber != null) {
+                long demand = requested.get();
+                long emitted = 0;
+                while (!cancelled) {
+                    ByteBuf chunk = chunks.peek();
+                    if (chunk == null) {
+                        break;
+                    }
+                    if (chunk == END) {
+                        chunks.poll();
+                        cancelled = true;
+                        Throwable error = this.error;
+                        if (error != null) {
+                            subscriber.onError(error);
+                        } else {
+                            subscriber.onComplete();
+                        }
+                        break;
+                    }
+                    if (emitted == demand) {
+                        break;
+                    }
+                    chunks.poll();
+                    subscriber.onNext(chunk);
+                    emitted++;
+                }
+                if (emitted != 0 && demand != Long.MAX_VALUE) {
+                    requested.addAndGet(-emitted);
+                }
+            }
+            missed = wip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private void offer(ByteBuf chunk) throws IOException {
+        try {
+            chunks.put(chunk);
+        } catch (InterruptedException e) {
+            chunk.release();
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while streaming the request body");
+        }
+        drain();
+    }
+
+    private void releaseChunks() {
+        ByteBuf chunk;
+        while ((chunk = chunks.poll()) != null) {
+            if (chunk != END) {
+                chunk.release();
+            }
+        }
+    }
+
+    /**
+     * Writes the body to the output stream.
+     */
+    @FunctionalInterface
+    interface BodyWriter {
+
+        void writeTo(OutputStream outputStream) throws IOException;
+
+    }
+
+    private final class WriterTask implements Runnable {
+
+        private final BodyWriter writer;
+        private final Runnable onCommit;
+        private final AtomicBoolean started = new AtomicBoolean();
+
+        private WriterTask(BodyWriter writer, Runnable onCommit) {
+            this.writer = writer;
+            this.onCommit = onCommit;
+        }
+
+        @Override
+        public void run() {
+            if (claim()) {
+                write();
+            }
+        }
+
+        private boolean claim() {
+            return started.compareAndSet(false, true);
+        }
+
+        private void write() {
+            ChunkOutputStream outputStream = new ChunkOutputStream(onCommit);
+            try {
+                writer.writeTo(outputStream);
+                outputStream.finish();
+            } catch (Throwable e) {
+                outputStream.release();
+                if (!head.completeExceptionally(e) && !cancelled) {
+                    error = e;
+                    try {
+                        offer(END);
+                    } catch (IOException ignore) {
+                        // Interrupted
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * The output stream writing into the chunks.
+     */
+    private final class ChunkOutputStream extends OutputStream {
+
+        private final Runnable onCommit;
+        private ByteBuf current;
+        private boolean streaming;
+
+        private ChunkOutputStream(Runnable onCommit) {
+            this.onCommit = onCommit;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            ensureChunk().writeByte(b);
+            if (!current.isWritable()) {
+                emit();
+            }
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            while (length > 0) {
+                ByteBuf chunk = ensureChunk();
+                int count = Math.min(length, chunk.writableBytes());
+                chunk.writeBytes(bytes, offset, count);
+                offset += count;
+                length -= count;
+                if (!chunk.isWritable()) {
+                    emit();
+                }
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (streaming && current != null && current.isReadable()) {
+                emit();
+            }
+        }
+
+        private ByteBuf ensureChunk() throws IOException {
+            if (cancelled) {
+                throw new IOException("The request body was cancelled");
+            }
+            if (current == null) {
+                current = ByteBufAllocator.DEFAULT.buffer(CHUNK_SIZE, CHUNK_SIZE);
+            }
+            return current;
+        }
+
+        private void emit() throws IOException {
+            if (!streaming) {
+                streaming = true;
+                onCommit.run();
+                head.complete(null);
+            }
+            ByteBuf chunk = current;
+            current = null;
+            offer(chunk);
+        }
+
+        private void finish() throws IOException {
+            if (!streaming) {
+                byte[] bytes;
+                if (current == null) {
+                    bytes = new byte[0];
+                } else {
+                    bytes = new byte[current.readableBytes()];
+                    current.readBytes(bytes);
+                    release();
+                }
+                onCommit.run();
+                head.complete(bytes);
+                return;
+            }
+            if (current != null && current.isReadable()) {
+                emit();
+            } else {
+                release();
+            }
+            if (!cancelled) {
+                offer(END);
+            }
+        }
+
+        private void release() {
+            if (current != null) {
+                current.release();
+                current = null;
+            }
+        }
+    }
+}
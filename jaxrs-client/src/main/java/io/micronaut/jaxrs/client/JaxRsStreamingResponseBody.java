@@ -0,0 +1,277 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jaxrs.client;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.async.publisher.Publishers;
+import io.micronaut.core.io.buffer.ByteBuffer;
+import io.micronaut.core.io.buffer.ReferenceCounted;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.MutableHttpRequest;
+import io.micronaut.http.MutableHttpResponse;
+import io.micronaut.http.filter.ClientFilterChain;
+import io.micronaut.http.filter.HttpClientFilter;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * The response body streamed from the HTTP client.
+ * <p>
+ * The {@link HeadFilter} completes {@link #getHead()} with the response status and the headers once they are received,
+ * also for the responses without a body. The chunks are consumed by the {@link #getInputStream() input stream};
+ * at most {@link #PREFETCH} chunks are requested ahead of the reader.
+ *
+ * @author Denis Stepanov
+ * @since 4.7
+ */
+@Internal
+final class JaxRsStreamingResponseBody implements Subscriber<HttpResponse<ByteBuffer<?>>> {
+
+    static final int PREFETCH = 4;
+
+    private static final String ATTRIBUTE = JaxRsStreamingResponseBody.class.getName();
+
+    private static final Object END = new Object();
+
+    private final BlockingQueue<Object> chunks = new LinkedBlockingQueue<>();
+    private final CompletableFuture<HttpResponse<?>> head = new CompletableFuture<>();
+    private final EntityInputStream inputStream = new EntityInputStream();
+
+    private volatile Subscription subscription;
+    private volatile boolean closed;
+
+    /**
+     * Attach the body to the request, the response head is captured by the {@link HeadFilter}.
+     *
+     * @param request The request
+     */
+    void attach(MutableHttpRequest<?> request) {
+        captureHead(request, head);
+    }
+
+    /**
+     * Capture the status and the headers of the response of the request with the {@link HeadFilter}.
+     *
+     * @param request The request
+     * @param head    The future completed with the status and the headers
+     */
+    static void captureHead(MutableHttpRequest<?> request, CompletableFuture<HttpResponse<?>> head) {
+        request.setAttribute(ATTRIBUTE, head);
+    }
+
+    /**
+     * @return The future completed with the status and the headers of the response, or null if they weren't captured
+     */
+    CompletableFuture<HttpResponse<?>> getHead() {
+        return head;
+    }
+
+    /**
+     * @return The entity stream
+     */
+    InputStream getInputStream() {
+        return inputStream;
+    }
+
+    @Override
+    public void onSubscribe(Subscription subscription) {
+        this.subscription = subscription;
+        if (closed) {
+            subscription.cancel();
+        } else {
+            subscription.request(PREFETCH);
+        }
+    }
+
+    @Override
+    public void onNext(HttpResponse<ByteBuffer<?>> response) {
+        ByteBuffer<?> chunk = response.getBody().orElse(null);
+        if (closed) {
+            release(chunk);
+            return;
+        }
+        if (chunk != null) {
+            chunks.add(chunk);
+            if (closed) {
+                // Closed concurrently, the chunk might have been added after the queue was released
+                releaseChunks();
+                return;
+            }
+        }
+        head.complete(response);
+        if (chunk == null) {
+            subscription.request(1);
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        if (!head.completeExceptionally(throwable)) {
+            chunks.add(throwable);
+        }
+    }
+
+    @Override
+    public void onComplete() {
+        head.complete(null);
+        chunks.add(END);
+    }
+
+    private void close() {
+        closed = true;
+        Subscription subscription = this.subscription;
+        if (subscription != null) {
+            subscription.cancel();
+        }
+        releaseChunks();
+    }
+
+    private void releaseChunks() {
+        Object chunk;
+        while ((chunk = chunks.poll()) != null) {
+            release(chunk);
+        }
+    }
+
+    private static void release(@Nullable Object chunk) {
+        if (chunk instanceof ReferenceCounted referenceCounted) {
+            referenceCounted.release();
+        }
+    }
+
+    /**
+     * The filter completing the captured head with the status and the headers of the response.
+     * The streamed responses without a body don't emit any chunk.
+     */
+    static final class HeadFilter implements HttpClientFilter {
+
+        @Override
+        public Publisher<? extends HttpResponse<?>> doFilter(MutableHttpRequest<?> request, ClientFilterChain chain) {
+            CompletableFuture<HttpResponse<?>> head = request.getAttribute(ATTRIBUTE, CompletableFuture.class).orElse(null);
+            if (head == null) {
+                return chain.proceed(request);
+            }
+            return Publishers.map(chain.proceed(request), response -> {
+                MutableHttpResponse<?> responseHead = HttpResponse.status(response.code(), response.reason());
+                response.getHeaders().forEachValue(responseHead::header);
+                head.complete(responseHead);
+                return response;
+            });
+        }
+    }
+
+    /**
+     * The stream reading the chunks.
+     */
+    private final class EntityInputStream extends InputStream {
+
+        private ByteBuffer<?> current;
+        private boolean finished;
+
+        @Override
+        public int read() throws IOException {
+            ByteBuffer<?> chunk = nextChunk();
+            if (chunk == null) {
+                return -1;
+            }
+            int b = chunk.read() & 0xFF;
+            consumed(chunk);
+            return b;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) throws IOException {
+            if (length == 0) {
+                return 0;
+            }
+            ByteBuffer<?> chunk = nextChunk();
+            if (chunk == null) {
+                return -1;
+            }
+            int count = Math.min(length, chunk.readableBytes());
+            chunk.read(bytes, offset, count);
+            consumed(chunk);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            ByteBuffer<?> chunk = current;
+            return chunk == null ? 0 : chunk.readableBytes();
+        }
+
+        @Override
+        public void close() {
+            if (current != null) {
+                release(current);
+                current = null;
+            }
+            finished = true;
+            JaxRsStreamingResponseBody.this.close();
+        }
+
+        private ByteBuffer<?> nextChunk() throws IOException {
+            while (current == null) {
+                if (finished) {
+                    return null;
+                }
+                if (closed) {
+                    throw new IOException("The response entity stream is closed");
+                }
+                Object chunk;
+                try {
+                    chunk = chunks.take();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Interrupted while reading the response entity");
+                }
+                if (chunk == END) {
+                    finished = true;
+                    return null;
+                }
+                if (chunk instanceof Throwable throwable) {
+                    finished = true;
+                    throw new IOException("Failed to read the response entity: " + throwable.getMessage(), throwable);
+                }
+                ByteBuffer<?> buffer = (ByteBuffer<?>) chunk;
+                if (buffer.readableBytes() > 0) {
+                    current = buffer;
+                } else {
+                    release(buffer);
+                    subscription.request(1);
+                }
+            }
+            return current;
+        }
+
+        private void consumed(ByteBuffer<?> chunk) {
+            if (chunk.readableBytes() == 0) {
+                release(chunk);
+                current = null;
+                subscription.request(1);
+            }
+        }
+    }
+}
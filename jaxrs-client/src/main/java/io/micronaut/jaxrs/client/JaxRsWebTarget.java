@@ -16,17 +16,24 @@
 package io.micronaut.jaxrs.client;
 
 import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
 import jakarta.ws.rs.client.Invocation;
 import jakarta.ws.rs.client.WebTarget;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.UriBuilder;
 
 import java.net.URI;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.UnaryOperator;
 
 /**
  * The implementation of {@link WebTarget}.
+ * <p>
+ * The derived targets only reference the parent and the modification of the URI, the URI builder is materialized
+ * when it's needed by cloning the materialized builder of the parent and applying the modification, so every target
+ * of a chain applies its modification once. The configuration is copied on write.
  *
  * @author Denis Stepanov
  * @since 4.6
@@ -35,15 +42,32 @@ import java.util.Objects;
 final class JaxRsWebTarget implements WebTarget, JaxRsConfigurable<WebTarget> {
 
     private final JaxRsClient client;
-    private final UriBuilder uriBuilder;
+    @Nullable
+    private final JaxRsWebTarget parent;
+    @Nullable
+    private final UnaryOperator<UriBuilder> modification;
     private final JaxRsConfiguration configuration;
 
+    @Nullable
+    private volatile UriBuilder uriBuilder;
+    @Nullable
+    private volatile URI uri;
+
     JaxRsWebTarget(JaxRsClient client, UriBuilder uriBuilder, JaxRsConfiguration configuration) {
         this.client = client;
+        this.parent = null;
+        this.modification = null;
         this.uriBuilder = uriBuilder;
         this.configuration = configuration;
     }
 
+    private JaxRsWebTarget(JaxRsWebTarget parent, UnaryOperator<UriBuilder> modification) {
+        this.client = parent.client;
+        this.parent = parent;
+        this.modification = modification;
+        this.configuration = parent.configuration.copy();
+    }
+
     @Override
     public WebTarget self() {
         return this;
@@ -54,57 +78,71 @@ final class JaxRsWebTarget implements WebTarget, JaxRsConfigurable<WebTarget> {
         return configuration;
     }
 
+    /**
+     * @return The client of the target
+     */
+    JaxRsClient getClient() {
+        return client;
+    }
+
     @Override
     public URI getUri() {
-        return uriBuilder.build();
+        URI uri = this.uri;
+        if (uri == null) {
+            uri = materializedUriBuilder().build();
+            this.uri = uri;
+        }
+        return uri;
     }
 
     @Override
     public UriBuilder getUriBuilder() {
+        return newUriBuilder();
+    }
+
+    private UriBuilder materializedUriBuilder() {
+        UriBuilder uriBuilder = this.uriBuilder;
+        if (uriBuilder == null) {
+            uriBuilder = newUriBuilder();
+            this.uriBuilder = uriBuilder;
+        }
         return uriBuilder;
     }
 
+    private UriBuilder newUriBuilder() {
+        UriBuilder uriBuilder = this.uriBuilder;
+        if (uriBuilder != null) {
+            return uriBuilder.clone();
+        }
+        // The parent keeps its builder, deriving the builders of the targets of a chain is linear
+        return modification.apply(parent.materializedUriBuilder().clone());
+    }
+
     @Override
     public WebTarget path(String path) {
         Objects.requireNonNull(path, "Path cannot be null");
-        return new JaxRsWebTarget(
-            client,
-            uriBuilder.clone().path(path),
-            configuration
-        );
+        return new JaxRsWebTarget(this, uriBuilder -> uriBuilder.path(path));
     }
 
     @Override
     public WebTarget resolveTemplate(String name, Object value) {
         Objects.requireNonNull(name, "Name cannot be null");
         Objects.requireNonNull(value, "Value cannot be null");
-        return new JaxRsWebTarget(
-            client,
-            uriBuilder.clone().resolveTemplate(name, value),
-            configuration
-        );
+        return new JaxRsWebTarget(this, uriBuilder -> uriBuilder.resolveTemplate(name, value));
     }
 
     @Override
     public WebTarget resolveTemplate(String name, Object value, boolean encodeSlashInPath) {
         Objects.requireNonNull(name, "Name cannot be null");
         Objects.requireNonNull(value, "Value cannot be null");
-        return new JaxRsWebTarget(
-            client,
-            uriBuilder.clone().resolveTemplate(name, value, encodeSlashInPath),
-            configuration
-        );
+        return new JaxRsWebTarget(this, uriBuilder -> uriBuilder.resolveTemplate(name, value, encodeSlashInPath));
     }
 
     @Override
     public WebTarget resolveTemplateFromEncoded(String name, Object value) {
         Objects.requireNonNull(name, "Name cannot be null");
         Objects.requireNonNull(value, "Value cannot be null");
-        return new JaxRsWebTarget(
-            client,
-            uriBuilder.clone().resolveTemplateFromEncoded(name, value),
-            configuration
-        );
+        return new JaxRsWebTarget(this, uriBuilder -> uriBuilder.resolveTemplateFromEncoded(name, value));
     }
 
     @Override
@@ -114,11 +152,8 @@ final class JaxRsWebTarget implements WebTarget, JaxRsConfigurable<WebTarget> {
             return this;
         }
         checkForNullKeysOrValues(templateValues);
-        return new JaxRsWebTarget(
-            client,
-            uriBuilder.clone().resolveTemplates(templateValues),
-            configuration
-        );
+        Map<String, Object> values = new LinkedHashMap<>(templateValues);
+        return new JaxRsWebTarget(this, uriBuilder -> uriBuilder.resolveTemplates(values));
     }
 
     @Override
@@ -128,11 +163,8 @@ final class JaxRsWebTarget implements WebTarget, JaxRsConfigurable<WebTarget> {
             return this;
         }
         checkForNullKeysOrValues(templateValues);
-        return new JaxRsWebTarget(
-            client,
-            uriBuilder.clone().resolveTemplates(templateValues, encodeSlashInPath),
-            configuration
-        );
+        Map<String, Object> values = new LinkedHashMap<>(templateValues);
+        return new JaxRsWebTarget(this, uriBuilder -> uriBuilder.resolveTemplates(values, encodeSlashInPath));
     }
 
     @Override
@@ -142,11 +174,8 @@ final class JaxRsWebTarget implements WebTarget, JaxRsConfigurable<WebTarget> {
             return this;
         }
         checkForNullKeysOrValues(templateValues);
-        return new JaxRsWebTarget(
-            client,
-            uriBuilder.clone().resolveTemplatesFromEncoded(templateValues),
-            configuration
-        );
+        Map<String, Object> values = new LinkedHashMap<>(templateValues);
+        return new JaxRsWebTarget(this, uriBuilder -> uriBuilder.resolveTemplatesFromEncoded(values));
     }
 
     @Override
@@ -155,33 +184,23 @@ final class JaxRsWebTarget implements WebTarget, JaxRsConfigurable<WebTarget> {
         Objects.requireNonNull(values, "Values cannot be null");
         checkForNullValues(values);
         if (values.length == 1 && values[0] == null) {
-            return new JaxRsWebTarget(
-                client,
-                uriBuilder.clone().replaceMatrixParam(name),
-                configuration
-            );
+            return new JaxRsWebTarget(this, uriBuilder -> uriBuilder.replaceMatrixParam(name));
         }
-        return new JaxRsWebTarget(
-            client,
-            uriBuilder.clone().matrixParam(name, values),
-            configuration
-        );
+        Object[] matrixValues = values.clone();
+        return new JaxRsWebTarget(this, uriBuilder -> uriBuilder.matrixParam(name, matrixValues));
     }
 
     @Override
     public WebTarget queryParam(String name, Object... values) {
         Objects.requireNonNull(name, "Name cannot be null");
         checkForNullValues(values);
-        return new JaxRsWebTarget(
-            client,
-            uriBuilder.clone().queryParam(name, values),
-            configuration
-        );
+        Object[] queryValues = values == null ? null : values.clone();
+        return new JaxRsWebTarget(this, uriBuilder -> uriBuilder.queryParam(name, queryValues));
     }
 
     @Override
     public Invocation.Builder request() {
-        return new JaxRsInvocationBuilder(client, uriBuilder.build(), configuration);
+        return new JaxRsInvocationBuilder(client, getUri(), configuration);
     }
 
     @Override
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jaxrs.client;
+
+import jakarta.ws.rs.client.Entity;
+import jakarta.ws.rs.client.RxInvoker;
+import jakarta.ws.rs.core.GenericType;
+import jakarta.ws.rs.core.Response;
+import org.reactivestreams.Publisher;
+
+/**
+ * The reactive invoker returning a {@link Publisher}, available with {@code request().rx(PublisherRxInvoker.class)}.
+ * The invocations returning {@link Response} emit a single response. Other invocations stream the response body:
+ * {@code byte[]} and {@link io.micronaut.core.io.buffer.ByteBuffer} emit the chunks as they are received, any other
+ * type emits the elements of the JSON stream or the JSON array decoded one by one. The elements are requested with
+ * the back-pressure of the subscriber. The response filters run with the status and the headers of the streamed response
+ * before the first element is emitted, they cannot replace the elements. The JSON elements are decoded by the Micronaut
+ * JSON support, the JAX-RS message body readers are not used.
+ *
+ * @author Denis Stepanov
+ * @since 4.7
+ */
+@SuppressWarnings("rawtypes")
+public interface PublisherRxInvoker extends RxInvoker<Publisher> {
+
+    @Override
+    Publisher<Response> get();
+
+    @Override
+    <R> Publisher<R> get(Class<R> responseType);
+
+    @Override
+    <R> Publisher<R> get(GenericType<R> responseType);
+
+    @Override
+    Publisher<Response> put(Entity<?> entity);
+
+    @Override
+    <R> Publisher<R> put(Entity<?> entity, Class<R> responseType);
+
+    @Override
+    <R> Publisher<R> put(Entity<?> entity, GenericType<R> responseType);
+
+    @Override
+    Publisher<Response> post(Entity<?> entity);
+
+    @Override
+    <R> Publisher<R> post(Entity<?> entity, Class<R> responseType);
+
+    @Override
+    <R> Publisher<R> post(Entity<?> entity, GenericType<R> responseType);
+
+    @Override
+    Publisher<Response> delete();
+
+    @Override
+    <R> Publisher<R> delete(Class<R> responseType);
+
+    @Override
+    <R> Publisher<R> delete(GenericType<R> responseType);
+
+    @Override
+    Publisher<Response> head();
+
+    @Override
+    Publisher<Response> options();
+
+    @Override
+    <R> Publisher<R> options(Class<R> responseType);
+
+    @Override
+    <R> Publisher<R> options(GenericType<R> responseType);
+
+    @Override
+    Publisher<Response> trace();
+
+    @Override
+    <R> Publisher<R> trace(Class<R> responseType);
+
+    @Override
+    <R> Publisher<R> trace(GenericType<R> responseType);
+
+    @Override
+    Publisher<Response> method(String name);
+
+    @Override
+    <R> Publisher<R> method(String name, Class<R> responseType);
+
+    @Override
+    <R> Publisher<R> method(String name, GenericType<R> responseType);
+
+    @Override
+    Publisher<Response> method(String name, Entity<?> entity);
+
+    @Override
+    <R> Publisher<R> method(String name, Entity<?> entity, Class<R> responseType);
+
+    @Override
+    <R> Publisher<R> method(String name, Entity<?> entity, GenericType<R> responseType);
+}
@@ -0,0 +1,139 @@
+package io.micronaut.jaxrs.client;
+
+import jakarta.ws.rs.client.Client;
+import jakarta.ws.rs.client.ClientBuilder;
+import jakarta.ws.rs.client.ClientRequestFilter;
+import jakarta.ws.rs.client.WebTarget;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.MessageBodyReader;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConfigurationTest {
+
+    private static TestHttpServer server;
+
+    @BeforeAll
+    static void startServer() throws IOException {
+        server = TestHttpServer.http().route("/hello", exchange -> {
+            byte[] body = "Hello".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "text/plain");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(body);
+            }
+        }).start();
+    }
+
+    @AfterAll
+    static void stopServer() {
+        server.close();
+    }
+
+    @Test
+    void testDerivedTargetConfigurationIsCopiedOnWrite() {
+        ClientRequestFilter parentFilter = requestContext -> { };
+        ClientRequestFilter childFilter = requestContext -> { };
+        ClientRequestFilter lateFilter = requestContext -> { };
+        try (Client client = ClientBuilder.newClient()) {
+            WebTarget parent = client.target(server.url("/")).property("parent", 1).register(parentFilter);
+            WebTarget child = parent.path("child").property("child", 2).register(childFilter);
+            parent.property("late", 3).register(lateFilter);
+
+            assertEquals(1, child.getConfiguration().getProperty("parent"));
+            assertEquals(2, child.getConfiguration().getProperty("child"));
+            assertNull(child.getConfiguration().getProperty("late"));
+            assertTrue(child.getConfiguration().isRegistered(parentFilter));
+            assertTrue(child.getConfiguration().isRegistered(childFilter));
+            assertFalse(child.getConfiguration().isRegistered(lateFilter));
+
+            assertNull(parent.getConfiguration().getProperty("child"));
+            assertFalse(parent.getConfiguration().isRegistered(childFilter));
+            assertFalse(client.getConfiguration().isRegistered(parentFilter));
+        }
+    }
+
+    @Test
+    void testTargetsAreDerivedConcurrently() throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        try (Client client = ClientBuilder.newClient()) {
+            WebTarget parent = client.target(server.url("/")).path("api").queryParam("shared", "yes");
+            List<Future<String>> uris = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                int index = i;
+                uris.add(executorService.submit(() -> parent.path("item").path(String.valueOf(index))
+                    .property("index", index)
+                    .getUri()
+                    .toString()));
+            }
+            for (int i = 0; i < uris.size(); i++) {
+                assertEquals(server.url("/api/item/" + i + "?shared=yes"), uris.get(i).get(10, TimeUnit.SECONDS));
+            }
+            assertNull(parent.getConfiguration().getProperty("index"));
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    void testDeepTargetChain() {
+        try (Client client = ClientBuilder.newClient()) {
+            WebTarget target = client.target(server.url("/"));
+            StringBuilder expected = new StringBuilder(server.url("/"));
+            for (int i = 0; i < 1000; i++) {
+                target = target.path("s" + i);
+                expected.append(i == 0 ? "" : "/").append("s").append(i);
+            }
+            assertEquals(expected.toString(), target.getUri().toString());
+        }
+    }
+
+    @Test
+    void testReaderLookupIsInvalidatedByRegistration() {
+        try (Client client = ClientBuilder.newClient()) {
+            WebTarget target = client.target(server.url("/hello"));
+            // The reader resolved by the shared configuration is memoized
+            assertEquals("Hello", target.request().get(String.class));
+
+            WebTarget upperCase = client.target(server.url("/hello")).register(new UpperCaseReader(), -1);
+            assertEquals("HELLO", upperCase.request().get(String.class));
+
+            assertEquals("Hello", target.request().get(String.class));
+            assertEquals("Hello", client.target(server.url("/hello")).request().get(String.class));
+        }
+    }
+
+    static final class UpperCaseReader implements MessageBodyReader<String> {
+
+        @Override
+        public boolean isReadable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+            return type == String.class;
+        }
+
+        @Override
+        public String readFrom(Class<String> type, Type genericType, Annotation[] annotations, MediaType mediaType,
+                               MultivaluedMap<String, String> httpHeaders, InputStream entityStream) throws IOException {
+            return new String(entityStream.readAllBytes(), StandardCharsets.UTF_8).toUpperCase();
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package io.micronaut.jaxrs.client;
+
+import jakarta.ws.rs.ProcessingException;
+import jakarta.ws.rs.client.Client;
+import jakarta.ws.rs.client.ClientBuilder;
+import jakarta.ws.rs.client.ClientResponseFilter;
+import jakarta.ws.rs.client.InvocationCallback;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InvocationExecutorTest {
+
+    private static final String EXECUTOR_THREAD = "test-executor";
+
+    private static TestHttpServer server;
+    private static volatile CountDownLatch release;
+
+    private ExecutorService executorService;
+    private ScheduledExecutorService scheduledExecutorService;
+
+    @BeforeAll
+    static void startServer() throws IOException {
+        server = TestHttpServer.http().route("/hello", exchange -> {
+            byte[] body = "Hello".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(body);
+            }
+        }).route("/slow", exchange -> {
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        }).start();
+    }
+
+    @AfterAll
+    static void stopServer() {
+        server.close();
+    }
+
+    @BeforeEach
+    void createExecutors() {
+        release = new CountDownLatch(1);
+        executorService = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, EXECUTOR_THREAD));
+        scheduledExecutorService = Executors.newSingleThreadScheduledExecutor();
+    }
+
+    @AfterEach
+    void shutdownExecutors() {
+        release.countDown();
+        executorService.shutdownNow();
+        scheduledExecutorService.shutdownNow();
+    }
+
+    @Test
+    void testAsyncInvocationCompletesOnTheExecutorService() throws Exception {
+        CompletableFuture<String> filterThread = new CompletableFuture<>();
+        ClientResponseFilter filter = (requestContext, responseContext) -> filterThread.complete(Thread.currentThread().getName());
+        try (Client client = ClientBuilder.newBuilder().executorService(executorService).build().register(filter)) {
+            CompletableFuture<String> callbackThread = new CompletableFuture<>();
+            client.target(server.url("/hello")).request().async().get(new InvocationCallback<String>() {
+                @Override
+                public void completed(String response) {
+                    callbackThread.complete(Thread.currentThread().getName() + ":" + response);
+                }
+
+                @Override
+                public void failed(Throwable throwable) {
+                    callbackThread.completeExceptionally(throwable);
+                }
+            });
+
+            assertEquals(EXECUTOR_THREAD + ":Hello", callbackThread.get(10, TimeUnit.SECONDS));
+            assertEquals(EXECUTOR_THREAD, filterThread.get(10, TimeUnit.SECONDS));
+
+            String stageThread = client.target(server.url("/hello")).request().rx().get(String.class)
+                .thenApply(response -> Thread.currentThread().getName())
+                .toCompletableFuture()
+                .get(10, TimeUnit.SECONDS);
+            assertEquals(EXECUTOR_THREAD, stageThread);
+        }
+    }
+
+    @Test
+    void testSyncInvocationReadsTheResponseOnTheCallingThread() {
+        CompletableFuture<Thread> filterThread = new CompletableFuture<>();
+        ClientResponseFilter filter = (requestContext, responseContext) -> filterThread.complete(Thread.currentThread());
+        try (Client client = ClientBuilder.newBuilder().executorService(executorService).build().register(filter)) {
+            assertEquals("Hello", client.target(server.url("/hello")).request().get(String.class));
+            assertSame(Thread.currentThread(), filterThread.getNow(null));
+        }
+    }
+
+    @Test
+    void testStreamedEntityIsReadOnTheDefaultExecutor() throws Exception {
+        CompletableFuture<Thread> filterThread = new CompletableFuture<>();
+        ClientResponseFilter filter = (requestContext, responseContext) -> filterThread.complete(Thread.currentThread());
+        try (Client client = ClientBuilder.newClient().register(filter);
+             InputStream inputStream = client.target(server.url("/hello")).request().get(InputStream.class)) {
+            assertEquals("Hello", new String(inputStream.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        Thread thread = filterThread.get(10, TimeUnit.SECONDS);
+        if (Runtime.version().feature() >= 21) {
+            assertTrue(thread.toString().startsWith("VirtualThread"), thread.toString());
+        } else {
+            assertTrue(thread.getName().startsWith("jaxrs-client-"), thread.getName());
+        }
+    }
+
+    @Test
+    void testAsyncInvocationTimesOut() {
+        try (Client client = ClientBuilder.newBuilder()
+            .readTimeout(200, TimeUnit.MILLISECONDS)
+            .scheduledExecutorService(scheduledExecutorService)
+            .build()) {
+            Future<String> future = client.target(server.url("/slow")).request().async().get(String.class);
+
+            ExecutionException e = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(ProcessingException.class, e.getCause());
+            assertTimeout(e.getCause());
+        }
+    }
+
+    @Test
+    void testSyncInvocationTimesOut() {
+        try (Client client = ClientBuilder.newBuilder().readTimeout(200, TimeUnit.MILLISECONDS).build()) {
+            long start = System.nanoTime();
+            ProcessingException e = assertThrows(ProcessingException.class, () -> client.target(server.url("/slow")).request().get(String.class));
+            assertTimeout(e);
+            assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5));
+
+            // The client is still usable after the timed out exchange is cancelled
+            release.countDown();
+            assertEquals("Hello", client.target(server.url("/hello")).request().get(String.class));
+        }
+    }
+
+    private static void assertTimeout(Throwable throwable) {
+        // Either the invocation timeout or the read timeout of the HTTP client, whichever fires first
+        for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+            if (cause instanceof TimeoutException || cause.getClass().getSimpleName().contains("Timeout")) {
+                return;
+            }
+        }
+        throw new AssertionError("Not a timeout", throwable);
+    }
+}
@@ -0,0 +1,113 @@
+package io.micronaut.jaxrs.client;
+
+import io.micronaut.http.client.netty.DefaultHttpClient;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JaxRsHttpClientRegistryTest {
+
+    @Test
+    void testClientIsClosedOnLastRelease() throws Exception {
+        JaxRsHttpClientRegistry.Key key = key("close");
+        AtomicInteger created = new AtomicInteger();
+        Supplier<DefaultHttpClient> factory = () -> {
+            created.incrementAndGet();
+            return DefaultHttpClient.builder().build();
+        };
+
+        JaxRsHttpClientRegistry.Lease first = JaxRsHttpClientRegistry.acquire(key, factory);
+        JaxRsHttpClientRegistry.Lease second = JaxRsHttpClientRegistry.acquire(key, factory);
+        assertSame(first.httpClient(), second.httpClient());
+        assertEquals(1, created.get());
+
+        first.release();
+        first.release();
+        assertTrue(second.httpClient().isRunning());
+
+        second.release();
+        awaitStopped(second.httpClient());
+
+        JaxRsHttpClientRegistry.Lease third = JaxRsHttpClientRegistry.acquire(key, factory);
+        assertNotSame(first.httpClient(), third.httpClient());
+        assertEquals(2, created.get());
+        third.release();
+    }
+
+    @Test
+    void testClientIsCreatedOutsideTheLock() throws Exception {
+        CountDownLatch creating = new CountDownLatch(1);
+        CountDownLatch proceed = new CountDownLatch(1);
+        AtomicInteger created = new AtomicInteger();
+        JaxRsHttpClientRegistry.Key slowKey = key("slow");
+        Supplier<DefaultHttpClient> slowFactory = () -> {
+            created.incrementAndGet();
+            creating.countDown();
+            try {
+                proceed.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return DefaultHttpClient.builder().build();
+        };
+
+        CompletableFuture<JaxRsHttpClientRegistry.Lease> first = CompletableFuture.supplyAsync(() -> JaxRsHttpClientRegistry.acquire(slowKey, slowFactory));
+        assertTrue(creating.await(10, TimeUnit.SECONDS));
+        CompletableFuture<JaxRsHttpClientRegistry.Lease> second = CompletableFuture.supplyAsync(() -> JaxRsHttpClientRegistry.acquire(slowKey, slowFactory));
+
+        // Another configuration is not blocked by the client being created
+        JaxRsHttpClientRegistry.Lease other = JaxRsHttpClientRegistry.acquire(key("other"), () -> DefaultHttpClient.builder().build());
+        other.release();
+        assertFalse(first.isDone());
+        assertFalse(second.isDone());
+
+        proceed.countDown();
+        JaxRsHttpClientRegistry.Lease firstLease = first.get(10, TimeUnit.SECONDS);
+        JaxRsHttpClientRegistry.Lease secondLease = second.get(10, TimeUnit.SECONDS);
+        assertSame(firstLease.httpClient(), secondLease.httpClient());
+        assertEquals(1, created.get());
+        firstLease.release();
+        secondLease.release();
+        awaitStopped(firstLease.httpClient());
+    }
+
+    @Test
+    void testFailedCreationIsNotCached() {
+        JaxRsHttpClientRegistry.Key key = key("failure");
+
+        assertThrows(IllegalStateException.class, () -> JaxRsHttpClientRegistry.acquire(key, () -> {
+            throw new IllegalStateException("Failed");
+        }));
+
+        JaxRsHttpClientRegistry.Lease lease = JaxRsHttpClientRegistry.acquire(key, () -> DefaultHttpClient.builder().build());
+        assertTrue(lease.httpClient().isRunning());
+        lease.release();
+    }
+
+    private static void awaitStopped(DefaultHttpClient httpClient) throws InterruptedException {
+        // The event loop group is shut down gracefully
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (httpClient.isRunning()) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("The HTTP client is still running");
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    private static JaxRsHttpClientRegistry.Key key(String name) {
+        return new JaxRsHttpClientRegistry.Key(null, null, Map.of("test", name), null, null);
+    }
+}
@@ -0,0 +1,264 @@
+package io.micronaut.jaxrs.client;
+
+import io.netty.buffer.ByteBuf;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JaxRsStreamingRequestBodyTest {
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testSmallBodyIsWrittenAsBytes() throws Exception {
+        AtomicBoolean committed = new AtomicBoolean();
+        Object body = JaxRsStreamingRequestBody.write(
+            outputStream -> outputStream.write("hello".getBytes(StandardCharsets.UTF_8)),
+            () -> committed.set(true),
+            executor
+        );
+
+        assertArrayEquals("hello".getBytes(StandardCharsets.UTF_8), (byte[]) body);
+        assertTrue(committed.get());
+    }
+
+    @Test
+    void testWriterFailureBeforeFirstChunk() {
+        IOException e = assertThrows(IOException.class, () -> JaxRsStreamingRequestBody.write(
+            outputStream -> {
+                throw new IOException("Failed");
+            },
+            () -> {
+            },
+            executor
+        ));
+
+        assertEquals("Failed", e.getMessage());
+    }
+
+    @Test
+    void testChunking() throws Exception {
+        byte[] bytes = new byte[3 * JaxRsStreamingRequestBody.CHUNK_SIZE + 100];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) i;
+        }
+        AtomicBoolean committed = new AtomicBoolean();
+        Object body = JaxRsStreamingRequestBody.write(outputStream -> outputStream.write(bytes), () -> committed.set(true), executor);
+        assertTrue(committed.get());
+        assertInstanceOf(JaxRsStreamingRequestBody.class, body);
+
+        CollectingSubscriber subscriber = new CollectingSubscriber();
+        ((JaxRsStreamingRequestBody) body).subscribe(subscriber);
+        subscriber.request(Long.MAX_VALUE);
+        subscriber.completion.get(10, TimeUnit.SECONDS);
+
+        assertEquals(List.of(JaxRsStreamingRequestBody.CHUNK_SIZE, JaxRsStreamingRequestBody.CHUNK_SIZE, JaxRsStreamingRequestBody.CHUNK_SIZE, 100), subscriber.sizes);
+        assertArrayEquals(bytes, subscriber.bytes.toByteArray());
+    }
+
+    @Test
+    void testWriterIsHandedOffWhenTheExecutorIsBusy() throws Exception {
+        ExecutorService singleThreadExecutor = Executors.newSingleThreadExecutor();
+        try {
+            byte[] bytes = new byte[JaxRsStreamingRequestBody.CHUNK_SIZE * 3];
+            // The only thread of the executor waits for the writer submitted to the same executor
+            CompletableFuture<Object> body = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return JaxRsStreamingRequestBody.write(outputStream -> outputStream.write(bytes), () -> {
+                    }, singleThreadExecutor);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }, singleThreadExecutor);
+
+            CollectingSubscriber subscriber = new CollectingSubscriber();
+            ((JaxRsStreamingRequestBody) body.get(10, TimeUnit.SECONDS)).subscribe(subscriber);
+            subscriber.request(Long.MAX_VALUE);
+            subscriber.completion.get(10, TimeUnit.SECONDS);
+
+            assertArrayEquals(bytes, subscriber.bytes.toByteArray());
+        } finally {
+            singleThreadExecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testBackPressure() throws Exception {
+        int chunks = 20;
+        AtomicInteger written = new AtomicInteger();
+        Object body = JaxRsStreamingRequestBody.write(outputStream -> {
+            for (int i = 0; i < chunks; i++) {
+                outputStream.write(new byte[JaxRsStreamingRequestBody.CHUNK_SIZE]);
+                written.incrementAndGet();
+            }
+        }, () -> {
+        }, executor);
+
+        CollectingSubscriber subscriber = new CollectingSubscriber();
+        ((JaxRsStreamingRequestBody) body).subscribe(subscriber);
+        subscriber.request(1);
+
+        // One chunk is emitted, the writer is blocked once the buffer is full
+        int expected = 1 + JaxRsStreamingRequestBody.MAX_BUFFERED_CHUNKS;
+        await(() -> written.get() == expected);
+        Thread.sleep(100);
+        assertEquals(expected, written.get());
+        assertEquals(1, subscriber.sizes.size());
+
+        subscriber.request(Long.MAX_VALUE);
+        subscriber.completion.get(10, TimeUnit.SECONDS);
+        assertEquals(chunks, written.get());
+        assertEquals(chunks, subscriber.sizes.size());
+    }
+
+    @Test
+    void testCancelUnblocksTheWriter() throws Exception {
+        CompletableFuture<Throwable> writerFailure = new CompletableFuture<>();
+        Object body = JaxRsStreamingRequestBody.write(outputStream -> writeForever(outputStream, writerFailure), () -> {
+        }, executor);
+
+        CollectingSubscriber subscriber = new CollectingSubscriber();
+        ((JaxRsStreamingRequestBody) body).subscribe(subscriber);
+        subscriber.request(2);
+        await(() -> subscriber.sizes.size() == 2);
+
+        subscriber.subscription.cancel();
+
+        assertInstanceOf(IOException.class, writerFailure.get(10, TimeUnit.SECONDS));
+        assertEquals(2, subscriber.sizes.size());
+        assertFalse(subscriber.completion.isDone());
+    }
+
+    @Test
+    void testCancelBeforeSubscription() throws Exception {
+        CompletableFuture<Throwable> writerFailure = new CompletableFuture<>();
+        Object body = JaxRsStreamingRequestBody.write(outputStream -> writeForever(outputStream, writerFailure), () -> {
+        }, executor);
+
+        ((JaxRsStreamingRequestBody) body).cancel();
+
+        assertInstanceOf(IOException.class, writerFailure.get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testWriterFailureAfterFirstChunk() throws Exception {
+        Object body = JaxRsStreamingRequestBody.write(outputStream -> {
+            outputStream.write(new byte[JaxRsStreamingRequestBody.CHUNK_SIZE]);
+            throw new IOException("Aborted");
+        }, () -> {
+        }, executor);
+
+        CollectingSubscriber subscriber = new CollectingSubscriber();
+        ((JaxRsStreamingRequestBody) body).subscribe(subscriber);
+        subscriber.request(Long.MAX_VALUE);
+
+        Throwable failure = assertThrows(Exception.class, () -> subscriber.completion.get(10, TimeUnit.SECONDS)).getCause();
+        assertEquals("Aborted", failure.getMessage());
+        assertEquals(1, subscriber.sizes.size());
+    }
+
+    @Test
+    void testSingleSubscription() throws Exception {
+        Object body = JaxRsStreamingRequestBody.write(outputStream -> outputStream.write(new byte[2 * JaxRsStreamingRequestBody.CHUNK_SIZE]), () -> {
+        }, executor);
+        JaxRsStreamingRequestBody streamingBody = (JaxRsStreamingRequestBody) body;
+        CollectingSubscriber first = new CollectingSubscriber();
+        streamingBody.subscribe(first);
+        CollectingSubscriber second = new CollectingSubscriber();
+        streamingBody.subscribe(second);
+
+        Throwable failure = assertThrows(Exception.class, () -> second.completion.get(10, TimeUnit.SECONDS)).getCause();
+        assertInstanceOf(IllegalStateException.class, failure);
+        first.subscription.cancel();
+    }
+
+    private static void writeForever(OutputStream outputStream, CompletableFuture<Throwable> writerFailure) throws IOException {
+        try {
+            while (true) {
+                outputStream.write(new byte[JaxRsStreamingRequestBody.CHUNK_SIZE]);
+            }
+        } catch (IOException e) {
+            writerFailure.complete(e);
+            throw e;
+        }
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("Condition not met");
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    private static final class CollectingSubscriber implements Subscriber<ByteBuf> {
+
+        private final List<Integer> sizes = new CopyOnWriteArrayList<>();
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final CompletableFuture<Void> completion = new CompletableFuture<>();
+        private volatile Subscription subscription;
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        void request(long n) {
+            subscription.request(n);
+        }
+
+        @Override
+        public void onNext(ByteBuf chunk) {
+            try {
+                sizes.add(chunk.readableBytes());
+                byte[] array = new byte[chunk.readableBytes()];
+                chunk.readBytes(array);
+                synchronized (bytes) {
+                    bytes.writeBytes(array);
+                }
+            } finally {
+                chunk.release();
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            completion.completeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            completion.complete(null);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package io.micronaut.jaxrs.client;
+
+import io.micronaut.buffer.netty.NettyByteBufferFactory;
+import io.micronaut.core.io.buffer.ByteBuffer;
+import io.micronaut.http.HttpResponse;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JaxRsStreamingResponseBodyTest {
+
+    private final List<ByteBuf> buffers = new ArrayList<>();
+    private final AtomicLong requested = new AtomicLong();
+    private final AtomicBoolean cancelled = new AtomicBoolean();
+
+    @Test
+    void testChunksArePrefetched() throws Exception {
+        JaxRsStreamingResponseBody body = subscribedBody();
+        assertEquals(JaxRsStreamingResponseBody.PREFETCH, requested.get());
+
+        body.onNext(chunk("abc"));
+        body.onNext(chunk("def"));
+        assertEquals(200, body.getHead().get(10, TimeUnit.SECONDS).code());
+
+        InputStream inputStream = body.getInputStream();
+        byte[] bytes = new byte[2];
+        assertEquals(2, inputStream.read(bytes));
+        // The partially read chunk isn't requested again
+        assertEquals(JaxRsStreamingResponseBody.PREFETCH, requested.get());
+        assertEquals('c', inputStream.read());
+        assertEquals(JaxRsStreamingResponseBody.PREFETCH + 1, requested.get());
+
+        body.onComplete();
+        assertEquals("def", new String(inputStream.readAllBytes(), StandardCharsets.UTF_8));
+        assertEquals(-1, inputStream.read());
+        assertAllReleased();
+    }
+
+    @Test
+    void testCloseReleasesTheChunks() throws Exception {
+        JaxRsStreamingResponseBody body = subscribedBody();
+        body.onNext(chunk("first"));
+        body.onNext(chunk("second"));
+        body.onNext(chunk("third"));
+
+        InputStream inputStream = body.getInputStream();
+        assertEquals('f', inputStream.read());
+        inputStream.close();
+
+        assertTrue(cancelled.get());
+        assertAllReleased();
+        assertEquals(-1, inputStream.read());
+
+        // A chunk racing with the cancellation is released
+        body.onNext(chunk("late"));
+        assertAllReleased();
+    }
+
+    @Test
+    void testEmptyBodyCompletesTheHead() throws Exception {
+        JaxRsStreamingResponseBody body = subscribedBody();
+        body.onComplete();
+
+        assertNull(body.getHead().get(10, TimeUnit.SECONDS));
+        assertEquals(-1, body.getInputStream().read());
+    }
+
+    @Test
+    void testFailureAfterTheFirstChunk() throws Exception {
+        JaxRsStreamingResponseBody body = subscribedBody();
+        body.onNext(chunk("partial"));
+        body.onError(new IllegalStateException("Connection reset"));
+
+        InputStream inputStream = body.getInputStream();
+        assertEquals("partial", new String(inputStream.readNBytes(7), StandardCharsets.UTF_8));
+        IOException e = assertThrows(IOException.class, inputStream::read);
+        assertTrue(e.getMessage().contains("Connection reset"), e.getMessage());
+        inputStream.close();
+        assertAllReleased();
+    }
+
+    private JaxRsStreamingResponseBody subscribedBody() {
+        JaxRsStreamingResponseBody body = new JaxRsStreamingResponseBody();
+        body.onSubscribe(new Subscription() {
+            @Override
+            public void request(long n) {
+                requested.addAndGet(n);
+            }
+
+            @Override
+            public void cancel() {
+                cancelled.set(true);
+            }
+        });
+        return body;
+    }
+
+    private HttpResponse<ByteBuffer<?>> chunk(String text) {
+        ByteBuf byteBuf = Unpooled.copiedBuffer(text, StandardCharsets.UTF_8);
+        buffers.add(byteBuf);
+        return HttpResponse.ok(NettyByteBufferFactory.DEFAULT.wrap(byteBuf));
+    }
+
+    private void assertAllReleased() {
+        for (ByteBuf buffer : buffers) {
+            assertEquals(0, buffer.refCnt());
+        }
+    }
+}
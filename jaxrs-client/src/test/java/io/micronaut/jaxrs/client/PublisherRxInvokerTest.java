@@ -0,0 +1,203 @@
+package io.micronaut.jaxrs.client;
+
+import jakarta.ws.rs.ProcessingException;
+import jakarta.ws.rs.client.Client;
+import jakarta.ws.rs.client.ClientBuilder;
+import jakarta.ws.rs.client.ClientResponseFilter;
+import jakarta.ws.rs.core.Response;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PublisherRxInvokerTest {
+
+    private static TestHttpServer server;
+
+    @BeforeAll
+    static void startServer() throws IOException {
+        server = TestHttpServer.http().route("/stream", exchange -> {
+            exchange.getResponseHeaders().add("X-Test", "streamed");
+            // Chunked transfer encoding
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write("Hello ".getBytes(StandardCharsets.UTF_8));
+                outputStream.flush();
+                outputStream.write("World".getBytes(StandardCharsets.UTF_8));
+            }
+        }).route("/ndjson", exchange -> {
+            exchange.getResponseHeaders().add("Content-Type", "application/x-ndjson");
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                for (int i = 1; i <= 3; i++) {
+                    outputStream.write(("{\"id\":" + i + ",\"name\":\"item" + i + "\"}\n").getBytes(StandardCharsets.UTF_8));
+                    outputStream.flush();
+                }
+            }
+        }).start();
+    }
+
+    @AfterAll
+    static void stopServer() {
+        server.close();
+    }
+
+    @Test
+    void testStreamRunsResponseFilters() throws Exception {
+        List<String> filtered = new CopyOnWriteArrayList<>();
+        ClientResponseFilter filter = (requestContext, responseContext) ->
+            filtered.add(responseContext.getStatus() + " " + responseContext.getHeaderString("X-Test"));
+        try (Client client = ClientBuilder.newClient().register(filter)) {
+            Publisher<byte[]> publisher = client.target(url()).request().rx(PublisherRxInvoker.class).get(byte[].class);
+
+            assertEquals("Hello World", collect(publisher).get(10, TimeUnit.SECONDS));
+            assertEquals(List.of("200 streamed"), filtered);
+        }
+    }
+
+    @Test
+    void testStreamFailsIfResponseFilterFails() {
+        ClientResponseFilter filter = (requestContext, responseContext) -> {
+            throw new IOException("Rejected");
+        };
+        try (Client client = ClientBuilder.newClient().register(filter)) {
+            Publisher<byte[]> publisher = client.target(url()).request().rx(PublisherRxInvoker.class).get(byte[].class);
+
+            ExecutionException e = assertThrows(ExecutionException.class, () -> collect(publisher).get(10, TimeUnit.SECONDS));
+            assertInstanceOf(ProcessingException.class, e.getCause());
+        }
+    }
+
+    @Test
+    void testResponseIsEmittedOnce() throws Exception {
+        try (Client client = ClientBuilder.newClient()) {
+            Publisher<Response> publisher = client.target(url()).request().rx(PublisherRxInvoker.class).get();
+
+            CompletableFuture<Response> result = new CompletableFuture<>();
+            publisher.subscribe(new Subscriber<>() {
+                @Override
+                public void onSubscribe(Subscription subscription) {
+                    subscription.request(Long.MAX_VALUE);
+                }
+
+                @Override
+                public void onNext(Response response) {
+                    result.complete(response);
+                }
+
+                @Override
+                public void onError(Throwable throwable) {
+                    result.completeExceptionally(throwable);
+                }
+
+                @Override
+                public void onComplete() {
+                    result.complete(null);
+                }
+            });
+            Response response = result.get(10, TimeUnit.SECONDS);
+            assertEquals(200, response.getStatus());
+            assertEquals("streamed", response.getHeaderString("X-Test"));
+            assertEquals("Hello World", response.readEntity(String.class));
+        }
+    }
+
+    @Test
+    void testJsonStreamEmitsEachElement() throws Exception {
+        List<String> filtered = new CopyOnWriteArrayList<>();
+        ClientResponseFilter filter = (requestContext, responseContext) -> filtered.add(responseContext.getMediaType().toString());
+        try (Client client = ClientBuilder.newClient().register(filter)) {
+            Publisher<Map> publisher = client.target(server.url("/ndjson"))
+                .request("application/x-ndjson")
+                .rx(PublisherRxInvoker.class)
+                .get(Map.class);
+
+            List<Map> elements = new CopyOnWriteArrayList<>();
+            CompletableFuture<Void> completion = new CompletableFuture<>();
+            publisher.subscribe(new Subscriber<>() {
+
+                private Subscription subscription;
+
+                @Override
+                public void onSubscribe(Subscription subscription) {
+                    this.subscription = subscription;
+                    subscription.request(1);
+                }
+
+                @Override
+                public void onNext(Map element) {
+                    elements.add(element);
+                    subscription.request(1);
+                }
+
+                @Override
+                public void onError(Throwable throwable) {
+                    completion.completeExceptionally(throwable);
+                }
+
+                @Override
+                public void onComplete() {
+                    completion.complete(null);
+                }
+            });
+            completion.get(10, TimeUnit.SECONDS);
+
+            assertEquals(3, elements.size());
+            for (int i = 0; i < elements.size(); i++) {
+                assertEquals(i + 1, ((Number) elements.get(i).get("id")).intValue());
+                assertEquals("item" + (i + 1), elements.get(i).get("name"));
+            }
+            assertEquals(List.of("application/x-ndjson"), filtered);
+        }
+    }
+
+    private static String url() {
+        return server.url("/stream");
+    }
+
+    private static CompletableFuture<String> collect(Publisher<byte[]> publisher) {
+        CompletableFuture<String> result = new CompletableFuture<>();
+        publisher.subscribe(new Subscriber<>() {
+
+            private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+            @Override
+            public void onSubscribe(Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(byte[] chunk) {
+                bytes.writeBytes(chunk);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                result.completeExceptionally(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                result.complete(bytes.toString(StandardCharsets.UTF_8));
+            }
+        });
+        return result;
+    }
+}
@@ -0,0 +1,185 @@
+package io.micronaut.jaxrs.client;
+
+import jakarta.ws.rs.client.Client;
+import jakarta.ws.rs.client.ClientBuilder;
+import jakarta.ws.rs.sse.SseEventSource;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SseEventSourceTest {
+
+    private static final AtomicInteger CONNECTIONS = new AtomicInteger();
+    private static final List<String> LAST_EVENT_IDS = new CopyOnWriteArrayList<>();
+
+    private static TestHttpServer server;
+
+    @BeforeAll
+    static void startServer() throws IOException {
+        server = TestHttpServer.http().route("/events", exchange -> {
+            int connection = CONNECTIONS.incrementAndGet();
+            LAST_EVENT_IDS.add(String.valueOf(exchange.getRequestHeaders().getFirst("Last-Event-ID")));
+            exchange.getResponseHeaders().add("Content-Type", "text/event-stream");
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                // The stream completes after each event and the client reconnects
+                String event = "retry: 50\nid: " + connection + "\ndata: event " + connection + "\n\n";
+                outputStream.write(event.getBytes(StandardCharsets.UTF_8));
+            }
+        }).route("/single", exchange -> {
+            exchange.getResponseHeaders().add("Content-Type", "text/event-stream");
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write("data: event\n\n".getBytes(StandardCharsets.UTF_8));
+            }
+        }).start();
+    }
+
+    @AfterAll
+    static void stopServer() {
+        server.close();
+    }
+
+    @Test
+    void testReconnectSendsTheLastEventId() throws Exception {
+        List<String> events = new CopyOnWriteArrayList<>();
+        List<Throwable> errors = new CopyOnWriteArrayList<>();
+        try (Client client = ClientBuilder.newClient();
+             SseEventSource source = SseEventSource.target(client.target(server.url("/events")))
+                 .reconnectingEvery(10, TimeUnit.SECONDS)
+                 .build()) {
+            source.register(event -> events.add(event.getId() + ":" + event.readData()), errors::add);
+            source.open();
+
+            // The retry value sent by the server replaces the reconnect delay
+            await(() -> events.size() >= 3);
+            assertTrue(source.isOpen());
+        }
+
+        assertEquals(List.of("1:event 1", "2:event 2", "3:event 3"), events.subList(0, 3));
+        assertEquals(List.of("null", "1", "2"), LAST_EVENT_IDS.subList(0, 3));
+        assertTrue(errors.isEmpty(), errors::toString);
+    }
+
+    @Test
+    void testConnectionFailureIsReportedBeforeReconnecting() throws Exception {
+        List<String> signals = new CopyOnWriteArrayList<>();
+        try (ServerSocket serverSocket = new ServerSocket(0);
+             Client client = ClientBuilder.newClient()) {
+            Thread acceptor = new Thread(() -> acceptConnections(serverSocket));
+            acceptor.setDaemon(true);
+            acceptor.start();
+
+            SseEventSource source = SseEventSource.target(client.target("http://localhost:" + serverSocket.getLocalPort() + "/events"))
+                .reconnectingEvery(50, TimeUnit.MILLISECONDS)
+                .build();
+            source.register(
+                event -> signals.add("event:" + event.readData()),
+                throwable -> signals.add("error")
+            );
+            source.open();
+
+            await(() -> signals.contains("event:recovered"));
+            source.close();
+            assertFalse(source.isOpen());
+        }
+
+        List<String> beforeEvent = new ArrayList<>(signals.subList(0, signals.indexOf("event:recovered")));
+        assertFalse(beforeEvent.isEmpty());
+        assertTrue(beforeEvent.stream().allMatch("error"::equals), signals::toString);
+    }
+
+    @Test
+    void testCloseNotifiesCompletionConsumers() throws Exception {
+        try (Client client = ClientBuilder.newClient()) {
+            SseEventSource source = SseEventSource.target(client.target(server.url("/single"))).build();
+            List<String> events = new CopyOnWriteArrayList<>();
+            List<String> completions = new CopyOnWriteArrayList<>();
+            source.register(event -> events.add(event.readData()), throwable -> {
+            }, () -> completions.add("completed"));
+            source.open();
+            await(() -> !events.isEmpty());
+
+            assertTrue(source.close(1, TimeUnit.SECONDS));
+            assertFalse(source.isOpen());
+            assertEquals(List.of("completed"), completions);
+        }
+    }
+
+    @Test
+    void testConsumersDoNotRunOnTheEventLoop() throws Exception {
+        List<String> threads = new CopyOnWriteArrayList<>();
+        try (Client client = ClientBuilder.newClient();
+             SseEventSource source = SseEventSource.target(client.target(server.url("/single"))).build()) {
+            source.register(event -> threads.add(Thread.currentThread().toString()));
+            source.open();
+            await(() -> !threads.isEmpty());
+        }
+
+        assertFalse(threads.get(0).toLowerCase(Locale.ROOT).contains("eventloop"), threads::toString);
+    }
+
+    private static void acceptConnections(ServerSocket serverSocket) {
+        int connection = 0;
+        while (!serverSocket.isClosed()) {
+            try (Socket socket = serverSocket.accept()) {
+                connection++;
+                if (connection == 1) {
+                    // Drop the connection without a response
+                    continue;
+                }
+                readRequestHead(socket);
+                String response = """
+                    HTTP/1.1 200 OK\r
+                    Content-Type: text/event-stream\r
+                    Connection: close\r
+                    \r
+                    data: recovered
+
+                    """;
+                socket.getOutputStream().write(response.getBytes(StandardCharsets.UTF_8));
+                socket.getOutputStream().flush();
+            } catch (IOException e) {
+                // Closed by the test
+            }
+        }
+    }
+
+    private static void readRequestHead(Socket socket) throws IOException {
+        StringBuilder head = new StringBuilder();
+        int b;
+        while ((b = socket.getInputStream().read()) != -1) {
+            head.append((char) b);
+            if (head.toString().endsWith("\r\n\r\n")) {
+                return;
+            }
+        }
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("Condition not met");
+            }
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package io.micronaut.jaxrs.client;
+
+import jakarta.ws.rs.ProcessingException;
+import jakarta.ws.rs.client.Client;
+import jakarta.ws.rs.client.ClientBuilder;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import javax.net.ssl.HttpsURLConnection;
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLContext;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyStore;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SslTest {
+
+    private static final char[] PASSWORD = "password".toCharArray();
+
+    private static TestHttpServer server;
+    private static KeyStore trustStore;
+
+    @BeforeAll
+    static void startServer() throws Exception {
+        KeyManagerFactory keyManagerFactory = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+        keyManagerFactory.init(loadKeyStore("ssl/server.p12"), PASSWORD);
+        SSLContext sslContext = SSLContext.getInstance("TLS");
+        sslContext.init(keyManagerFactory.getKeyManagers(), null, null);
+        trustStore = loadKeyStore("ssl/truststore.p12");
+
+        server = TestHttpServer.https(sslContext).route("/hello", exchange -> {
+            byte[] body = "Hello".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(body);
+            }
+        }).start();
+    }
+
+    @AfterAll
+    static void stopServer() {
+        server.close();
+    }
+
+    @Test
+    void testEndpointIdentification() {
+        // The certificate is issued for localhost only
+        try (Client client = ClientBuilder.newBuilder().trustStore(trustStore).build()) {
+            assertEquals("Hello", client.target(url("localhost")).request().get(String.class));
+            assertThrows(ProcessingException.class, () -> client.target(url("127.0.0.1")).request().get(String.class));
+        }
+    }
+
+    @Test
+    void testClientSslContextIsTheConnectionContext() throws Exception {
+        ClientBuilder builder = ClientBuilder.newBuilder().trustStore(trustStore);
+        try (Client client = builder.build(); Client other = builder.build()) {
+            assertNotSame(SSLContext.getDefault(), client.getSslContext());
+            assertSame(client.getSslContext(), other.getSslContext());
+            // The context trusts the test certificate
+            HttpsURLConnection connection = (HttpsURLConnection) URI.create(url("localhost")).toURL().openConnection();
+            connection.setSSLSocketFactory(client.getSslContext().getSocketFactory());
+            try (InputStream inputStream = connection.getInputStream()) {
+                assertEquals("Hello", new String(inputStream.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+        SSLContext sslContext = SSLContext.getInstance("TLS");
+        sslContext.init(null, null, null);
+        try (Client client = ClientBuilder.newBuilder().sslContext(sslContext).build()) {
+            assertSame(sslContext, client.getSslContext());
+        }
+    }
+
+    @Test
+    void testHostnameVerifierReplacesEndpointIdentification() {
+        try (Client client = ClientBuilder.newBuilder()
+            .trustStore(trustStore)
+            .hostnameVerifier((host, session) -> true)
+            .build()) {
+            assertEquals("Hello", client.target(url("127.0.0.1")).request().get(String.class));
+        }
+        try (Client client = ClientBuilder.newBuilder()
+            .trustStore(trustStore)
+            .hostnameVerifier((host, session) -> false)
+            .build()) {
+            assertThrows(ProcessingException.class, () -> client.target(url("localhost")).request().get(String.class));
+        }
+    }
+
+    private static String url(String host) {
+        return server.url(host, "/hello");
+    }
+
+    private static KeyStore loadKeyStore(String resource) throws Exception {
+        KeyStore keyStore = KeyStore.getInstance("PKCS12");
+        try (InputStream inputStream = SslTest.class.getClassLoader().getResourceAsStream(resource)) {
+            keyStore.load(inputStream, PASSWORD);
+        }
+        return keyStore;
+    }
+}
@@ -0,0 +1,151 @@
+package io.micronaut.jaxrs.client;
+
+import jakarta.ws.rs.client.Client;
+import jakarta.ws.rs.client.ClientBuilder;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class StreamingResponseTest {
+
+    private static final int LARGE_CHUNKS = 1000;
+    private static final int LARGE_CHUNK_SIZE = 8192;
+
+    private static TestHttpServer server;
+    private static volatile CountDownLatch proceed;
+    private static volatile CompletableFuture<Throwable> largeWriteFailure;
+
+    @BeforeAll
+    static void startServer() throws IOException {
+        server = TestHttpServer.http().route("/chunks", exchange -> {
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write("first;".getBytes(StandardCharsets.UTF_8));
+                outputStream.flush();
+                // The rest of the body is sent once the test read the first chunk
+                proceed.await(10, TimeUnit.SECONDS);
+                outputStream.write("second;".getBytes(StandardCharsets.UTF_8));
+                outputStream.flush();
+                outputStream.write("third".getBytes(StandardCharsets.UTF_8));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }).route("/large", exchange -> {
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                for (int i = 0; i < LARGE_CHUNKS; i++) {
+                    outputStream.write(new byte[LARGE_CHUNK_SIZE]);
+                    outputStream.flush();
+                }
+                largeWriteFailure.complete(null);
+            } catch (IOException e) {
+                largeWriteFailure.complete(e);
+            }
+        }).route("/hello", exchange -> {
+            byte[] body = "Hello".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(body);
+            }
+        }).start();
+    }
+
+    @AfterAll
+    static void stopServer() {
+        server.close();
+    }
+
+    @BeforeEach
+    void reset() {
+        proceed = new CountDownLatch(1);
+        largeWriteFailure = new CompletableFuture<>();
+    }
+
+    @Test
+    void testInputStreamIsReadIncrementally() throws Exception {
+        try (Client client = ClientBuilder.newClient()) {
+            // The stream is returned before the body is complete
+            try (InputStream inputStream = client.target(server.url("/chunks")).request().get(InputStream.class)) {
+                assertEquals("first;", new String(inputStream.readNBytes(6), StandardCharsets.UTF_8));
+                proceed.countDown();
+                assertEquals("second;third", new String(inputStream.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+    }
+
+    @Test
+    void testReaderIsReadIncrementally() throws Exception {
+        try (Client client = ClientBuilder.newClient();
+             Reader reader = client.target(server.url("/chunks")).request().get(Reader.class)) {
+            char[] chars = new char[6];
+            int read = 0;
+            while (read < chars.length) {
+                read += reader.read(chars, read, chars.length - read);
+            }
+            assertEquals("first;", new String(chars));
+            proceed.countDown();
+            StringWriter writer = new StringWriter();
+            reader.transferTo(writer);
+            assertEquals("second;third", writer.toString());
+        }
+    }
+
+    @Test
+    void testClosingPartiallyReadStreamReleasesTheConnection() throws Exception {
+        try (Client client = ClientBuilder.newBuilder()
+            .property(JaxRsClientBuilder.CONNECTION_POOL_MAX_CONNECTIONS_PER_HOST, 1)
+            .build()) {
+            InputStream inputStream = client.target(server.url("/large")).request().get(InputStream.class);
+            assertEquals(LARGE_CHUNK_SIZE, inputStream.readNBytes(LARGE_CHUNK_SIZE).length);
+            inputStream.close();
+
+            // The response isn't read to the end, the server stops writing once the connection is released
+            largeWriteFailure.get(10, TimeUnit.SECONDS);
+            // The single pooled connection is available again
+            assertEquals("Hello", client.target(server.url("/hello")).request().get(String.class));
+        }
+    }
+
+    @Test
+    void testBufferedResponseEntityProcessing() throws Exception {
+        try (Client client = ClientBuilder.newBuilder()
+            .property(JaxRsInvocation.RESPONSE_ENTITY_PROCESSING, JaxRsInvocation.RESPONSE_ENTITY_PROCESSING_BUFFERED)
+            .build()) {
+            CompletableFuture<InputStream> response = CompletableFuture.supplyAsync(
+                () -> client.target(server.url("/chunks")).request().get(InputStream.class)
+            );
+            // The body is aggregated before the stream is returned
+            Thread.sleep(200);
+            assertFalse(response.isDone());
+            proceed.countDown();
+            try (InputStream inputStream = response.get(10, TimeUnit.SECONDS)) {
+                assertEquals("first;second;third", new String(inputStream.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+    }
+
+    @Test
+    void testStreamingResponseEntityProcessing() {
+        proceed.countDown();
+        try (Client client = ClientBuilder.newBuilder()
+            .property(JaxRsInvocation.RESPONSE_ENTITY_PROCESSING, JaxRsInvocation.RESPONSE_ENTITY_PROCESSING_STREAMING)
+            .build()) {
+            // The string reader reads the entity from the stream
+            assertEquals("first;second;third", client.target(server.url("/chunks")).request().get(String.class));
+        }
+    }
+}
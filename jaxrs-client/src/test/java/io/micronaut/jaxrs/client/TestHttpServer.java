@@ -0,0 +1,57 @@
+package io.micronaut.jaxrs.client;
+
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import com.sun.net.httpserver.HttpsConfigurator;
+import com.sun.net.httpserver.HttpsServer;
+
+import javax.net.ssl.SSLContext;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+
+/**
+ * The JDK HTTP server serving the test routes on a random port.
+ */
+final class TestHttpServer implements AutoCloseable {
+
+    private final HttpServer server;
+    private final String scheme;
+
+    private TestHttpServer(HttpServer server, String scheme) {
+        this.server = server;
+        this.scheme = scheme;
+    }
+
+    static TestHttpServer http() throws IOException {
+        return new TestHttpServer(HttpServer.create(new InetSocketAddress(0), 0), "http");
+    }
+
+    static TestHttpServer https(SSLContext sslContext) throws IOException {
+        HttpsServer server = HttpsServer.create(new InetSocketAddress(0), 0);
+        server.setHttpsConfigurator(new HttpsConfigurator(sslContext));
+        return new TestHttpServer(server, "https");
+    }
+
+    TestHttpServer route(String path, HttpHandler handler) {
+        server.createContext(path, handler);
+        return this;
+    }
+
+    TestHttpServer start() {
+        server.start();
+        return this;
+    }
+
+    String url(String path) {
+        return url("localhost", path);
+    }
+
+    String url(String host, String path) {
+        return scheme + "://" + host + ":" + server.getAddress().getPort() + path;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
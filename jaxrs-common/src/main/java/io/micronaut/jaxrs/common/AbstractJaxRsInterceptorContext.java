@@ -43,6 +43,7 @@ abstract sealed class AbstractJaxRsInterceptorContext implements InterceptorCont
     private Class<?> type;
     private Type genericType;
     private Annotation[] annotations;
+    private Annotation[] argumentAnnotations;
 
     protected AbstractJaxRsInterceptorContext(Argument<?> argument, MediaType mediaType) {
         this.argument = argument;
@@ -95,7 +96,10 @@ abstract sealed class AbstractJaxRsInterceptorContext implements InterceptorCont
     @Override
     public Annotation[] getAnnotations() {
         if (annotations == null) {
-            return argument.getAnnotationMetadata().synthesizeAll();
+            if (argumentAnnotations == null) {
+                argumentAnnotations = argument.getAnnotationMetadata().synthesizeAll();
+            }
+            return argumentAnnotations;
         }
         return annotations;
     }
@@ -17,17 +17,15 @@ package io.micronaut.jaxrs.common;
 
 import io.micronaut.core.annotation.Internal;
 
-import java.io.UnsupportedEncodingException;
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 /**
  * The encoder utility class.
  * Originally forked from Resteasy.
+ * <p>
+ * The encoding is driven by per-context lookup tables: the values that don't need any escaping are returned as-is,
+ * the others are encoded, including the non-ASCII characters as UTF-8, directly into a single builder.
  *
  * @author <a href="mailto:bill@burkecentral.com">Bill Burke</a>
  * @author Denis Stepanov
@@ -41,11 +39,7 @@ final class Encode {
      */
     public static final Pattern URI_TEMPLATE_PATTERN = Pattern.compile("(\\{([^}]+)})");
 
-    private static final Pattern NON_CODES = Pattern.compile("%([^a-fA-F0-9]|[a-fA-F0-9]$|$|[a-fA-F0-9][^a-fA-F0-9])");
-
-    private static final String UTF_8 = StandardCharsets.UTF_8.name();
-
-    private static final Pattern PARAM_REPLACEMENT = Pattern.compile("_resteasy_uri_parameter");
+    private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
 
     private static final String[] PATH_ENCODING = new String[128];
     private static final String[] PATH_SEGMENT_ENCODING = new String[128];
@@ -56,6 +50,8 @@ final class Encode {
     private static final char OPEN_CURLY_REPLACEMENT = 6;
     private static final char CLOSE_CURLY_REPLACEMENT = 7;
 
+    private static final int NOT_FOUND = -1;
+
     static {
         /*
          * Encode via <a href="https://www.ietf.org/rfc/rfc3986.txt">RFC 3986</a>. PCHAR is allowed allong with '/'
@@ -97,10 +93,9 @@ final class Encode {
                 case '@':
                     continue;
                 default:
-                    PATH_ENCODING[i] = encodeString(String.valueOf((char) i));
+                    PATH_ENCODING[i] = escape(i);
             }
         }
-        PATH_ENCODING[' '] = "%20";
         System.arraycopy(PATH_ENCODING, 0, MATRIX_PARAMETER_ENCODING, 0, PATH_ENCODING.length);
         MATRIX_PARAMETER_ENCODING[';'] = "%3B";
         MATRIX_PARAMETER_ENCODING['='] = "%3D";
@@ -129,15 +124,13 @@ final class Encode {
                 case '.':
                 case '_':
                 case '~':
-                    continue;
-                case '?':
-                    QUERY_NAME_VALUE_ENCODING[i] = "%3F";
+                case '*': // Not encoded by URLEncoder
                     continue;
                 case ' ':
                     QUERY_NAME_VALUE_ENCODING[i] = "+";
                     continue;
                 default:
-                    QUERY_NAME_VALUE_ENCODING[i] = encodeString(String.valueOf((char) i));
+                    QUERY_NAME_VALUE_ENCODING[i] = escape(i);
             }
         }
 
@@ -176,15 +169,15 @@ final class Encode {
                 case '?':
                 case '/':
                     continue;
-                case ' ':
-                    QUERY_STRING_ENCODING[i] = "%20";
-                    continue;
                 default:
-                    QUERY_STRING_ENCODING[i] = encodeString(String.valueOf((char) i));
+                    QUERY_STRING_ENCODING[i] = escape(i);
             }
         }
     }
 
+    private Encode() {
+    }
+
     /**
      * Keep encoded values "%..." and template parameters intact.
      *
@@ -252,42 +245,27 @@ final class Encode {
      * @return encoded value
      */
     public static String encodeNonCodes(String string) {
-        Matcher matcher = NON_CODES.matcher(string);
-        StringBuilder builder = new StringBuilder();
-
-        // FYI: we do not use the no-arg matcher.find()
-        //      coupled with matcher.appendReplacement()
-        //      because the matched text may contain
-        //      a second % and we must make sure we
-        //      encode it (if necessary).
-        int idx = 0;
-        while (matcher.find(idx)) {
-            int start = matcher.start();
-            builder.append(string, idx, start);
-            builder.append("%25");
-            idx = start + 1;
+        int index = string.indexOf('%');
+        while (index != NOT_FOUND && isEncodingSequence(string, index, string.length())) {
+            index = string.indexOf('%', index + 3);
+        }
+        if (index == NOT_FOUND) {
+            return string;
         }
-        builder.append(string.substring(idx));
+        StringBuilder builder = new StringBuilder(string.length() + 8);
+        builder.append(string, 0, index);
+        appendNonCodes(builder, string, index, string.length());
         return builder.toString();
     }
 
-    public static boolean savePathParams(String segmentString, StringBuilder newSegment, List<String> params) {
-        boolean foundParam = false;
-        // Regular expressions can have '{' and '}' characters.  Replace them to do match
-        CharSequence segment = replaceEnclosedCurlyBracesCS(segmentString);
-        Matcher matcher = URI_TEMPLATE_PATTERN.matcher(segment);
-        int start = 0;
-        while (matcher.find()) {
-            newSegment.append(segment, start, matcher.start());
-            foundParam = true;
-            String group = matcher.group();
-            // Regular expressions can have '{' and '}' characters.  Recover earlier replacement
-            params.add(recoverEnclosedCurlyBraces(group));
-            newSegment.append("_resteasy_uri_parameter");
-            start = matcher.end();
-        }
-        newSegment.append(segment, start, segment.length());
-        return foundParam;
+    /**
+     * Append the value encoding '%' if it is not an encoding sequence.
+     *
+     * @param builder The builder
+     * @param value   value to encode
+     */
+    public static void appendNonCodes(StringBuilder builder, CharSequence value) {
+        appendNonCodes(builder, value, 0, value.length());
     }
 
     /**
@@ -298,20 +276,25 @@ final class Encode {
      * @return encoded value
      */
     public static String encodeValue(String segment, String[] encoding) {
-        var params = new ArrayList<String>();
-        boolean foundParam = false;
-        StringBuilder newSegment = new StringBuilder();
-        if (savePathParams(segment, newSegment, params)) {
-            foundParam = true;
-            segment = newSegment.toString();
+        if (segment.indexOf('{') == NOT_FOUND) {
+            return encode(segment, encoding, true);
         }
-        String result = encodeFromArray(segment, encoding, false);
-        result = encodeNonCodes(result);
-        segment = result;
-        if (foundParam) {
-            segment = pathParamReplacement(segment, params);
+        // Regular expressions can have '{' and '}' characters.  Replace them to do match
+        CharSequence replaced = replaceEnclosedCurlyBracesCS(segment);
+        Matcher matcher = URI_TEMPLATE_PATTERN.matcher(replaced);
+        if (!matcher.find()) {
+            return encode(segment, encoding, true);
         }
-        return segment;
+        StringBuilder builder = new StringBuilder(segment.length() + 16);
+        int start = 0;
+        do {
+            append(builder, segment, start, matcher.start(), encoding, true);
+            // The template parameters are kept as declared
+            builder.append(segment, matcher.start(), matcher.end());
+            start = matcher.end();
+        } while (matcher.find());
+        append(builder, segment, start, segment.length(), encoding, true);
+        return builder.toString();
     }
 
     /**
@@ -326,7 +309,7 @@ final class Encode {
      * @return encoded value
      */
     public static String encodePathAsIs(String segment) {
-        return encodeFromArray(segment, PATH_ENCODING, true);
+        return encode(segment, PATH_ENCODING, false);
     }
 
     /**
@@ -336,9 +319,7 @@ final class Encode {
      * @return encoded value
      */
     public static String encodePathSaveEncodings(String segment) {
-        String result = encodeFromArray(segment, PATH_ENCODING, false);
-        result = encodeNonCodes(result);
-        return result;
+        return encode(segment, PATH_ENCODING, true);
     }
 
     /**
@@ -353,7 +334,7 @@ final class Encode {
      * @return encoded value
      */
     public static String encodePathSegmentAsIs(String segment) {
-        return encodeFromArray(segment, PATH_SEGMENT_ENCODING, true);
+        return encode(segment, PATH_SEGMENT_ENCODING, false);
     }
 
     /**
@@ -363,9 +344,7 @@ final class Encode {
      * @return encoded value
      */
     public static String encodePathSegmentSaveEncodings(String segment) {
-        String result = encodeFromArray(segment, PATH_SEGMENT_ENCODING, false);
-        result = encodeNonCodes(result);
-        return result;
+        return encode(segment, PATH_SEGMENT_ENCODING, true);
     }
 
     /**
@@ -375,7 +354,7 @@ final class Encode {
      * @return encoded value
      */
     public static String encodeQueryParamAsIs(String nameOrValue) {
-        return encodeFromArray(nameOrValue, QUERY_NAME_VALUE_ENCODING, true);
+        return encode(nameOrValue, QUERY_NAME_VALUE_ENCODING, false);
     }
 
     /**
@@ -385,78 +364,166 @@ final class Encode {
      * @return encoded value
      */
     public static String encodeQueryParamSaveEncodings(String segment) {
-        String result = encodeFromArray(segment, QUERY_NAME_VALUE_ENCODING, false);
-        result = encodeNonCodes(result);
-        return result;
+        return encode(segment, QUERY_NAME_VALUE_ENCODING, true);
+    }
+
+    /**
+     * Append the encoded path, '/' is kept.
+     *
+     * @param builder       The builder
+     * @param value         The value to encode
+     * @param saveEncodings Whether to keep the valid encodings i.e. keep "%2D" but don't keep "%p"
+     */
+    public static void appendPath(StringBuilder builder, CharSequence value, boolean saveEncodings) {
+        append(builder, value, 0, value.length(), PATH_ENCODING, saveEncodings);
+    }
+
+    /**
+     * Append the encoded path segment, '/' is encoded.
+     *
+     * @param builder       The builder
+     * @param value         The value to encode
+     * @param saveEncodings Whether to keep the valid encodings i.e. keep "%2D" but don't keep "%p"
+     */
+    public static void appendPathSegment(StringBuilder builder, CharSequence value, boolean saveEncodings) {
+        append(builder, value, 0, value.length(), PATH_SEGMENT_ENCODING, saveEncodings);
+    }
+
+    /**
+     * Append the encoded matrix parameter name or value.
+     *
+     * @param builder       The builder
+     * @param value         The value to encode
+     * @param saveEncodings Whether to keep the valid encodings i.e. keep "%2D" but don't keep "%p"
+     */
+    public static void appendMatrixParam(StringBuilder builder, CharSequence value, boolean saveEncodings) {
+        append(builder, value, 0, value.length(), MATRIX_PARAMETER_ENCODING, saveEncodings);
+    }
+
+    /**
+     * Append the encoded query parameter name or value.
+     *
+     * @param builder       The builder
+     * @param value         The value to encode
+     * @param saveEncodings Whether to keep the valid encodings i.e. keep "%2D" but don't keep "%p"
+     */
+    public static void appendQueryParam(StringBuilder builder, CharSequence value, boolean saveEncodings) {
+        append(builder, value, 0, value.length(), QUERY_NAME_VALUE_ENCODING, saveEncodings);
+    }
+
+    /**
+     * Append the encoded query string.
+     *
+     * @param builder       The builder
+     * @param value         The value to encode
+     * @param saveEncodings Whether to keep the valid encodings i.e. keep "%2D" but don't keep "%p"
+     */
+    public static void appendQueryString(StringBuilder builder, CharSequence value, boolean saveEncodings) {
+        append(builder, value, 0, value.length(), QUERY_STRING_ENCODING, saveEncodings);
     }
 
-    private static String encodeFromArray(String segment, String[] encodingMap, boolean encodePercent) {
-        StringBuilder result = new StringBuilder();
-        for (int i = 0; i < segment.length(); i++) {
-            char currentChar = segment.charAt(i);
-            if (!encodePercent && currentChar == '%') {
-                result.append(currentChar);
+    private static String encode(String value, String[] encoding, boolean saveEncodings) {
+        int length = value.length();
+        int index = indexOfEncoded(value, encoding, saveEncodings);
+        if (index == NOT_FOUND) {
+            return value;
+        }
+        StringBuilder builder = new StringBuilder(length + Math.max(16, (length - index) >> 1));
+        builder.append(value, 0, index);
+        append(builder, value, index, length, encoding, saveEncodings);
+        return builder.toString();
+    }
+
+    private static int indexOfEncoded(String value, String[] encoding, boolean saveEncodings) {
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c >= 128) {
+                return i;
+            }
+            if (c == '%' && saveEncodings) {
+                if (!isEncodingSequence(value, i, length)) {
+                    return i;
+                }
                 continue;
             }
-            if (Character.isHighSurrogate(currentChar)) {
-                String part = segment.substring(i, i + 2);
-                result.append(URLEncoder.encode(part, StandardCharsets.UTF_8));
-                ++i;
+            if (encoding[c] != null) {
+                return i;
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    private static void append(StringBuilder builder, CharSequence value, int start, int end, String[] encoding, boolean saveEncodings) {
+        for (int i = start; i < end; i++) {
+            char c = value.charAt(i);
+            if (c < 128) {
+                if (c == '%' && saveEncodings && isEncodingSequence(value, i, end)) {
+                    builder.append(c);
+                    continue;
+                }
+                String encoded = encoding[c];
+                if (encoded == null) {
+                    builder.append(c);
+                } else {
+                    builder.append(encoded);
+                }
                 continue;
             }
-            String encoding = encode(currentChar, encodingMap);
-            if (encoding == null) {
-                result.append(currentChar);
-            } else {
-                result.append(encoding);
+            int codePoint = c;
+            if (Character.isHighSurrogate(c) && i + 1 < end && Character.isLowSurrogate(value.charAt(i + 1))) {
+                codePoint = Character.toCodePoint(c, value.charAt(++i));
+            } else if (Character.isSurrogate(c)) {
+                // Malformed, replaced the same way as the UTF-8 encoder does
+                codePoint = '?';
             }
+            appendUtf8(builder, codePoint);
         }
-        return result.toString();
     }
 
-    /**
-     * @param zhar        integer representation of character
-     * @param encodingMap encoding map
-     * @return URL encoded character
-     */
-    private static String encode(int zhar, String[] encodingMap) {
-        String encoded;
-        if (zhar < encodingMap.length) {
-            encoded = encodingMap[zhar];
+    private static void appendUtf8(StringBuilder builder, int codePoint) {
+        if (codePoint < 0x80) {
+            appendEscaped(builder, codePoint);
+        } else if (codePoint < 0x800) {
+            appendEscaped(builder, 0xC0 | (codePoint >> 6));
+            appendEscaped(builder, 0x80 | (codePoint & 0x3F));
+        } else if (codePoint < 0x10000) {
+            appendEscaped(builder, 0xE0 | (codePoint >> 12));
+            appendEscaped(builder, 0x80 | ((codePoint >> 6) & 0x3F));
+            appendEscaped(builder, 0x80 | (codePoint & 0x3F));
         } else {
-            encoded = encodeString(Character.toString((char) zhar));
+            appendEscaped(builder, 0xF0 | (codePoint >> 18));
+            appendEscaped(builder, 0x80 | ((codePoint >> 12) & 0x3F));
+            appendEscaped(builder, 0x80 | ((codePoint >> 6) & 0x3F));
+            appendEscaped(builder, 0x80 | (codePoint & 0x3F));
         }
-        return encoded;
     }
 
-    /**
-     * Calls URLEncoder.encode(s, "UTF-8") on given input.
-     *
-     * @param s string to encode
-     * @return encoded string returned by URLEncoder.encode(s, "UTF-8")
-     */
-    public static String encodeString(String s) {
-        try {
-            return URLEncoder.encode(s, UTF_8);
-        } catch (UnsupportedEncodingException e) {
-            throw new RuntimeException(e);
-        }
+    private static void appendEscaped(StringBuilder builder, int b) {
+        builder.append('%').append(HEX_DIGITS[(b >> 4) & 0xF]).append(HEX_DIGITS[b & 0xF]);
     }
 
-    public static String pathParamReplacement(String segment, List<String> params) {
-        StringBuilder newSegment = new StringBuilder();
-        Matcher matcher = PARAM_REPLACEMENT.matcher(segment);
-        int i = 0;
-        int start = 0;
-        while (matcher.find()) {
-            newSegment.append(segment, start, matcher.start());
-            String replacement = params.get(i++);
-            newSegment.append(replacement);
-            start = matcher.end();
+    private static String escape(int c) {
+        return new String(new char[]{'%', HEX_DIGITS[(c >> 4) & 0xF], HEX_DIGITS[c & 0xF]});
+    }
+
+    private static void appendNonCodes(StringBuilder builder, CharSequence value, int start, int end) {
+        for (int i = start; i < end; i++) {
+            char c = value.charAt(i);
+            if (c == '%' && !isEncodingSequence(value, i, end)) {
+                builder.append("%25");
+            } else {
+                builder.append(c);
+            }
         }
-        newSegment.append(segment, start, segment.length());
-        segment = newSegment.toString();
-        return segment;
+    }
+
+    private static boolean isEncodingSequence(CharSequence value, int index, int end) {
+        return index + 2 < end && isHexDigit(value.charAt(index + 1)) && isHexDigit(value.charAt(index + 2));
+    }
+
+    private static boolean isHexDigit(char c) {
+        return (c >= '0' && c <= '9') || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
     }
 
     /**
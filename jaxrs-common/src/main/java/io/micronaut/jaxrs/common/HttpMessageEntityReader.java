@@ -22,6 +22,7 @@ import io.micronaut.core.type.Argument;
 import io.micronaut.http.HttpMessage;
 import jakarta.ws.rs.ProcessingException;
 
+import java.io.InputStream;
 import java.util.Optional;
 
 /**
@@ -57,6 +58,19 @@ public class HttpMessageEntityReader {
         return result;
     }
 
+    /**
+     * Read the entity from the stream without aggregating the body.
+     *
+     * @param message     The message
+     * @param inputStream The entity stream
+     * @param entityType  the entity type
+     * @param <T>         The entity type
+     * @return The entity value or an empty optional if the entity cannot be read from the stream
+     */
+    public <T> Optional<T> readEntity(HttpMessage<?> message, InputStream inputStream, Argument<T> entityType) {
+        return Optional.empty();
+    }
+
     /**
      * Read the entity.
      *
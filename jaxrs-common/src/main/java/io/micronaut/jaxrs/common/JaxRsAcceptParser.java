@@ -0,0 +1,160 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jaxrs.common;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.exceptions.HttpStatusException;
+import jakarta.ws.rs.core.MediaType;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+
+/**
+ * The single-pass parser of the weighted {@code Accept} and {@code Accept-Language} headers.
+ * The parsed headers are cached by the header value, the values sent by browsers are highly repetitive.
+ *
+ * @param <T> The value type
+ * @author Denis Stepanov
+ * @since 4.7
+ */
+@Internal
+final class JaxRsAcceptParser<T> {
+
+    static final JaxRsAcceptParser<MediaType> MEDIA_TYPES = new JaxRsAcceptParser<>(true, MediaType::valueOf);
+    static final JaxRsAcceptParser<Locale> LANGUAGES = new JaxRsAcceptParser<>(false, Locale::forLanguageTag);
+
+    private static final int MAX_CACHE_SIZE = 100;
+
+    private final boolean withParameters;
+    private final Function<String, T> factory;
+    private final JaxRsBoundedCache<String, List<T>> cache = new JaxRsBoundedCache<>(MAX_CACHE_SIZE);
+
+    private JaxRsAcceptParser(boolean withParameters, Function<String, T> factory) {
+        this.withParameters = withParameters;
+        this.factory = factory;
+    }
+
+    /**
+     * Parse the header values.
+     *
+     * @param headerValues The header values
+     * @return The values sorted by the weight
+     */
+    List<T> parse(List<String> headerValues) {
+        if (headerValues.isEmpty()) {
+            return List.of();
+        }
+        if (headerValues.size() == 1) {
+            return cache.get(headerValues.get(0), this::parseHeader);
+        }
+        return parseHeader(String.join(",", headerValues));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<T> parseHeader(String text) {
+        int length = text.length();
+        Object[] values = new Object[4];
+        float[] weights = new float[4];
+        int count = 0;
+        int start = 0;
+        boolean quoted = false;
+        for (int i = 0; i <= length; i++) {
+            char c = i < length ? text.charAt(i) : ',';
+            if (c == '"') {
+                quoted = !quoted;
+            } else if (c == ',' && !quoted) {
+                int elementStart = skipWhitespace(text, start, i);
+                int elementEnd = trimWhitespace(text, elementStart, i);
+                start = i + 1;
+                if (elementStart == elementEnd) {
+                    continue;
+                }
+                int parametersStart = text.indexOf(';', elementStart);
+                if (parametersStart < 0 || parametersStart > elementEnd) {
+                    parametersStart = elementEnd;
+                }
+                String value = withParameters
+                    ? text.substring(elementStart, elementEnd)
+                    : text.substring(elementStart, trimWhitespace(text, elementStart, parametersStart));
+                if (!withParameters && value.equals("*")) {
+                    continue;
+                }
+                float weight = parseWeight(text, parametersStart, elementEnd);
+                if (count == values.length) {
+                    values = Arrays.copyOf(values, count * 2);
+                    weights = Arrays.copyOf(weights, count * 2);
+                }
+                // Stable insertion by the descending weight
+                int index = count;
+                while (index > 0 && weights[index - 1] < weight) {
+                    values[index] = values[index - 1];
+                    weights[index] = weights[index - 1];
+                    index--;
+                }
+                values[index] = factory.apply(value);
+                weights[index] = weight;
+                count++;
+            }
+        }
+        return (List<T>) Collections.unmodifiableList(Arrays.asList(Arrays.copyOf(values, count)));
+    }
+
+    private static float parseWeight(String text, int parametersStart, int elementEnd) {
+        int i = parametersStart;
+        while (i < elementEnd) {
+            int parameterStart = skipWhitespace(text, i + 1, elementEnd);
+            int parameterEnd = text.indexOf(';', parameterStart);
+            if (parameterEnd < 0 || parameterEnd > elementEnd) {
+                parameterEnd = elementEnd;
+            }
+            if (parameterEnd - parameterStart > 2
+                && (text.charAt(parameterStart) == 'q' || text.charAt(parameterStart) == 'Q')
+                && text.charAt(parameterStart + 1) == '=') {
+                String q = text.substring(parameterStart + 2, trimWhitespace(text, parameterStart + 2, parameterEnd));
+                float weight;
+                try {
+                    weight = Float.parseFloat(q);
+                } catch (NumberFormatException e) {
+                    throw new HttpStatusException(HttpStatus.BAD_REQUEST, "Invalid weight: " + q);
+                }
+                if (weight > 1.0f) {
+                    throw new HttpStatusException(HttpStatus.BAD_REQUEST, "Weight [" + q + "] cannot be greater than 1.0");
+                }
+                return weight;
+            }
+            i = parameterEnd;
+        }
+        return 1.0f;
+    }
+
+    private static int skipWhitespace(String text, int start, int end) {
+        while (start < end && Character.isWhitespace(text.charAt(start))) {
+            start++;
+        }
+        return start;
+    }
+
+    private static int trimWhitespace(String text, int start, int end) {
+        while (end > start && Character.isWhitespace(text.charAt(end - 1))) {
+            end--;
+        }
+        return end;
+    }
+}
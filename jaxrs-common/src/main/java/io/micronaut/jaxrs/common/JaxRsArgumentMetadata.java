@@ -0,0 +1,133 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jaxrs.common;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.type.Argument;
+import io.micronaut.http.MediaType;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+
+/**
+ * The JAX-RS view of an {@link Argument}: the type, the reflective generic type and the synthesized annotations.
+ * The metadata is cached by the adapters in a {@link Cache} keyed by the argument identity, the route and the bean
+ * arguments are reused by every request. The cache is owned by the adapter bean, not shared by the JVM.
+ *
+ * @author Denis Stepanov
+ * @since 4.7
+ */
+@Internal
+public final class JaxRsArgumentMetadata {
+
+    private final Class<?> type;
+    private final Type genericType;
+    private final Annotation[] annotations;
+    private volatile ConvertedMediaType lastMediaType;
+
+    private JaxRsArgumentMetadata(Argument<?> argument) {
+        this.type = argument.getType();
+        this.genericType = argument.asType();
+        this.annotations = argument.getAnnotationMetadata().synthesizeAll();
+    }
+
+    /**
+     * @return The type
+     */
+    @NonNull
+    public Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * @return The generic type
+     */
+    @NonNull
+    public Type getGenericType() {
+        return genericType;
+    }
+
+    /**
+     * The annotations are passed to the user providers, a copy is returned unless there are none.
+     *
+     * @return The annotations
+     */
+    @NonNull
+    public Annotation[] getAnnotations() {
+        return annotations.length == 0 ? annotations : annotations.clone();
+    }
+
+    /**
+     * Convert the media type, the last converted media type of the argument is remembered.
+     *
+     * @param mediaType The media type
+     * @return The JAX-RS media type
+     */
+    @Nullable
+    public jakarta.ws.rs.core.MediaType convert(@Nullable MediaType mediaType) {
+        if (mediaType == null) {
+            return null;
+        }
+        ConvertedMediaType last = lastMediaType;
+        if (last != null && last.mediaType == mediaType) {
+            return last.converted;
+        }
+        jakarta.ws.rs.core.MediaType converted = JaxRsUtils.convert(mediaType);
+        lastMediaType = new ConvertedMediaType(mediaType, converted);
+        return converted;
+    }
+
+    private record ConvertedMediaType(MediaType mediaType, jakarta.ws.rs.core.MediaType converted) {
+    }
+
+    /**
+     * The cache of the argument metadata owned by an adapter.
+     * The arguments created for a single call are not admitted once the cache is full, they can't evict the
+     * metadata of the arguments reused by every request.
+     */
+    public static final class Cache {
+
+        private static final int MAX_CACHE_SIZE = 100;
+
+        private final JaxRsBoundedCache<IdentityKey, JaxRsArgumentMetadata> cache = new JaxRsBoundedCache<>(MAX_CACHE_SIZE);
+
+        /**
+         * Find the metadata of the argument.
+         *
+         * @param argument The argument
+         * @return The metadata
+         */
+        @NonNull
+        public JaxRsArgumentMetadata get(@NonNull Argument<?> argument) {
+            return cache.get(new IdentityKey(argument), key -> new JaxRsArgumentMetadata(key.argument()));
+        }
+    }
+
+    private record IdentityKey(Argument<?> argument) {
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof IdentityKey that && argument == that.argument;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(argument);
+        }
+    }
+}
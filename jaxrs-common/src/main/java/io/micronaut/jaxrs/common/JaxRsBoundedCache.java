@@ -0,0 +1,176 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jaxrs.common;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.util.clhm.ConcurrentLinkedHashMap;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+
+/**
+ * A bounded cache of parsed header values.
+ * Once the cache is full, a new entry is only admitted if its key has been seen more often than the key
+ * of the entry it would evict (TinyLFU). The key frequencies are approximated by a count-min sketch of 4-bit counters
+ * that is periodically aged, so keys seen only once, like random header parameters, cannot evict the hot entries.
+ * Every miss is recorded in the sketch while only a sample of the hits is, which keeps the cached lookups free
+ * of contended writes.
+ *
+ * @param <K> The key type
+ * @param <V> The value type
+ * @author Denis Stepanov
+ * @since 4.7
+ */
+@Internal
+public final class JaxRsBoundedCache<K, V> {
+
+    private static final int[] SEEDS = {0x97cb3127, 0xb492b66f, 0x9ae16a3b, 0x2f9a4c9d};
+    private static final int MIN_SKETCH_WIDTH = 1024;
+    private static final int SKETCH_WIDTH_FACTOR = 8;
+    private static final int SAMPLE_FACTOR = 10;
+    private static final int COUNTERS_PER_SLOT = 16;
+    private static final long MAX_COUNTER = 15;
+    private static final long AGE_MASK = 0x7777777777777777L;
+    private static final int HIT_SAMPLE_RATE = 8;
+
+    private final int capacity;
+    private final ConcurrentLinkedHashMap<K, V> cache;
+    private final AtomicLongArray sketch;
+    private final int sketchWidth;
+    private final int sketchShift;
+    private final int sampleSize;
+    private final AtomicInteger samples = new AtomicInteger();
+
+    /**
+     * @param capacity The maximum number of entries
+     */
+    public JaxRsBoundedCache(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Cache capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        this.cache = new ConcurrentLinkedHashMap.Builder<K, V>()
+            .maximumWeightedCapacity(capacity)
+            .build();
+        this.sketchWidth = Integer.highestOneBit(Math.max(MIN_SKETCH_WIDTH, capacity * SKETCH_WIDTH_FACTOR) * 2 - 1);
+        this.sketchShift = Integer.numberOfLeadingZeros(sketchWidth) + 1;
+        this.sketch = new AtomicLongArray(sketchWidth * SEEDS.length / COUNTERS_PER_SLOT);
+        this.sampleSize = sketchWidth * SAMPLE_FACTOR;
+    }
+
+    /**
+     * Get the cached value or compute it.
+     *
+     * @param key    The key
+     * @param loader The value loader
+     * @return The value
+     */
+    @NonNull
+    public V get(@NonNull K key, @NonNull Function<K, V> loader) {
+        V value = cache.get(key);
+        if (value != null) {
+            if (ThreadLocalRandom.current().nextInt(HIT_SAMPLE_RATE) == 0) {
+                increment(spread(key.hashCode()));
+            }
+            return value;
+        }
+        int hash = spread(key.hashCode());
+        increment(hash);
+        value = loader.apply(key);
+        if (admit(hash)) {
+            cache.put(key, value);
+        }
+        return value;
+    }
+
+    private boolean admit(int candidateHash) {
+        if (cache.size() < capacity) {
+            return true;
+        }
+        for (K victim : cache.ascendingKeySetWithLimit(1)) {
+            return frequency(candidateHash) > frequency(spread(victim.hashCode()));
+        }
+        return true;
+    }
+
+    private void increment(int hash) {
+        for (int i = 0; i < SEEDS.length; i++) {
+            int index = indexOf(hash, i);
+            int slot = index / COUNTERS_PER_SLOT;
+            int offset = (index % COUNTERS_PER_SLOT) * 4;
+            long current;
+            do {
+                current = sketch.get(slot);
+                if (((current >>> offset) & MAX_COUNTER) == MAX_COUNTER) {
+                    break;
+                }
+            } while (!sketch.compareAndSet(slot, current, current + (1L << offset)));
+        }
+        if (samples.incrementAndGet() >= sampleSize) {
+            age();
+        }
+    }
+
+    private int frequency(int hash) {
+        int frequency = Integer.MAX_VALUE;
+        for (int i = 0; i < SEEDS.length; i++) {
+            int index = indexOf(hash, i);
+            long counter = (sketch.get(index / COUNTERS_PER_SLOT) >>> ((index % COUNTERS_PER_SLOT) * 4)) & MAX_COUNTER;
+            frequency = Math.min(frequency, (int) counter);
+        }
+        return frequency;
+    }
+
+    private int indexOf(int hash, int row) {
+        return row * sketchWidth + ((hash * SEEDS[row]) >>> sketchShift);
+    }
+
+    private void age() {
+        samples.set(0);
+        for (int i = 0; i < sketch.length(); i++) {
+            sketch.set(i, (sketch.get(i) >>> 1) & AGE_MASK);
+        }
+    }
+
+    private static int spread(int hash) {
+        int h = hash * 0x9e3779b9;
+        return h ^ (h >>> 15);
+    }
+
+    /**
+     * Remove all entries.
+     */
+    public void clear() {
+        cache.clear();
+    }
+
+    /**
+     * @return The maximum number of entries
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * @return The current number of entries
+     */
+    public int getSize() {
+        return cache.size();
+    }
+}
@@ -30,7 +30,6 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.function.Predicate;
-import java.util.stream.Stream;
 
 /**
  * Adapter class for JAR-RS headers.
@@ -43,6 +42,8 @@ public sealed class JaxRsHttpHeaders implements HttpHeaders permits JaxRsMutable
 
     private final io.micronaut.http.HttpHeaders httpHeaders;
     private final boolean isResponse;
+    private AcceptableValues<MediaType> acceptableMediaTypes;
+    private AcceptableValues<Locale> acceptableLanguages;
 
     /**
      * Default constructor.
@@ -110,63 +111,28 @@ public sealed class JaxRsHttpHeaders implements HttpHeaders permits JaxRsMutable
 
     @Override
     public List<MediaType> getAcceptableMediaTypes() {
-        return httpHeaders.getAll(io.micronaut.http.HttpHeaders.ACCEPT)
-            .stream()
-            .flatMap(text -> {
-                int len = text.length();
-                if (len == 0) {
-                    return Stream.of(MediaType.valueOf(io.micronaut.http.MediaType.ALL));
-                }
-                if (text.indexOf(',') > -1) {
-                    return Arrays.stream(text.split(","))
-                        .map(str -> {
-                            final int i = str.indexOf(';');
-                            final MediaType mt = MediaType.valueOf(str);
-                            if (i > -1) {
-                                return new Weighted<>(mt, mt.getParameters());
-                            } else {
-                                return new Weighted<>(mt);
-                            }
-                        })
-                        .sorted()
-                        .map(Weighted::getObject)
-                        .toList()
-                        .stream();
-                }
-                return Stream.of(MediaType.valueOf(text));
-            }).toList();
+        List<String> accept = httpHeaders.getAll(io.micronaut.http.HttpHeaders.ACCEPT);
+        AcceptableValues<MediaType> acceptable = acceptableMediaTypes;
+        if (acceptable == null || !acceptable.headerValues.equals(accept)) {
+            List<MediaType> mediaTypes = JaxRsAcceptParser.MEDIA_TYPES.parse(accept);
+            if (mediaTypes.isEmpty() && !accept.isEmpty()) {
+                mediaTypes = List.of(MediaType.WILDCARD_TYPE);
+            }
+            acceptable = new AcceptableValues<>(accept, mediaTypes);
+            acceptableMediaTypes = acceptable;
+        }
+        return acceptable.values;
     }
 
     @Override
     public List<Locale> getAcceptableLanguages() {
-        return httpHeaders.getAll(io.micronaut.http.HttpHeaders.ACCEPT_LANGUAGE)
-            .stream()
-            .flatMap(text -> {
-                int len = text.length();
-                if (len == 0 || (len == 1 && text.charAt(0) == '*')) {
-                    return Stream.of();
-                }
-                if (text.indexOf(',') > -1) {
-                    return Arrays.stream(text.split(","))
-                        .map(str -> {
-                            final int i = str.indexOf(';');
-                            if (i > -1) {
-                                final String tag = str.substring(0, i).trim();
-                                final Map<String, String> params = Weighted.parseParameters(str);
-                                return new Weighted<>(Locale.forLanguageTag(tag), params);
-                            } else {
-                                return new Weighted<>(Locale.forLanguageTag(str.trim()));
-                            }
-                        })
-                        .sorted()
-                        .map(Weighted::getObject)
-                        .toList()
-                        .stream();
-                }
-                return Stream.of(
-                    Locale.forLanguageTag(text)
-                );
-            }).toList();
+        List<String> acceptLanguage = httpHeaders.getAll(io.micronaut.http.HttpHeaders.ACCEPT_LANGUAGE);
+        AcceptableValues<Locale> acceptable = acceptableLanguages;
+        if (acceptable == null || !acceptable.headerValues.equals(acceptLanguage)) {
+            acceptable = new AcceptableValues<>(acceptLanguage, JaxRsAcceptParser.LANGUAGES.parse(acceptLanguage));
+            acceptableLanguages = acceptable;
+        }
+        return acceptable.values;
     }
 
     @Override
@@ -212,4 +178,14 @@ public sealed class JaxRsHttpHeaders implements HttpHeaders permits JaxRsMutable
         }
         return -1;
     }
+
+    /**
+     * The parsed values memoized with the header values they were parsed from.
+     *
+     * @param headerValues The header values
+     * @param values       The parsed values
+     * @param <T>          The value type
+     */
+    private record AcceptableValues<T>(List<String> headerValues, List<T> values) {
+    }
 }
@@ -46,6 +46,7 @@ public final class JaxRsMessageBodyReader<T> implements MessageBodyReader<T> {
 
     private final jakarta.ws.rs.ext.MessageBodyReader<T> delegate;
     private final List<ReaderInterceptor> readerInterceptor;
+    private final JaxRsArgumentMetadata.Cache argumentMetadata = new JaxRsArgumentMetadata.Cache();
 
     public JaxRsMessageBodyReader(jakarta.ws.rs.ext.MessageBodyReader<T> delegate,
                                   List<ReaderInterceptor> readerInterceptor) {
@@ -60,12 +61,14 @@ public final class JaxRsMessageBodyReader<T> implements MessageBodyReader<T> {
 
     @Override
     public boolean isReadable(@NonNull Argument<T> type, @Nullable MediaType mediaType) {
-        return delegate.isReadable(type.getType(), type.asType(), type.getAnnotationMetadata().synthesizeAll(), JaxRsUtils.convert(mediaType));
+        JaxRsArgumentMetadata metadata = argumentMetadata.get(type);
+        return delegate.isReadable(metadata.getType(), metadata.getGenericType(), metadata.getAnnotations(), metadata.convert(mediaType));
     }
 
     @Override
     public @Nullable T read(@NonNull Argument<T> type, @Nullable MediaType mediaType, @NonNull Headers httpHeaders, @NonNull InputStream inputStream) throws CodecException {
         try {
+            JaxRsArgumentMetadata metadata = argumentMetadata.get(type);
             Iterator<ReaderInterceptor> iterator = readerInterceptor.iterator();
             if (iterator.hasNext()) {
                 JaxRsReaderInterceptorContext context = new JaxRsReaderInterceptorContext(iterator,
@@ -78,17 +81,17 @@ public final class JaxRsMessageBodyReader<T> implements MessageBodyReader<T> {
                         ctx.getInputStream()
                     ),
                     type,
-                    JaxRsUtils.convert(mediaType),
+                    metadata.convert(mediaType),
                     new JaxRsHeadersMultivaluedMap(httpHeaders),
                     inputStream
                 );
                 return (T) iterator.next().aroundReadFrom(context);
             }
             return delegate.readFrom(
-                type.getType(),
-                type.asType(),
-                type.getAnnotationMetadata().synthesizeAll(),
-                JaxRsUtils.convert(mediaType),
+                (Class<T>) metadata.getType(),
+                metadata.getGenericType(),
+                metadata.getAnnotations(),
+                metadata.convert(mediaType),
                 new JaxRsHeadersMultivaluedMap(httpHeaders),
                 inputStream
             );
@@ -54,6 +54,7 @@ public final class JaxRsMessageBodyWriter<T> implements MessageBodyWriter<T> {
     private final List<MediaType> produces;
     private final jakarta.ws.rs.ext.MessageBodyWriter<T> delegate;
     private final List<WriterInterceptor> writerInterceptors;
+    private final JaxRsArgumentMetadata.Cache argumentMetadata = new JaxRsArgumentMetadata.Cache();
 
     @Inject
     public JaxRsMessageBodyWriter(BeanRegistration<jakarta.ws.rs.ext.MessageBodyWriter<T>> beanRegistration,
@@ -88,7 +89,8 @@ public final class JaxRsMessageBodyWriter<T> implements MessageBodyWriter<T> {
 
     @Override
     public boolean isWriteable(@NonNull Argument<T> type, @Nullable MediaType mediaType) {
-        return delegate.isWriteable(type.getType(), type.asType(), type.getAnnotationMetadata().synthesizeAll(), JaxRsUtils.convert(mediaType));
+        JaxRsArgumentMetadata metadata = argumentMetadata.get(type);
+        return delegate.isWriteable(metadata.getType(), metadata.getGenericType(), metadata.getAnnotations(), metadata.convert(mediaType));
     }
 
     @Override
@@ -98,6 +100,8 @@ public final class JaxRsMessageBodyWriter<T> implements MessageBodyWriter<T> {
                         @NonNull MutableHeaders outgoingHeaders,
                         @NonNull OutputStream outputStream) throws CodecException {
         try {
+            JaxRsArgumentMetadata metadata = argumentMetadata.get(type);
+            jakarta.ws.rs.core.MediaType jaxRsMediaType = metadata.convert(mediaType);
             Iterator<WriterInterceptor> iterator = writerInterceptors.iterator();
             JaxRsMutableObjectHeadersMultivaluedMap httpHeaders = new JaxRsMutableObjectHeadersMultivaluedMap(outgoingHeaders);
             if (iterator.hasNext()) {
@@ -112,7 +116,7 @@ public final class JaxRsMessageBodyWriter<T> implements MessageBodyWriter<T> {
                         ctx.getOutputStream()
                     ),
                     type,
-                    JaxRsUtils.convert(mediaType),
+                    jaxRsMediaType,
                     httpHeaders,
                     object,
                     outputStream
@@ -121,15 +125,15 @@ public final class JaxRsMessageBodyWriter<T> implements MessageBodyWriter<T> {
                 return;
             }
             delegate.writeTo(object,
-                type.getType(),
-                type.asType(),
-                type.getAnnotationMetadata().synthesizeAll(),
-                JaxRsUtils.convert(mediaType),
+                metadata.getType(),
+                metadata.getGenericType(),
+                metadata.getAnnotations(),
+                jaxRsMediaType,
                 httpHeaders,
                 outputStream
             );
             if (!httpHeaders.containsKey(HttpHeaders.CONTENT_TYPE)) {
-                if (mediaType == null || JaxRsUtils.convert(mediaType).isWildcardType()) {
+                if (jaxRsMediaType == null || jaxRsMediaType.isWildcardType()) {
                     if (produces.size() == 1) {
                         httpHeaders.add(HttpHeaders.CONTENT_TYPE, produces.get(0).toString());
                     }
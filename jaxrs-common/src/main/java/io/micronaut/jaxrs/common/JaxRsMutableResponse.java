@@ -26,6 +26,7 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.UncheckedIOException;
+import java.util.Optional;
 
 /**
  * Adapter for JAX-RS and final Micronaut response.
@@ -60,6 +61,11 @@ public final class JaxRsMutableResponse extends JaxRsResponse implements HttpRes
             if (entityType.getType().equals(InputStream.class)) {
                 return (T) entityStream;
             }
+            Optional<T> entity = getEntityReader().readEntity(mutableHttpResponse, entityStream, entityType);
+            if (entity.isPresent()) {
+                close();
+                return entity.get();
+            }
             byte[] result;
             try {
                 result = entityStream.readAllBytes();
@@ -84,7 +90,9 @@ public final class JaxRsMutableResponse extends JaxRsResponse implements HttpRes
 
     @Override
     public JaxRsMutableResponse withEntityReader(HttpMessageEntityReader entityReader) {
-        return new JaxRsMutableResponse(mutableHttpResponse, entityReader);
+        JaxRsMutableResponse response = new JaxRsMutableResponse(mutableHttpResponse, entityReader);
+        response.entityStream = entityStream;
+        return response;
     }
 
     @Override
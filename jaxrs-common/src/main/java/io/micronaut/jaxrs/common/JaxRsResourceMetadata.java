@@ -0,0 +1,65 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jaxrs.common;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+
+import java.util.Optional;
+
+/**
+ * The metadata of a JAX-RS resource generated at the compilation time.
+ * The implementations are generated by the JAX-RS processor and loaded as services.
+ *
+ * @author Denis Stepanov
+ * @since 4.7
+ */
+@Internal
+public interface JaxRsResourceMetadata {
+
+    /**
+     * @return The name of the resource type
+     */
+    @NonNull
+    String getResourceTypeName();
+
+    /**
+     * @return The value of the {@link jakarta.ws.rs.Path} annotation of the resource type
+     */
+    @Nullable
+    String getPath();
+
+    /**
+     * Find the path of the public method annotated with {@link jakarta.ws.rs.Path}.
+     *
+     * @param methodName The method name
+     * @return The path or null if there is no single method of the name annotated with {@link jakarta.ws.rs.Path}
+     */
+    @Nullable
+    String getMethodPath(@NonNull String methodName);
+
+    /**
+     * Find the generated metadata of the resource type.
+     *
+     * @param resourceType The resource type
+     * @return The metadata
+     */
+    @NonNull
+    static Optional<JaxRsResourceMetadata> find(@NonNull Class<?> resourceType) {
+        return JaxRsResourceMetadataLoader.find(resourceType);
+    }
+}
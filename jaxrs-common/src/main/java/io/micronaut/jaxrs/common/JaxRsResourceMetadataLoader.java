@@ -0,0 +1,54 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jaxrs.common;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.io.service.ServiceDefinition;
+import io.micronaut.core.io.service.SoftServiceLoader;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Loads the generated {@link JaxRsResourceMetadata} services once.
+ *
+ * @author Denis Stepanov
+ * @since 4.7
+ */
+@Internal
+final class JaxRsResourceMetadataLoader {
+
+    private static final Map<String, JaxRsResourceMetadata> METADATA = load();
+
+    private JaxRsResourceMetadataLoader() {
+    }
+
+    static Optional<JaxRsResourceMetadata> find(Class<?> resourceType) {
+        return Optional.ofNullable(METADATA.get(resourceType.getName()));
+    }
+
+    private static Map<String, JaxRsResourceMetadata> load() {
+        Map<String, JaxRsResourceMetadata> metadata = new HashMap<>();
+        for (ServiceDefinition<JaxRsResourceMetadata> definition : SoftServiceLoader.load(JaxRsResourceMetadata.class)) {
+            if (definition.isPresent()) {
+                JaxRsResourceMetadata resourceMetadata = definition.load();
+                metadata.put(resourceMetadata.getResourceTypeName(), resourceMetadata);
+            }
+        }
+        return metadata;
+    }
+}
@@ -81,6 +81,13 @@ public sealed class JaxRsResponse extends Response implements HttpResponseProvid
         return new JaxRsResponse(response, entityReader);
     }
 
+    /**
+     * @return The entity reader
+     */
+    final HttpMessageEntityReader getEntityReader() {
+        return entityReader;
+    }
+
     /**
      * @return The Micronaut response object
      */
@@ -44,14 +44,7 @@ import java.util.regex.Pattern;
  * @since 4.7
  */
 @Internal
-final class JaxRsUriBuilder extends UriBuilder {
-
-    private static final String URI_PARAM_NAME_REGEX = "\\w[\\w.-]*";
-    private static final String URI_PARAM_REGEX_REGEX = "[^{}][^{}]*";
-    private static final String URI_PARAM_REGEX = "\\{\\s*(" + URI_PARAM_NAME_REGEX + ")\\s*(:\\s*(" + URI_PARAM_REGEX_REGEX
-        + "))?}";
-
-    private static final Pattern URI_PARAM_PATTERN = Pattern.compile(URI_PARAM_REGEX);
+public final class JaxRsUriBuilder extends UriBuilder {
 
     private static final Pattern OPAQUE_URI = Pattern.compile("^([^:/?#{]+):([^/].*)");
     private static final Pattern HIERARCHICAL_URI = Pattern
@@ -442,13 +435,17 @@ final class JaxRsUriBuilder extends UriBuilder {
             throw new IllegalArgumentException("resource was null");
         }
 
-        Path ann = (Path) resource.getAnnotation(Path.class);
-        if (ann != null) {
-            String[] segments = new String[] {ann.value()};
-            path = paths(true, path, segments);
-        } else {
-            throw new IllegalArgumentException("class must be annotated with @Path");
+        String resourcePath = JaxRsResourceMetadata.find(resource)
+            .map(JaxRsResourceMetadata::getPath)
+            .orElse(null);
+        if (resourcePath == null) {
+            Path ann = (Path) resource.getAnnotation(Path.class);
+            if (ann == null) {
+                throw new IllegalArgumentException("class must be annotated with @Path");
+            }
+            resourcePath = ann.value();
         }
+        path = paths(true, path, resourcePath);
         return this;
     }
 
@@ -461,6 +458,13 @@ final class JaxRsUriBuilder extends UriBuilder {
             throw new IllegalArgumentException("method is null");
         }
 
+        String methodPath = JaxRsResourceMetadata.find(resource)
+            .map(metadata -> metadata.getMethodPath(method))
+            .orElse(null);
+        if (methodPath != null) {
+            path = paths(encode, path, methodPath);
+            return this;
+        }
         Method theMethod = null;
         for (Method m : resource.getMethods()) {
             if (m.getName().equals(method)) {
@@ -597,7 +601,20 @@ final class JaxRsUriBuilder extends UriBuilder {
 
     private CharSequence buildCharSequence(Map<String, ?> paramMap, boolean fromEncodedMap, boolean isTemplate,
                                            boolean encodeSlash) {
-        StringBuilder builder = new StringBuilder();
+        return appendTo(new StringBuilder(estimateLength()), paramMap, fromEncodedMap, isTemplate, encodeSlash);
+    }
+
+    private int estimateLength() {
+        return 16 + length(scheme) + length(ssp) + length(userInfo) + length(host) + length(authority)
+            + length(path) + length(query) + length(fragment);
+    }
+
+    private static int length(String component) {
+        return component == null ? 0 : component.length();
+    }
+
+    private StringBuilder appendTo(StringBuilder builder, Map<String, ?> paramMap, boolean fromEncodedMap, boolean isTemplate,
+                                   boolean encodeSlash) {
 
         if (scheme != null) {
             replaceParameter(paramMap, fromEncodedMap, isTemplate, scheme, builder, encodeSlash).append(":");
@@ -649,32 +666,28 @@ final class JaxRsUriBuilder extends UriBuilder {
             builder.append(string);
             return;
         }
-        Matcher matcher = createUriParamMatcher(string);
-        int start = 0;
-        while (matcher.find()) {
-            String param = matcher.group(1);
-            if (!param.equals(name)) {
+        JaxRsUriTemplate template = JaxRsUriTemplate.of(string);
+        String encodedValue = null;
+        for (int i = 0; i < template.getParameterCount(); i++) {
+            builder.append(template.getLiteral(i));
+            if (!template.getName(i).equals(name)) {
+                builder.append(template.getPlaceholder(i));
                 continue;
             }
-            builder.append(string, start, matcher.start());
-            if (!isEncoded) {
-                if (encodeSlash) {
-                    value = Encode.encodePath(value);
+            if (encodedValue == null) {
+                if (!isEncoded) {
+                    encodedValue = encodeSlash ? Encode.encodePath(value) : Encode.encodePathSegment(value);
                 } else {
-                    value = Encode.encodePathSegment(value);
+                    encodedValue = Encode.encodeNonCodes(value);
                 }
-
-            } else {
-                value = Encode.encodeNonCodes(value);
             }
-            builder.append(value);
-            start = matcher.end();
+            builder.append(encodedValue);
         }
-        builder.append(string, start, string.length());
+        builder.append(template.getLiteral(template.getParameterCount()));
     }
 
     public static Matcher createUriParamMatcher(String string) {
-        return URI_PARAM_PATTERN.matcher(Encode.replaceEnclosedCurlyBracesCS(string));
+        return JaxRsUriTemplate.createUriParamMatcher(string);
     }
 
     private StringBuilder replaceParameter(Map<String, ?> paramMap, boolean fromEncodedMap, boolean isTemplate,
@@ -687,16 +700,14 @@ final class JaxRsUriBuilder extends UriBuilder {
         if (string.indexOf('{') == -1) {
             return builder.append(string);
         }
-        Matcher matcher = createUriParamMatcher(string);
-        int start = 0;
-        while (matcher.find()) {
-            builder.append(string, start, matcher.start());
-            String param = matcher.group(1);
+        JaxRsUriTemplate template = JaxRsUriTemplate.of(string);
+        for (int i = 0; i < template.getParameterCount(); i++) {
+            builder.append(template.getLiteral(i));
+            String param = template.getName(i);
             boolean containsValueForParam = paramMap.containsKey(param);
             if (!containsValueForParam) {
                 if (isTemplate) {
-                    builder.append(matcher.group());
-                    start = matcher.end();
+                    builder.append(template.getPlaceholder(i));
                     continue;
                 }
                 throw new IllegalArgumentException("Path parameter not provided " + param);
@@ -707,27 +718,15 @@ final class JaxRsUriBuilder extends UriBuilder {
                 throw new IllegalArgumentException("Template parameter null: " + param);
             }
 
-            if (encode) {
-                if (!fromEncodedMap) {
-                    if (encodeSlash) {
-                        stringValue = Encode.encodePathSegmentAsIs(stringValue);
-                    } else {
-                        stringValue = Encode.encodePathAsIs(stringValue);
-                    }
-                } else {
-                    if (encodeSlash) {
-                        stringValue = Encode.encodePathSegmentSaveEncodings(stringValue);
-                    } else {
-                        stringValue = Encode.encodePathSaveEncodings(stringValue);
-                    }
-                }
+            if (!encode) {
+                builder.append(stringValue);
+            } else if (encodeSlash) {
+                Encode.appendPathSegment(builder, stringValue, fromEncodedMap);
+            } else {
+                Encode.appendPath(builder, stringValue, fromEncodedMap);
             }
-
-            builder.append(stringValue);
-            start = matcher.end();
         }
-        builder.append(string, start, string.length());
-        return builder;
+        return builder.append(template.getLiteral(template.getParameterCount()));
     }
 
     private void replaceQueryStringParameter(Map<String, ?> paramMap, boolean fromEncodedMap,
@@ -736,35 +735,26 @@ final class JaxRsUriBuilder extends UriBuilder {
             builder.append(string);
             return;
         }
-        Matcher matcher = createUriParamMatcher(string);
-        int start = 0;
-        while (matcher.find()) {
-            builder.append(string, start, matcher.start());
-            String param = matcher.group(1);
+        JaxRsUriTemplate template = JaxRsUriTemplate.of(string);
+        for (int i = 0; i < template.getParameterCount(); i++) {
+            builder.append(template.getLiteral(i));
+            String param = template.getName(i);
             boolean containsValueForParam = paramMap.containsKey(param);
             if (!containsValueForParam) {
                 if (isTemplate) {
-                    builder.append(matcher.group());
-                    start = matcher.end();
+                    builder.append(template.getPlaceholder(i));
                     continue;
                 }
                 throw new IllegalArgumentException("Path parameter not provided " + param);
             }
             Object value = paramMap.get(param);
             String stringValue = value != null ? value.toString() : null;
-            if (stringValue != null) {
-                if (!fromEncodedMap) {
-                    stringValue = Encode.encodeQueryParamAsIs(stringValue);
-                } else {
-                    stringValue = Encode.encodeQueryParamSaveEncodings(stringValue);
-                }
-                builder.append(stringValue);
-                start = matcher.end();
-            } else {
+            if (stringValue == null) {
                 throw new IllegalArgumentException("Template param was null: " + param);
             }
+            Encode.appendQueryParam(builder, stringValue, fromEncodedMap);
         }
-        builder.append(string, start, string.length());
+        builder.append(template.getLiteral(template.getParameterCount()));
     }
 
     /**
@@ -798,14 +788,15 @@ final class JaxRsUriBuilder extends UriBuilder {
     }
 
     private void addToPathParamList(List<String> params, HashSet<String> set, String string) {
-        Matcher matcher = URI_PARAM_PATTERN.matcher(Encode.replaceEnclosedCurlyBracesCS(string));
-        while (matcher.find()) {
-            String param = matcher.group(1);
-            if (set.contains(param)) {
-                continue;
+        if (string.indexOf('{') == -1) {
+            return;
+        }
+        JaxRsUriTemplate template = JaxRsUriTemplate.of(string);
+        for (int i = 0; i < template.getParameterCount(); i++) {
+            String param = template.getName(i);
+            if (set.add(param)) {
+                params.add(param);
             }
-            set.add(param);
-            params.add(param);
         }
     }
 
@@ -817,6 +808,46 @@ final class JaxRsUriBuilder extends UriBuilder {
         return buildFromValues(true, false, values);
     }
 
+    /**
+     * Build the URI string without the {@link URI} validation.
+     *
+     * @param values The template values in the declaration order
+     * @return The URI string
+     * @since 4.7
+     */
+    public String buildString(Object... values) {
+        return buildTo(new StringBuilder(estimateLength()), values).toString();
+    }
+
+    /**
+     * Build the URI string from the map of values without the {@link URI} validation.
+     *
+     * @param values The template values
+     * @return The URI string
+     * @since 4.7
+     */
+    public String buildStringFromMap(Map<String, ?> values) {
+        if (values == null) {
+            throw new IllegalArgumentException("Values parameter is null");
+        }
+        return buildString(values, false, false, true);
+    }
+
+    /**
+     * Append the URI to the builder without the {@link URI} validation.
+     *
+     * @param target The target builder
+     * @param values The template values in the declaration order
+     * @return The target builder
+     * @since 4.7
+     */
+    public StringBuilder buildTo(StringBuilder target, Object... values) {
+        if (values == null) {
+            throw new IllegalArgumentException("Values parameter is null");
+        }
+        return appendTo(target, new URITemplateParametersMap(values), false, false, true);
+    }
+
     private URI buildFromValues(boolean encodeSlash, boolean encoded, Object... values) {
         try {
             String buf = buildString(new URITemplateParametersMap(values), encoded, false, encodeSlash);
@@ -840,9 +871,12 @@ final class JaxRsUriBuilder extends UriBuilder {
         if (path == null) {
             path = "";
         }
+        String encodedName = Encode.encodeMatrixParam(name);
+        StringBuilder builder = new StringBuilder(path);
         for (Object val : values) {
-            path += ";" + Encode.encodeMatrixParam(name) + "=" + Encode.encodeMatrixParam(val.toString());
+            builder.append(';').append(encodedName).append('=').append(Encode.encodeMatrixParam(val.toString()));
         }
+        path = builder.toString();
         return this;
     }
 
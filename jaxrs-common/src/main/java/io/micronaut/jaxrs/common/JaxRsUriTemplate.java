@@ -0,0 +1,134 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jaxrs.common;
+
+import io.micronaut.core.annotation.Internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A compiled URI template component: the literal parts and the parameters between them.
+ * The templates are compiled once and cached by the template string.
+ *
+ * @author Denis Stepanov
+ * @since 4.7
+ */
+@Internal
+final class JaxRsUriTemplate {
+
+    private static final String URI_PARAM_NAME_REGEX = "\\w[\\w.-]*";
+    private static final String URI_PARAM_REGEX_REGEX = "[^{}][^{}]*";
+    private static final String URI_PARAM_REGEX = "\\{\\s*(" + URI_PARAM_NAME_REGEX + ")\\s*(:\\s*(" + URI_PARAM_REGEX_REGEX
+        + "))?}";
+    private static final Pattern URI_PARAM_PATTERN = Pattern.compile(URI_PARAM_REGEX);
+
+    private static final int MAX_CACHE_SIZE = 200;
+    private static final JaxRsBoundedCache<String, JaxRsUriTemplate> CACHE = new JaxRsBoundedCache<>(MAX_CACHE_SIZE);
+
+    private final String template;
+    private final String[] literals;
+    private final String[] names;
+    private final String[] placeholders;
+
+    private JaxRsUriTemplate(String template, String[] literals, String[] names, String[] placeholders) {
+        this.template = template;
+        this.literals = literals;
+        this.names = names;
+        this.placeholders = placeholders;
+    }
+
+    /**
+     * Find the compiled template.
+     *
+     * @param template The template
+     * @return The compiled template
+     */
+    static JaxRsUriTemplate of(String template) {
+        return CACHE.get(template, JaxRsUriTemplate::compile);
+    }
+
+    /**
+     * Create a matcher of the URI parameters.
+     *
+     * @param template The template
+     * @return The matcher
+     */
+    static Matcher createUriParamMatcher(String template) {
+        return URI_PARAM_PATTERN.matcher(Encode.replaceEnclosedCurlyBracesCS(template));
+    }
+
+    private static JaxRsUriTemplate compile(String template) {
+        List<String> literals = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        List<String> placeholders = new ArrayList<>();
+        Matcher matcher = createUriParamMatcher(template);
+        int start = 0;
+        while (matcher.find()) {
+            literals.add(template.substring(start, matcher.start()));
+            names.add(matcher.group(1));
+            placeholders.add(template.substring(matcher.start(), matcher.end()));
+            start = matcher.end();
+        }
+        literals.add(template.substring(start));
+        return new JaxRsUriTemplate(
+            template,
+            literals.toArray(String[]::new),
+            names.toArray(String[]::new),
+            placeholders.toArray(String[]::new)
+        );
+    }
+
+    /**
+     * @return The template
+     */
+    String getTemplate() {
+        return template;
+    }
+
+    /**
+     * @return The number of parameters
+     */
+    int getParameterCount() {
+        return names.length;
+    }
+
+    /**
+     * @param index The parameter index
+     * @return The literal before the parameter, the index of the parameter count is the trailing literal
+     */
+    String getLiteral(int index) {
+        return literals[index];
+    }
+
+    /**
+     * @param index The parameter index
+     * @return The parameter name
+     */
+    String getName(int index) {
+        return names[index];
+    }
+
+    /**
+     * @param index The parameter index
+     * @return The parameter as declared in the template
+     */
+    String getPlaceholder(int index) {
+        return placeholders[index];
+    }
+}
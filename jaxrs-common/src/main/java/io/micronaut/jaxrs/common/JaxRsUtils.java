@@ -16,12 +16,17 @@
 package io.micronaut.jaxrs.common;
 
 import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.value.OptionalValues;
 import io.micronaut.http.MediaType;
 import jakarta.annotation.Priority;
 
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * The JAX-RS utils.
@@ -32,6 +37,28 @@ import java.util.List;
 @Internal
 public final class JaxRsUtils {
 
+    private static final Map<MediaType, jakarta.ws.rs.core.MediaType> KNOWN_MEDIA_TYPES = new IdentityHashMap<>();
+    private static final Map<jakarta.ws.rs.core.MediaType, MediaType> KNOWN_JAX_RS_MEDIA_TYPES = new HashMap<>();
+
+    static {
+        registerKnownMediaType(MediaType.ALL_TYPE, jakarta.ws.rs.core.MediaType.WILDCARD_TYPE);
+        registerKnownMediaType(MediaType.APPLICATION_JSON_TYPE, jakarta.ws.rs.core.MediaType.APPLICATION_JSON_TYPE);
+        registerKnownMediaType(MediaType.APPLICATION_XML_TYPE, jakarta.ws.rs.core.MediaType.APPLICATION_XML_TYPE);
+        registerKnownMediaType(MediaType.APPLICATION_XHTML_TYPE, jakarta.ws.rs.core.MediaType.APPLICATION_XHTML_XML_TYPE);
+        registerKnownMediaType(MediaType.APPLICATION_OCTET_STREAM_TYPE, jakarta.ws.rs.core.MediaType.APPLICATION_OCTET_STREAM_TYPE);
+        registerKnownMediaType(MediaType.APPLICATION_FORM_URLENCODED_TYPE, jakarta.ws.rs.core.MediaType.APPLICATION_FORM_URLENCODED_TYPE);
+        registerKnownMediaType(MediaType.MULTIPART_FORM_DATA_TYPE, jakarta.ws.rs.core.MediaType.MULTIPART_FORM_DATA_TYPE);
+        registerKnownMediaType(MediaType.TEXT_PLAIN_TYPE, jakarta.ws.rs.core.MediaType.TEXT_PLAIN_TYPE);
+        registerKnownMediaType(MediaType.TEXT_HTML_TYPE, jakarta.ws.rs.core.MediaType.TEXT_HTML_TYPE);
+        registerKnownMediaType(MediaType.TEXT_XML_TYPE, jakarta.ws.rs.core.MediaType.TEXT_XML_TYPE);
+        registerKnownMediaType(MediaType.TEXT_EVENT_STREAM_TYPE, jakarta.ws.rs.core.MediaType.SERVER_SENT_EVENTS_TYPE);
+    }
+
+    private static void registerKnownMediaType(MediaType mediaType, jakarta.ws.rs.core.MediaType jaxRsMediaType) {
+        KNOWN_MEDIA_TYPES.put(mediaType, jaxRsMediaType);
+        KNOWN_JAX_RS_MEDIA_TYPES.put(jaxRsMediaType, mediaType);
+    }
+
     public static <T> void sortByPriority(List<T> values) {
         sortByPriority(values, false);
     }
@@ -63,12 +90,50 @@ public final class JaxRsUtils {
         return value;
     }
 
+    /**
+     * Convert the Micronaut media type to the JAX-RS media type.
+     * The well-known media types are mapped to the JAX-RS constants, other media types are copied
+     * without a string round-trip.
+     *
+     * @param mediaType The media type
+     * @return The JAX-RS media type
+     */
     public static jakarta.ws.rs.core.MediaType convert(MediaType mediaType) {
-        return mediaType == null ? null : jakarta.ws.rs.core.MediaType.valueOf(mediaType.toString());
+        if (mediaType == null) {
+            return null;
+        }
+        jakarta.ws.rs.core.MediaType known = KNOWN_MEDIA_TYPES.get(mediaType);
+        if (known != null) {
+            return known;
+        }
+        OptionalValues<String> parameters = mediaType.getParameters();
+        if (parameters.isEmpty()) {
+            return new jakarta.ws.rs.core.MediaType(mediaType.getType(), mediaType.getSubtype());
+        }
+        Map<String, String> jaxRsParameters = new LinkedHashMap<>();
+        for (CharSequence name : parameters) {
+            parameters.get(name).ifPresent(value -> jaxRsParameters.put(name.toString(), value));
+        }
+        return new jakarta.ws.rs.core.MediaType(mediaType.getType(), mediaType.getSubtype(), jaxRsParameters);
     }
 
+    /**
+     * Convert the JAX-RS media type to the Micronaut media type.
+     * The well-known media types are mapped to the Micronaut constants, other media types are copied
+     * without a string round-trip.
+     *
+     * @param mediaType The JAX-RS media type
+     * @return The media type
+     */
     public static MediaType convert(jakarta.ws.rs.core.MediaType mediaType) {
-        return mediaType == null ? null : MediaType.of(mediaType.toString());
+        if (mediaType == null) {
+            return null;
+        }
+        MediaType known = KNOWN_JAX_RS_MEDIA_TYPES.get(mediaType);
+        if (known != null) {
+            return known;
+        }
+        return new MediaType(mediaType.getType() + "/" + mediaType.getSubtype(), mediaType.getParameters());
     }
 
 }
@@ -16,11 +16,9 @@
 package io.micronaut.jaxrs.common;
 
 import io.micronaut.core.annotation.Internal;
-import io.micronaut.core.util.clhm.ConcurrentLinkedHashMap;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.ext.RuntimeDelegate;
 
-import java.util.Arrays;
 import java.util.Map;
 
 /**
@@ -34,22 +32,40 @@ final class MediaTypeHeaderDelegate implements RuntimeDelegate.HeaderDelegate<Ob
 
     public static final String INVALID_MEDIA_TYPE = "Invalid media type: ";
 
-    private static final Map<String, MediaType> MAP = new ConcurrentLinkedHashMap.Builder<String, MediaType>()
-        .maximumWeightedCapacity(200)
-        .build();
-    private static final Map<MediaType, String> REVERSE_MAP = new ConcurrentLinkedHashMap.Builder<MediaType, String>()
-        .maximumWeightedCapacity(200)
-        .build();
+    static final int DEFAULT_CACHE_SIZE = 200;
+    static final JaxRsBoundedCache<String, MediaType> CACHE = new JaxRsBoundedCache<>(
+        cacheSize(System.getProperty("micronaut.jaxrs.media-type.cache-size"))
+    );
+
     private static final char[] QUOTED_CHARS = "()<>@,;:\\\"/[]?= \t\r\n".toCharArray();
+    private static final boolean[] INVALID_CHARS = new boolean[128];
 
-    private static MediaType parse(String type) {
-        MediaType result = MAP.get(type);
-        if (result == null) {
-            result = internalParse(type);
-            MAP.put(type, result);
-            REVERSE_MAP.put(result, type);
+    static {
+        for (char c : "/\\?:<>;()@,[]=".toCharArray()) {
+            INVALID_CHARS[c] = true;
         }
-        return result;
+    }
+
+    /**
+     * Parse the cache size property, an invalid value falls back to the default size.
+     *
+     * @param property The property value
+     * @return The cache size
+     */
+    static int cacheSize(String property) {
+        if (property == null) {
+            return DEFAULT_CACHE_SIZE;
+        }
+        try {
+            int size = Integer.parseInt(property.trim());
+            return size > 0 ? size : DEFAULT_CACHE_SIZE;
+        } catch (NumberFormatException e) {
+            return DEFAULT_CACHE_SIZE;
+        }
+    }
+
+    private static MediaType parse(String type) {
+        return CACHE.get(type, MediaTypeHeaderDelegate::internalParse);
     }
 
     /**
@@ -116,8 +132,13 @@ final class MediaTypeHeaderDelegate implements RuntimeDelegate.HeaderDelegate<Ob
         if (str == null || str.isEmpty()) {
             return false;
         }
-        char[] notValid = {'/', '\\', '?', ':', '<', '>', ';', '(', ')', '@', ',', '[', ']', '='};
-        return str.chars().noneMatch(c -> Arrays.binarySearch(notValid, (char) c) >= 0);
+        for (int i = 0; i < str.length(); i++) {
+            char c = str.charAt(i);
+            if (c < INVALID_CHARS.length && INVALID_CHARS[c]) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
@@ -130,14 +151,7 @@ final class MediaTypeHeaderDelegate implements RuntimeDelegate.HeaderDelegate<Ob
     public String toString(Object o) {
         JaxRsUtils.requireNonNull("o", o);
 
-        MediaType type = (MediaType) o;
-        String result = REVERSE_MAP.get(type);
-        if (result == null) {
-            result = internalToString(type);
-            REVERSE_MAP.put(type, result);
-            MAP.put(result, type);
-        }
-        return result;
+        return internalToString((MediaType) o);
     }
 
     private String internalToString(MediaType type) {
@@ -56,6 +56,16 @@ public final class MicronautRuntimeDelegate extends RuntimeDelegate {
         HEADER_DELEGATES.put(Object.class, ObjectToStringDelegate.INSTANCE);
     }
 
+    /**
+     * The cache of the parsed media types, the capacity is configured by the system property
+     * {@code micronaut.jaxrs.media-type.cache-size}.
+     *
+     * @return The media type cache
+     */
+    public static JaxRsBoundedCache<String, MediaType> getMediaTypeCache() {
+        return MediaTypeHeaderDelegate.CACHE;
+    }
+
     @Override
     public UriBuilder createUriBuilder() {
         return new JaxRsUriBuilder();
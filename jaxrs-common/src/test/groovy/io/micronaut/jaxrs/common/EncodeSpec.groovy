@@ -0,0 +1,68 @@
+package io.micronaut.jaxrs.common
+
+import spock.lang.Specification
+
+import java.nio.charset.StandardCharsets
+
+class EncodeSpec extends Specification {
+
+    void "test values without anything to encode are returned as-is"() {
+        given:
+        def value = "abc-123_~.xyz"
+
+        expect:
+        Encode.encodePathAsIs(value).is(value)
+        Encode.encodePathSegmentAsIs(value).is(value)
+        Encode.encodeQueryParamAsIs(value).is(value)
+        Encode.encodeQueryString(value).is(value)
+        Encode.encodeNonCodes("a%2Fb").is("a%2Fb")
+    }
+
+    void "test query parameter #value is encoded as URLEncoder does"() {
+        expect:
+        Encode.encodeQueryParamAsIs(value) == URLEncoder.encode(value, StandardCharsets.UTF_8)
+
+        where:
+        value << ["a b&c=d", "100%", "zażółć", "日本語", "emoji 😀", "*-._"]
+    }
+
+    void "test encode path"() {
+        expect:
+        Encode.encodePathAsIs("/a b/ü/%41") == "/a%20b/%C3%BC/%2541"
+        Encode.encodePathSaveEncodings("/a b/%41/%zz") == "/a%20b/%41/%25zz"
+        Encode.encodePathSegmentAsIs("a/b") == "a%2Fb"
+        Encode.encodeMatrixParam("a=b;c") == "a%3Db%3Bc"
+    }
+
+    void "test encode keeps the template parameters"() {
+        expect:
+        Encode.encodePath("/a b/{id}/{name: [a-z]{2}}/%") == "/a%20b/{id}/{name: [a-z]{2}}/%25"
+        Encode.encodeQueryString("q={query}&x=a b") == "q={query}&x=a%20b"
+    }
+
+    void "test encode non codes"() {
+        expect:
+        Encode.encodeNonCodes(value) == expected
+
+        where:
+        value     | expected
+        "%"       | "%25"
+        "%4"      | "%254"
+        "%41%"    | "%41%25"
+        "%%41"    | "%25%41"
+        "a%zzb"   | "a%25zzb"
+    }
+
+    void "test append variants"() {
+        given:
+        def builder = new StringBuilder("x=")
+
+        when:
+        Encode.appendQueryParam(builder, "a b", false)
+        builder.append('&')
+        Encode.appendPathSegment(builder, "c/日", true)
+
+        then:
+        builder.toString() == "x=a+b&c%2F%E6%97%A5"
+    }
+}
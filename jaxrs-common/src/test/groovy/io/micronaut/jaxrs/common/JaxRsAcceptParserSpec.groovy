@@ -0,0 +1,51 @@
+package io.micronaut.jaxrs.common
+
+import io.micronaut.http.exceptions.HttpStatusException
+import jakarta.ws.rs.core.MediaType
+import spock.lang.Specification
+
+class JaxRsAcceptParserSpec extends Specification {
+
+    void "test parse browser accept header"() {
+        when:
+        def mediaTypes = JaxRsAcceptParser.MEDIA_TYPES.parse(["text/html,application/xhtml+xml,application/xml;q=0.9,image/avif,image/webp,*/*;q=0.8"])
+
+        then:
+        mediaTypes.collect { it.type + "/" + it.subtype } == ["text/html", "application/xhtml+xml", "image/avif", "image/webp", "application/xml", "*/*"]
+        mediaTypes[4].parameters.q == "0.9"
+    }
+
+    void "test parse multiple accept headers"() {
+        when:
+        def mediaTypes = JaxRsAcceptParser.MEDIA_TYPES.parse(["text/plain; q=0.5", " application/json "])
+
+        then:
+        mediaTypes == [MediaType.APPLICATION_JSON_TYPE, MediaType.valueOf("text/plain;q=0.5")]
+    }
+
+    void "test quoted parameter with comma"() {
+        when:
+        def mediaTypes = JaxRsAcceptParser.MEDIA_TYPES.parse(['text/plain;foo="a,b";q=0.1, text/html'])
+
+        then:
+        mediaTypes.size() == 2
+        mediaTypes[0] == MediaType.TEXT_HTML_TYPE
+        mediaTypes[1].parameters.foo == "a,b"
+    }
+
+    void "test parse accept language"() {
+        when:
+        def languages = JaxRsAcceptParser.LANGUAGES.parse(["da, en-gb;q=0.8, en;q=0.7, *;q=0.1"])
+
+        then:
+        languages == [Locale.forLanguageTag("da"), Locale.forLanguageTag("en-gb"), Locale.ENGLISH]
+    }
+
+    void "test invalid weight"() {
+        when:
+        JaxRsAcceptParser.LANGUAGES.parse(["en;q=2"])
+
+        then:
+        thrown(HttpStatusException)
+    }
+}
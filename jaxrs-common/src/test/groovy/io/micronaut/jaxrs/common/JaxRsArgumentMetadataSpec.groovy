@@ -0,0 +1,25 @@
+package io.micronaut.jaxrs.common
+
+import io.micronaut.core.type.Argument
+import io.micronaut.inject.annotation.MutableAnnotationMetadata
+import spock.lang.Specification
+
+class JaxRsArgumentMetadataSpec extends Specification {
+
+    void "test the annotations cannot be modified through the cached metadata"() {
+        given:
+        def annotationMetadata = new MutableAnnotationMetadata()
+        annotationMetadata.addDeclaredAnnotation(Deprecated.name, [:])
+        def argument = Argument.of(String, "value", annotationMetadata)
+        def cache = new JaxRsArgumentMetadata.Cache()
+
+        when:
+        def annotations = cache.get(argument).annotations
+        annotations[0] = null
+
+        then:
+        cache.get(argument).is(cache.get(argument))
+        cache.get(argument).annotations.length == 1
+        cache.get(argument).annotations[0] instanceof Deprecated
+    }
+}
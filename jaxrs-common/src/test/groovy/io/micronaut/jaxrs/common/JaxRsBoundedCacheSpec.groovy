@@ -0,0 +1,121 @@
+package io.micronaut.jaxrs.common
+
+import spock.lang.Specification
+
+import java.util.function.Function
+
+class JaxRsBoundedCacheSpec extends Specification {
+
+    void "test cached values are not loaded again"() {
+        given:
+        def cache = new JaxRsBoundedCache<String, String>(10)
+        def loader = new CountingLoader()
+
+        when:
+        cache.get("a", loader)
+        cache.get("a", loader)
+        def value = cache.get("a", loader)
+
+        then:
+        value == "A"
+        loader.loads == ["a"]
+        cache.size == 1
+    }
+
+    void "test keys seen once do not evict hot entries"() {
+        given:
+        def cache = new JaxRsBoundedCache<String, String>(2)
+        def loader = new CountingLoader()
+        cache.get("hot1", loader)
+        cache.get("hot2", loader)
+
+        when:
+        100.times { cache.get("random" + it, loader) }
+
+        then:
+        cache.get("hot1", loader) == "HOT1"
+        cache.get("hot2", loader) == "HOT2"
+        loader.loads.count { it.startsWith("hot") } == 2
+        cache.size == 2
+    }
+
+    void "test repeated keys are admitted"() {
+        given:
+        def cache = new JaxRsBoundedCache<String, String>(2)
+        def loader = new CountingLoader()
+        cache.get("a", loader)
+        cache.get("b", loader)
+
+        when:
+        cache.get("c", loader)
+        cache.get("c", loader)
+        cache.get("c", loader)
+
+        then:
+        loader.loads.count { it == "c" } == 2
+        cache.size == 2
+    }
+
+    void "test one-shot keys do not displace a hot working set"() {
+        given:
+        def cache = new JaxRsBoundedCache<String, String>(100)
+        def loader = new CountingLoader()
+        def random = new Random(1)
+        int scans = 0
+
+        when:
+        20000.times {
+            if (random.nextInt(4) == 0) {
+                cache.get("scan" + scans++, loader)
+            } else {
+                cache.get("hot" + random.nextInt(100), loader)
+            }
+        }
+
+        then:
+        loader.loads.count { it.startsWith("hot") } < 100 + scans / 20
+    }
+
+    void "test invalid cache size falls back to the default"() {
+        expect:
+        MediaTypeHeaderDelegate.cacheSize(property) == size
+
+        where:
+        property | size
+        null     | MediaTypeHeaderDelegate.DEFAULT_CACHE_SIZE
+        "500"    | 500
+        " 50 "   | 50
+        "0"      | MediaTypeHeaderDelegate.DEFAULT_CACHE_SIZE
+        "-1"     | MediaTypeHeaderDelegate.DEFAULT_CACHE_SIZE
+        "large"  | MediaTypeHeaderDelegate.DEFAULT_CACHE_SIZE
+    }
+
+    void "test media type cache"() {
+        when:
+        def first = jakarta.ws.rs.core.MediaType.valueOf("application/x-cache-test")
+        def second = jakarta.ws.rs.core.MediaType.valueOf("application/x-cache-test")
+
+        then:
+        first.is(second)
+        MicronautRuntimeDelegate.getMediaTypeCache().size > 0
+    }
+
+    void "test invalid media type"() {
+        when:
+        jakarta.ws.rs.core.MediaType.valueOf("application/json=")
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+
+    private static final class CountingLoader implements Function<String, String> {
+
+        final List<String> loads = []
+
+        @Override
+        String apply(String key) {
+            loads << key
+            return key.toUpperCase()
+        }
+    }
+}
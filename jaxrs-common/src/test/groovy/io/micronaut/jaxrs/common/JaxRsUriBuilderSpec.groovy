@@ -0,0 +1,39 @@
+package io.micronaut.jaxrs.common
+
+import spock.lang.Specification
+
+class JaxRsUriBuilderSpec extends Specification {
+
+    void "test build from values"() {
+        given:
+        def builder = JaxRsUriBuilder.fromTemplate("http://localhost:8080/users/{id}/items/{item}?q={query}")
+
+        expect:
+        builder.build("1", "a b", "x&y").toString() == "http://localhost:8080/users/1/items/a%20b?q=x%26y"
+        builder.buildString("2", "c", "z") == "http://localhost:8080/users/2/items/c?q=z"
+        builder.buildTo(new StringBuilder(">"), "3", "d", "w").toString() == ">http://localhost:8080/users/3/items/d?q=w"
+    }
+
+    void "test build from map"() {
+        given:
+        def builder = JaxRsUriBuilder.fromTemplate("/users/{id}/{id}/{other}")
+
+        expect:
+        builder.buildFromMap([id: "1", other: "2"]).toString() == "/users/1/1/2"
+        builder.buildStringFromMap([id: "a/b", other: "2"]) == "/users/a%2Fb/a%2Fb/2"
+    }
+
+    void "test missing parameter"() {
+        when:
+        JaxRsUriBuilder.fromTemplate("/users/{id}").buildFromMap([:])
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+
+    void "test resolve template keeps the other parameters"() {
+        expect:
+        JaxRsUriBuilder.fromTemplate("/users/{id}/{name: [a-z]{2}}").resolveTemplate("id", "1").toTemplate() == "/users/1/{name: [a-z]{2}}"
+        JaxRsUriBuilder.fromTemplate("/users/{id}/{name}").getPathParamNamesInDeclarationOrder() == ["id", "name"]
+    }
+}
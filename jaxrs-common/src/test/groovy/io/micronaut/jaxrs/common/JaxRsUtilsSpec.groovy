@@ -0,0 +1,39 @@
+package io.micronaut.jaxrs.common
+
+import io.micronaut.http.MediaType
+import spock.lang.Specification
+
+class JaxRsUtilsSpec extends Specification {
+
+    void "test known media types are mapped to the constants"() {
+        expect:
+        JaxRsUtils.convert(MediaType.APPLICATION_JSON_TYPE).is(jakarta.ws.rs.core.MediaType.APPLICATION_JSON_TYPE)
+        JaxRsUtils.convert(MediaType.TEXT_PLAIN_TYPE).is(jakarta.ws.rs.core.MediaType.TEXT_PLAIN_TYPE)
+        JaxRsUtils.convert(jakarta.ws.rs.core.MediaType.APPLICATION_JSON_TYPE).is(MediaType.APPLICATION_JSON_TYPE)
+        JaxRsUtils.convert(jakarta.ws.rs.core.MediaType.valueOf("text/plain")).is(MediaType.TEXT_PLAIN_TYPE)
+    }
+
+    void "test convert media type #value"() {
+        given:
+        def converted = JaxRsUtils.convert(MediaType.of(value))
+
+        expect:
+        converted == jakarta.ws.rs.core.MediaType.valueOf(value)
+        JaxRsUtils.convert(converted).name == MediaType.of(value).name
+        JaxRsUtils.convert(converted).charset == MediaType.of(value).charset
+
+        where:
+        value << ["application/vnd.foo+json", "text/plain;charset=UTF-8", "image/png"]
+    }
+
+    void "test media type parameters are copied structurally"() {
+        given:
+        def converted = JaxRsUtils.convert(MediaType.of("application/json;charset=UTF-8;q=0.5"))
+
+        expect:
+        converted.type == "application"
+        converted.subtype == "json"
+        converted.parameters["charset"] == "UTF-8"
+        converted.parameters["q"] == "0.5"
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jaxrs.processor;
+
+import io.micronaut.core.annotation.AnnotationValue;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.inject.ast.ClassElement;
+import io.micronaut.inject.ast.ElementModifier;
+import io.micronaut.inject.ast.ElementQuery;
+import io.micronaut.inject.ast.MethodElement;
+import io.micronaut.inject.visitor.VisitorContext;
+import io.micronaut.inject.writer.GeneratedFile;
+import jakarta.ws.rs.Path;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Writes the implementation of {@code io.micronaut.jaxrs.common.JaxRsResourceMetadata} for a resource type.
+ * The generated class only holds the paths as constants, the runtime doesn't need to scan the annotations reflectively.
+ *
+ * @author Denis Stepanov
+ * @since 4.7
+ */
+@Internal
+final class JaxRsResourceMetadataWriter {
+
+    static final String METADATA_TYPE = "io.micronaut.jaxrs.common.JaxRsResourceMetadata";
+    private static final String SUFFIX = "$JaxRsResourceMetadata";
+
+    private final ClassElement resource;
+    @Nullable
+    private final String path;
+    private final Map<String, String> methodPaths;
+
+    private JaxRsResourceMetadataWriter(ClassElement resource, @Nullable String path, Map<String, String> methodPaths) {
+        this.resource = resource;
+        this.path = path;
+        this.methodPaths = methodPaths;
+    }
+
+    /**
+     * Create the writer if the type has any JAX-RS paths.
+     *
+     * @param resource The resource type
+     * @return The writer
+     */
+    static Optional<JaxRsResourceMetadataWriter> of(ClassElement resource) {
+        AnnotationValue<Path> pathAnnotation = resource.getDeclaredAnnotation(Path.class);
+        String path = pathAnnotation == null ? null : pathAnnotation.stringValue().orElse("");
+        Map<String, Integer> counts = new HashMap<>();
+        Map<String, String> methodPaths = new LinkedHashMap<>();
+        ElementQuery<MethodElement> query = ElementQuery.ALL_METHODS
+            .onlyInstance()
+            .modifiers(modifiers -> modifiers.contains(ElementModifier.PUBLIC))
+            .annotated(annotationMetadata -> annotationMetadata.hasAnnotation(Path.class));
+        for (MethodElement method : resource.getEnclosedElements(query)) {
+            String name = method.getName();
+            if (counts.merge(name, 1, Integer::sum) > 1) {
+                // Ambiguous, leave it to the runtime to report
+                methodPaths.remove(name);
+            } else {
+                methodPaths.put(name, method.stringValue(Path.class).orElse(""));
+            }
+        }
+        if (path == null && methodPaths.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(new JaxRsResourceMetadataWriter(resource, path, methodPaths));
+    }
+
+    /**
+     * Generate the source file and the service descriptor.
+     *
+     * @param context The visitor context
+     */
+    void write(VisitorContext context) {
+        String packageName = resource.getPackageName();
+        String binaryName = resource.getName();
+        String simpleName = "$" + (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1)) + SUFFIX;
+        Optional<GeneratedFile> generatedFile = context.visitGeneratedSourceFile(packageName, simpleName, resource);
+        if (generatedFile.isEmpty()) {
+            return;
+        }
+        try (Writer writer = generatedFile.get().openWriter()) {
+            writer.write(generateSource(packageName, simpleName));
+        } catch (IOException e) {
+            context.fail("Failed to generate the JAX-RS resource metadata: " + e.getMessage(), resource);
+            return;
+        }
+        context.visitServiceDescriptor(METADATA_TYPE, packageName.isEmpty() ? simpleName : packageName + "." + simpleName, resource);
+    }
+
+    private String generateSource(String packageName, String simpleName) {
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("@io.micronaut.core.annotation.Generated\n")
+            .append("@io.micronaut.core.annotation.Internal\n")
+            .append("public final class ").append(simpleName).append(" implements ").append(METADATA_TYPE).append(" {\n\n")
+            .append("    @Override\n")
+            .append("    public String getResourceTypeName() {\n")
+            .append("        return ").append(literal(resource.getName())).append(";\n")
+            .append("    }\n\n")
+            .append("    @Override\n")
+            .append("    public String getPath() {\n")
+            .append("        return ").append(literal(path)).append(";\n")
+            .append("    }\n\n")
+            .append("    @Override\n")
+            .append("    public String getMethodPath(String methodName) {\n")
+            .append("        switch (methodName) {\n");
+        for (Map.Entry<String, String> entry : methodPaths.entrySet()) {
+            source.append("            case ").append(literal(entry.getKey())).append(":\n")
+                .append("                return ").append(literal(entry.getValue())).append(";\n");
+        }
+        source.append("            default:\n")
+            .append("                return null;\n")
+            .append("        }\n")
+            .append("    }\n")
+            .append("}\n");
+        return source.toString();
+    }
+
+    private static String literal(@Nullable String value) {
+        if (value == null) {
+            return "null";
+        }
+        StringBuilder literal = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> literal.append("\\\"");
+                case '\\' -> literal.append("\\\\");
+                case '\n' -> literal.append("\\n");
+                case '\r' -> literal.append("\\r");
+                case '\t' -> literal.append("\\t");
+                default -> {
+                    if (c < 0x20 || c > 0x7e) {
+                        literal.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        literal.append(c);
+                    }
+                }
+            }
+        }
+        return literal.append('"').toString();
+    }
+}
@@ -76,6 +76,7 @@ public class JaxRsTypeElementVisitor implements TypeElementVisitor<Object, Objec
     public static final int POSITION = 200;
     private static final Class<?>[] BINDABLE_TYPES = new Class<?>[] {Context.class, SecurityContext.class, UriInfo.class};
     private ClassElement currentClassElement;
+    private boolean generateResourceMetadata;
 
     private final List<Class<? extends Annotation>> JAX_RS_BINDING_ANNOTATIONS = List.of(
         HeaderParam.class,
@@ -129,6 +130,9 @@ public class JaxRsTypeElementVisitor implements TypeElementVisitor<Object, Objec
                 element.annotate(UriMapping.class, builder -> builder.value(p));
             });
         }
+        if (generateResourceMetadata) {
+            JaxRsResourceMetadataWriter.of(element).ifPresent(writer -> writer.write(context));
+        }
     }
 
     @Override
@@ -214,6 +218,8 @@ public class JaxRsTypeElementVisitor implements TypeElementVisitor<Object, Objec
 
     @Override
     public void start(VisitorContext visitorContext) {
+        // The generated metadata requires the common module
+        generateResourceMetadata = visitorContext.getClassElement(JaxRsResourceMetadataWriter.METADATA_TYPE).isPresent();
         for (Class<?> type : BINDABLE_TYPES) {
             visitorContext.getClassElement(type).ifPresent(bindable -> bindable.annotate(Bindable.class));
         }
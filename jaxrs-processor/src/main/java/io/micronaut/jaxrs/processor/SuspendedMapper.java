@@ -0,0 +1,51 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jaxrs.processor;
+
+import io.micronaut.core.annotation.AnnotationValue;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.inject.annotation.NamedAnnotationMapper;
+import io.micronaut.inject.visitor.VisitorContext;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.core.Context;
+
+import java.lang.annotation.Annotation;
+import java.util.List;
+
+/**
+ * Maps the JAX-RS {@code Suspended} annotation, the {@code AsyncResponse} is bound as the {@link Context} parameter.
+ *
+ * @author Denis Stepanov
+ * @since 4.7
+ */
+@Internal
+public class SuspendedMapper implements NamedAnnotationMapper {
+
+    @NonNull
+    @Override
+    public String getName() {
+        return "jakarta.ws.rs.container.Suspended";
+    }
+
+    @Override
+    public List<AnnotationValue<?>> map(AnnotationValue<Annotation> annotation, VisitorContext visitorContext) {
+        return List.of(
+            AnnotationValue.builder(Context.class).build(),
+            AnnotationValue.builder(Inject.class).build()
+        );
+    }
+}
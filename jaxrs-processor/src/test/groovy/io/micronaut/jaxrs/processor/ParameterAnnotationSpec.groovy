@@ -13,6 +13,8 @@ import jakarta.ws.rs.HeaderParam
 import jakarta.ws.rs.MatrixParam
 import jakarta.ws.rs.PathParam
 import jakarta.ws.rs.QueryParam
+import jakarta.ws.rs.container.AsyncResponse
+import jakarta.ws.rs.core.Context
 import spock.lang.Unroll
 
 class ParameterAnnotationSpec extends AbstractTypeElementSpec {
@@ -160,4 +162,24 @@ class Test {
         metadata.stringValue(Bindable, "defaultValue").get() == 'foo'
     }
 
+    void "test jakarta.ws.rs.container.Suspended is bound as the context"() {
+        when:
+        def definition = buildBeanDefinition('test.Test', """
+package test;
+
+@jakarta.ws.rs.Path("/test")
+class Test {
+
+    @jakarta.ws.rs.GET
+    void test(@jakarta.ws.rs.container.Suspended jakarta.ws.rs.container.AsyncResponse asyncResponse) {}
+}
+""")
+
+        def method = definition.getRequiredMethod("test", AsyncResponse)
+        def metadata = method.arguments[0].getAnnotationMetadata()
+
+        then:
+        metadata.hasAnnotation(Context)
+    }
+
 }
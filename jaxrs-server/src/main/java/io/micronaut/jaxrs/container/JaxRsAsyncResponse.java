@@ -0,0 +1,267 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jaxrs.container;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.reflect.InstantiationUtils;
+import io.micronaut.http.HttpHeaders;
+import io.micronaut.scheduling.TaskScheduler;
+import jakarta.ws.rs.ServiceUnavailableException;
+import jakarta.ws.rs.container.AsyncResponse;
+import jakarta.ws.rs.container.CompletionCallback;
+import jakarta.ws.rs.container.TimeoutHandler;
+import jakarta.ws.rs.core.Response;
+
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The implementation of {@link AsyncResponse} completing a future instead of blocking the request thread.
+ * The response is written once the future completes, the suspend timeout is scheduled by the Micronaut task scheduler.
+ * Only the {@link CompletionCallback} is supported, the connection callbacks are not registered.
+ *
+ * @author Denis Stepanov
+ * @since 4.7
+ */
+@Internal
+final class JaxRsAsyncResponse implements AsyncResponse {
+
+    /**
+     * The request attribute of the async response bound to the resource method.
+     */
+    static final String ATTRIBUTE = AsyncResponse.class.getName();
+
+    private final TaskScheduler taskScheduler;
+    private final CompletableFuture<Object> result = new CompletableFuture<>();
+    private final List<CompletionCallback> completionCallbacks = new CopyOnWriteArrayList<>();
+    private final Object lock = new Object();
+    private State state = State.SUSPENDED;
+    @Nullable
+    private ScheduledFuture<?> timeoutFuture;
+    @Nullable
+    private TimeoutHandler timeoutHandler;
+
+    JaxRsAsyncResponse(TaskScheduler taskScheduler) {
+        this.taskScheduler = taskScheduler;
+    }
+
+    /**
+     * @return The stage completed by resuming or cancelling the response
+     */
+    CompletionStage<Object> result() {
+        return result;
+    }
+
+    /**
+     * Notify the completion callbacks after the response is produced.
+     *
+     * @param throwable The unmapped exception or null
+     */
+    void complete(@Nullable Throwable throwable) {
+        for (CompletionCallback completionCallback : completionCallbacks) {
+            completionCallback.onComplete(throwable);
+        }
+    }
+
+    @Override
+    public boolean resume(Object response) {
+        if (!finish(State.RESUMED)) {
+            return false;
+        }
+        result.complete(response);
+        return true;
+    }
+
+    @Override
+    public boolean resume(Throwable response) {
+        if (!finish(State.RESUMED)) {
+            return false;
+        }
+        result.completeExceptionally(response);
+        return true;
+    }
+
+    @Override
+    public boolean cancel() {
+        return cancel((String) null);
+    }
+
+    @Override
+    public boolean cancel(int retryAfter) {
+        return cancel(String.valueOf(retryAfter));
+    }
+
+    @Override
+    public boolean cancel(Date retryAfter) {
+        return cancel(DateTimeFormatter.RFC_1123_DATE_TIME.format(retryAfter.toInstant().atOffset(ZoneOffset.UTC)));
+    }
+
+    private boolean cancel(@Nullable String retryAfter) {
+        synchronized (lock) {
+            if (state == State.CANCELLED) {
+                return true;
+            }
+            if (!finish(State.CANCELLED)) {
+                return false;
+            }
+        }
+        Response.ResponseBuilder builder = Response.status(Response.Status.SERVICE_UNAVAILABLE);
+        if (retryAfter != null) {
+            builder.header(HttpHeaders.RETRY_AFTER, retryAfter);
+        }
+        result.complete(builder.build());
+        return true;
+    }
+
+    private boolean finish(State newState) {
+        synchronized (lock) {
+            if (state != State.SUSPENDED) {
+                return false;
+            }
+            state = newState;
+            cancelTimeout();
+            return true;
+        }
+    }
+
+    @Override
+    public boolean isSuspended() {
+        synchronized (lock) {
+            return state == State.SUSPENDED;
+        }
+    }
+
+    @Override
+    public boolean isCancelled() {
+        synchronized (lock) {
+            return state == State.CANCELLED;
+        }
+    }
+
+    @Override
+    public boolean isDone() {
+        synchronized (lock) {
+            return state != State.SUSPENDED;
+        }
+    }
+
+    @Override
+    public boolean setTimeout(long time, TimeUnit unit) {
+        synchronized (lock) {
+            if (state != State.SUSPENDED) {
+                return false;
+            }
+            cancelTimeout();
+            if (time > 0) {
+                timeoutFuture = taskScheduler.schedule(Duration.ofNanos(unit.toNanos(time)), this::onTimeout);
+            }
+            return true;
+        }
+    }
+
+    @Override
+    public void setTimeoutHandler(TimeoutHandler handler) {
+        synchronized (lock) {
+            timeoutHandler = handler;
+        }
+    }
+
+    private void cancelTimeout() {
+        if (timeoutFuture != null) {
+            timeoutFuture.cancel(false);
+            timeoutFuture = null;
+        }
+    }
+
+    private void onTimeout() {
+        TimeoutHandler handler;
+        ScheduledFuture<?> expired;
+        synchronized (lock) {
+            if (state != State.SUSPENDED) {
+                return;
+            }
+            expired = timeoutFuture;
+            handler = timeoutHandler;
+        }
+        if (handler != null) {
+            try {
+                handler.handleTimeout(this);
+            } catch (Throwable e) {
+                resume(e);
+                return;
+            }
+            synchronized (lock) {
+                if (state != State.SUSPENDED || timeoutFuture != expired) {
+                    // Resumed, cancelled or the timeout was extended by the handler
+                    return;
+                }
+            }
+        }
+        resume(new ServiceUnavailableException());
+    }
+
+    @Override
+    public Collection<Class<?>> register(Class<?> callback) {
+        return register(InstantiationUtils.instantiate(Objects.requireNonNull(callback, "Callback cannot be null")));
+    }
+
+    @Override
+    public Map<Class<?>, Collection<Class<?>>> register(Class<?> callback, Class<?>... callbacks) {
+        Map<Class<?>, Collection<Class<?>>> registered = new LinkedHashMap<>();
+        registered.put(callback, register(callback));
+        for (Class<?> c : callbacks) {
+            registered.put(c, register(c));
+        }
+        return registered;
+    }
+
+    @Override
+    public Collection<Class<?>> register(Object callback) {
+        Objects.requireNonNull(callback, "Callback cannot be null");
+        if (callback instanceof CompletionCallback completionCallback) {
+            completionCallbacks.add(completionCallback);
+            return List.of(CompletionCallback.class);
+        }
+        return List.of();
+    }
+
+    @Override
+    public Map<Class<?>, Collection<Class<?>>> register(Object callback, Object... callbacks) {
+        Map<Class<?>, Collection<Class<?>>> registered = new LinkedHashMap<>();
+        registered.put(callback.getClass(), register(callback));
+        for (Object c : callbacks) {
+            registered.put(c.getClass(), register(c));
+        }
+        return registered;
+    }
+
+    private enum State {
+        SUSPENDED, RESUMED, CANCELLED
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jaxrs.container;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.convert.ArgumentConversionContext;
+import io.micronaut.core.type.Argument;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.bind.binders.TypedRequestArgumentBinder;
+import io.micronaut.scheduling.TaskExecutors;
+import io.micronaut.scheduling.TaskScheduler;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+import jakarta.ws.rs.container.AsyncResponse;
+
+import java.util.Optional;
+
+/**
+ * Binds the {@link AsyncResponse} of the {@link jakarta.ws.rs.container.Suspended} parameter.
+ * The response is written when the async response is resumed.
+ *
+ * @author Denis Stepanov
+ * @since 4.7
+ */
+@Singleton
+@Internal
+final class JaxRsAsyncResponseBinder implements TypedRequestArgumentBinder<AsyncResponse> {
+
+    private static final Argument<AsyncResponse> ARGUMENT = Argument.of(AsyncResponse.class);
+
+    private final TaskScheduler taskScheduler;
+
+    JaxRsAsyncResponseBinder(@Named(TaskExecutors.SCHEDULED) TaskScheduler taskScheduler) {
+        this.taskScheduler = taskScheduler;
+    }
+
+    @Override
+    public BindingResult<AsyncResponse> bind(ArgumentConversionContext<AsyncResponse> context, HttpRequest<?> source) {
+        JaxRsAsyncResponse asyncResponse = source.getAttribute(JaxRsAsyncResponse.ATTRIBUTE, JaxRsAsyncResponse.class).orElseGet(() -> {
+            JaxRsAsyncResponse newAsyncResponse = new JaxRsAsyncResponse(taskScheduler);
+            source.setAttribute(JaxRsAsyncResponse.ATTRIBUTE, newAsyncResponse);
+            return newAsyncResponse;
+        });
+        return () -> Optional.of(asyncResponse);
+    }
+
+    @Override
+    public Argument<AsyncResponse> argumentType() {
+        return ARGUMENT;
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jaxrs.container;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.annotation.Order;
+import io.micronaut.core.async.publisher.Publishers;
+import io.micronaut.core.type.Argument;
+import io.micronaut.http.HttpAttributes;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.MutableHttpResponse;
+import io.micronaut.http.annotation.RequestFilter;
+import io.micronaut.http.annotation.ServerFilter;
+import io.micronaut.http.filter.FilterContinuation;
+import io.micronaut.http.filter.ServerFilterPhase;
+import io.micronaut.web.router.MethodBasedRouteInfo;
+import io.micronaut.web.router.RouteInfo;
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.container.AsyncResponse;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Delays the response of the resource method with a bound {@link jakarta.ws.rs.container.AsyncResponse} until it is resumed.
+ * No thread is held while the response is suspended. The filter runs before the JAX-RS response filters
+ * so that they see the resumed entity. The routes without an {@link AsyncResponse} parameter, resolved once per route,
+ * proceed without any additional work.
+ *
+ * @author Denis Stepanov
+ * @since 4.7
+ */
+@ServerFilter("/**")
+@Order(ServerFilterPhase.RENDERING.after())
+@Internal
+final class JaxRsAsyncResponseFilter {
+
+    private final JaxRsExceptionHandler webApplicationExceptionHandler;
+    private final JaxRsGlobalExceptionHandler exceptionHandler;
+    private final JaxRsExceptionMappers exceptionMappers;
+    private final Map<RouteInfo<?>, Boolean> suspendedRoutes = new ConcurrentHashMap<>();
+
+    JaxRsAsyncResponseFilter(JaxRsExceptionHandler webApplicationExceptionHandler,
+                             JaxRsGlobalExceptionHandler exceptionHandler,
+                             JaxRsExceptionMappers exceptionMappers) {
+        this.webApplicationExceptionHandler = webApplicationExceptionHandler;
+        this.exceptionHandler = exceptionHandler;
+        this.exceptionMappers = exceptionMappers;
+    }
+
+    @RequestFilter
+    Publisher<MutableHttpResponse<?>> filterRequest(HttpRequest<?> request,
+                                                    FilterContinuation<Publisher<MutableHttpResponse<?>>> continuation) {
+        RouteInfo<?> routeInfo = request.getAttribute(HttpAttributes.ROUTE_INFO, RouteInfo.class).orElse(null);
+        if (routeInfo == null || !suspendedRoutes.computeIfAbsent(routeInfo, JaxRsAsyncResponseFilter::isSuspended)) {
+            return continuation.proceed();
+        }
+        return Publishers.fromCompletableFuture(() -> {
+            CompletableFuture<MutableHttpResponse<?>> resumedResponse = new CompletableFuture<>();
+            continuation.proceed().subscribe(new Subscriber<>() {
+
+                private boolean received;
+
+                @Override
+                public void onSubscribe(Subscription subscription) {
+                    subscription.request(1);
+                }
+
+                @Override
+                public void onNext(MutableHttpResponse<?> response) {
+                    received = true;
+                    filterResponse(request, response).whenComplete((result, throwable) -> {
+                        if (throwable == null) {
+                            resumedResponse.complete(result);
+                        } else {
+                            resumedResponse.completeExceptionally(throwable);
+                        }
+                    });
+                }
+
+                @Override
+                public void onError(Throwable throwable) {
+                    resumedResponse.completeExceptionally(throwable);
+                }
+
+                @Override
+                public void onComplete() {
+                    if (!received) {
+                        resumedResponse.completeExceptionally(new IllegalStateException("No response received"));
+                    }
+                }
+            });
+            return resumedResponse;
+        });
+    }
+
+    private CompletionStage<MutableHttpResponse<?>> filterResponse(HttpRequest<?> request, MutableHttpResponse<?> response) {
+        JaxRsAsyncResponse asyncResponse = request.getAttribute(JaxRsAsyncResponse.ATTRIBUTE, JaxRsAsyncResponse.class).orElse(null);
+        if (asyncResponse == null) {
+            // The method wasn't invoked
+            return CompletableFuture.completedFuture(response);
+        }
+        if (response.code() >= 300) {
+            // The resource method failed
+            asyncResponse.cancel();
+            asyncResponse.complete(null);
+            return CompletableFuture.completedFuture(response);
+        }
+        return asyncResponse.result().handle((result, throwable) -> {
+            if (throwable == null) {
+                MutableHttpResponse<?> resumedResponse = toResponse(response, result);
+                asyncResponse.complete(null);
+                return resumedResponse;
+            }
+            MutableHttpResponse<?> errorResponse;
+            if (throwable instanceof WebApplicationException webApplicationException) {
+                errorResponse = webApplicationExceptionHandler.handle(request, webApplicationException).toMutableResponse();
+                asyncResponse.complete(null);
+            } else {
+                errorResponse = exceptionHandler.handle(request, throwable).toMutableResponse();
+                asyncResponse.complete(exceptionMappers.find(throwable.getClass()) == null ? throwable : null);
+            }
+            return errorResponse;
+        });
+    }
+
+    private static boolean isSuspended(RouteInfo<?> routeInfo) {
+        if (routeInfo instanceof MethodBasedRouteInfo<?, ?> methodBasedRouteInfo) {
+            for (Argument<?> argument : methodBasedRouteInfo.getTargetMethod().getArguments()) {
+                if (AsyncResponse.class.isAssignableFrom(argument.getType())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static MutableHttpResponse<?> toResponse(MutableHttpResponse<?> response, @Nullable Object result) {
+        if (result == null) {
+            return response.status(HttpStatus.NO_CONTENT);
+        }
+        if (result instanceof HttpResponse<?> httpResponse) {
+            return httpResponse.toMutableResponse();
+        }
+        // The JAX-RS response is unwrapped by the JAX-RS filters
+        return response.body(result);
+    }
+}
@@ -16,7 +16,11 @@
 package io.micronaut.jaxrs.container;
 
 import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.http.HttpHeaders;
+import io.micronaut.http.HttpRequest;
 import io.micronaut.http.MutableHttpRequest;
+import io.micronaut.http.ServerHttpRequest;
 import io.micronaut.jaxrs.common.JaxRsHttpHeaders;
 import io.micronaut.jaxrs.common.JaxRsMutableHeadersMultivaluedMap;
 import io.micronaut.jaxrs.common.JaxRsMutableHttpHeaders;
@@ -42,6 +46,8 @@ import java.util.function.Predicate;
 
 /**
  * The implementation of {@link ContainerRequestContext}.
+ * The entity stream is bridged to the Micronaut request body without buffering it, a stream accessed or replaced
+ * by the filters becomes the body read by the resource method.
  *
  * @author Denis Stepanov
  * @since 4.6
@@ -53,13 +59,24 @@ final class JaxRsContainerRequestContext implements ContainerRequestContext {
     private final MutableHttpRequest<?> mutableHttpRequest;
     private final JaxRsHttpHeaders jaxRsHttpHeaders;
     private Response response;
+    @Nullable
+    private InputStream entityStream;
     private final ApplicationPathProvider applicationPathProvider;
     private boolean finished;
-    private final boolean preMatching = false; // TODO: Support pre matching in Micronaut
+    private final boolean preMatching;
+    private boolean uriRewritten;
+    private boolean offloadRequired;
+    @Nullable
+    private String method;
 
     JaxRsContainerRequestContext(MutableHttpRequest<?> mutableHttpRequest, ApplicationPathProvider applicationPathProvider) {
+        this(mutableHttpRequest, applicationPathProvider, false);
+    }
+
+    JaxRsContainerRequestContext(MutableHttpRequest<?> mutableHttpRequest, ApplicationPathProvider applicationPathProvider, boolean preMatching) {
         this.mutableHttpRequest = mutableHttpRequest;
         this.applicationPathProvider = applicationPathProvider;
+        this.preMatching = preMatching;
         this.jaxRsHttpHeaders = JaxRsMutableHttpHeaders.forRequest(mutableHttpRequest.getHeaders());
     }
 
@@ -90,19 +107,19 @@ final class JaxRsContainerRequestContext implements ContainerRequestContext {
 
     @Override
     public UriInfo getUriInfo() {
-        return new UriInfoImpl(mutableHttpRequest, applicationPathProvider.getPath());
+        return UriInfoImpl.of(mutableHttpRequest, applicationPathProvider.getPath());
     }
 
     @Override
     public void setRequestUri(URI requestUri) {
         checkIsRequestPreMatchingInProgress();
         mutableHttpRequest.uri(requestUri);
+        uriRewritten = true;
     }
 
     @Override
     public void setRequestUri(URI baseUri, URI requestUri) {
-        checkIsRequestPreMatchingInProgress();
-        throw new UnsupportedOperationException("Not supported yet.");
+        setRequestUri(baseUri.resolve(requestUri));
     }
 
     @Override
@@ -112,13 +129,28 @@ final class JaxRsContainerRequestContext implements ContainerRequestContext {
 
     @Override
     public String getMethod() {
-        return mutableHttpRequest.getMethod().name();
+        return method == null ? mutableHttpRequest.getMethod().name() : method;
     }
 
     @Override
     public void setMethod(String method) {
         checkIsRequestPreMatchingInProgress();
-        throw new IllegalArgumentException("Not supported");
+        this.method = method;
+    }
+
+    /**
+     * @return The method set by the pre-matching filters or null
+     */
+    @Nullable
+    String getRewrittenMethod() {
+        return method;
+    }
+
+    /**
+     * @return true if the pre-matching filters changed the method or the request URI
+     */
+    boolean isRewritten() {
+        return uriRewritten || method != null;
     }
 
     @Override
@@ -178,17 +210,65 @@ final class JaxRsContainerRequestContext implements ContainerRequestContext {
 
     @Override
     public boolean hasEntity() {
-        return mutableHttpRequest.getBody().isPresent();
+        return entityStream != null || mutableHttpRequest.getBody().isPresent() || hasBody(mutableHttpRequest);
     }
 
     @Override
     public InputStream getEntityStream() {
-        return null;
+        if (entityStream == null) {
+            if (finished || !(mutableHttpRequest instanceof ServerHttpRequest<?> serverHttpRequest)) {
+                // The body is already consumed by the resource method
+                return InputStream.nullInputStream();
+            }
+            checkBlockingAllowed();
+            entityStream = serverHttpRequest.byteBody().toInputStream();
+        }
+        return entityStream;
     }
 
     @Override
     public void setEntityStream(InputStream input) {
         checkRequestFilteringInProgress();
+        checkBlockingAllowed();
+        entityStream = input;
+        // The length of the original body doesn't apply to the new stream
+        mutableHttpRequest.getHeaders().remove(HttpHeaders.CONTENT_LENGTH);
+    }
+
+    /**
+     * @return The entity stream accessed or replaced by the request filters
+     */
+    @Nullable
+    InputStream getFilteredEntityStream() {
+        return entityStream;
+    }
+
+    /**
+     * Clear the flag set when a filter accessed the entity stream on a thread that cannot block.
+     *
+     * @return true if the filters must be moved to the blocking executor
+     */
+    boolean clearOffloadRequired() {
+        boolean required = offloadRequired;
+        offloadRequired = false;
+        return required;
+    }
+
+    private void checkBlockingAllowed() {
+        if (entityStream == null && !JaxRsRequestFilterExecutor.isBlockingAllowed(mutableHttpRequest)) {
+            offloadRequired = true;
+            throw JaxRsRequestFilterExecutor.offloadRequired();
+        }
+    }
+
+    /**
+     * Check if the request declares a body.
+     *
+     * @param request The request
+     * @return true if the request has the content length or the transfer encoding
+     */
+    static boolean hasBody(HttpRequest<?> request) {
+        return request.getContentLength() > 0 || request.getHeaders().contains(HttpHeaders.TRANSFER_ENCODING);
     }
 
     @Override
@@ -222,7 +302,7 @@ final class JaxRsContainerRequestContext implements ContainerRequestContext {
     }
 
     private void checkIsRequestPreMatchingInProgress() {
-        if (!preMatching) {
+        if (!preMatching || finished) {
             throw new IllegalStateException("Request is already commited");
         }
     }
@@ -40,12 +40,20 @@ import java.util.function.Predicate;
 @Singleton
 final class JaxRsContextHttpHeaders implements jakarta.ws.rs.core.HttpHeaders {
 
+    private static final String HEADERS_KEY = JaxRsHttpHeaders.class.getName();
+
     private JaxRsHttpHeaders getHeaders() {
         HttpRequest<Object> httpRequest = ServerHttpRequestContext.get();
         if (httpRequest == null) {
             throw new IllegalStateException("Cannot find required request");
         }
-        return JaxRsHttpHeaders.forRequest(httpRequest.getHeaders());
+        // Keep one instance per request to reuse the parsed headers
+        JaxRsHttpHeaders headers = httpRequest.getAttribute(HEADERS_KEY, JaxRsHttpHeaders.class).orElse(null);
+        if (headers == null) {
+            headers = JaxRsHttpHeaders.forRequest(httpRequest.getHeaders());
+            httpRequest.setAttribute(HEADERS_KEY, headers);
+        }
+        return headers;
     }
 
     @Override
@@ -44,7 +44,7 @@ final class JaxRsContextUriInfo implements UriInfo {
     }
 
     private UriInfoImpl getUriInfo() {
-        return new UriInfoImpl(ServerRequestContext.currentRequest().get(), applicationPathProvider.getPath());
+        return UriInfoImpl.of(ServerRequestContext.currentRequest().get(), applicationPathProvider.getPath());
     }
 
     @Override
@@ -65,7 +65,7 @@ final class JaxRsContextUriInfo implements UriInfo {
 
     @Override
     public List<PathSegment> getPathSegments(boolean decode) {
-        return getUriInfo().getPathSegments();
+        return getUriInfo().getPathSegments(decode);
     }
 
     @Override
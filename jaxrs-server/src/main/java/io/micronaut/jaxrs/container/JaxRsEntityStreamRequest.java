@@ -0,0 +1,51 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jaxrs.container;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.http.MutableHttpRequest;
+import io.micronaut.http.MutableHttpRequestWrapper;
+import io.micronaut.http.ServerHttpRequest;
+import io.micronaut.http.body.ByteBody;
+import io.micronaut.http.body.stream.InputStreamByteBody;
+
+import java.io.InputStream;
+import java.util.OptionalLong;
+import java.util.concurrent.Executor;
+
+/**
+ * The request with the body read from the entity stream of the JAX-RS request filters.
+ * The stream is consumed directly by the readers of streamed bodies and read on the blocking executor otherwise.
+ *
+ * @param <B> The body type
+ * @author Denis Stepanov
+ * @since 4.7
+ */
+@Internal
+final class JaxRsEntityStreamRequest<B> extends MutableHttpRequestWrapper<B> implements ServerHttpRequest<B> {
+
+    private final ByteBody byteBody;
+
+    JaxRsEntityStreamRequest(MutableHttpRequest<B> delegate, InputStream entityStream, Executor blockingExecutor) {
+        super(delegate);
+        this.byteBody = InputStreamByteBody.create(entityStream, OptionalLong.empty(), blockingExecutor);
+    }
+
+    @Override
+    public ByteBody byteBody() {
+        return byteBody;
+    }
+}
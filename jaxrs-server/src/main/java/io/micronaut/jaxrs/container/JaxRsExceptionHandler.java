@@ -27,7 +27,6 @@ import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import jakarta.ws.rs.WebApplicationException;
 import jakarta.ws.rs.ext.ExceptionMapper;
-import jakarta.ws.rs.ext.Providers;
 
 /**
  * Handles JAX-RS exceptions that occur during the execution of an HTTP request.
@@ -39,18 +38,18 @@ import jakarta.ws.rs.ext.Providers;
 @Internal
 final class JaxRsExceptionHandler implements ExceptionHandler<WebApplicationException, HttpResponse<?>> {
     private final ErrorResponseProcessor<?> responseProcessor;
-    private final Providers providers;
+    private final JaxRsExceptionMappers exceptionMappers;
 
     /**
      * Constructor.
      *
      * @param responseProcessor Error Response Processor
-     * @param providers         The providers
+     * @param exceptionMappers  The exception mappers
      */
     @Inject
-    JaxRsExceptionHandler(ErrorResponseProcessor<?> responseProcessor, Providers providers) {
+    JaxRsExceptionHandler(ErrorResponseProcessor<?> responseProcessor, JaxRsExceptionMappers exceptionMappers) {
         this.responseProcessor = responseProcessor;
-        this.providers = providers;
+        this.exceptionMappers = exceptionMappers;
     }
 
     /**
@@ -61,12 +60,12 @@ final class JaxRsExceptionHandler implements ExceptionHandler<WebApplicationExce
     @Deprecated
     public JaxRsExceptionHandler(ErrorResponseProcessor<?> responseProcessor) {
         this.responseProcessor = responseProcessor;
-        this.providers = null;
+        this.exceptionMappers = null;
     }
 
     @Override
     public HttpResponse<?> handle(HttpRequest request, WebApplicationException exception) {
-        ExceptionMapper exceptionMapper = providers.getExceptionMapper(exception.getClass());
+        ExceptionMapper exceptionMapper = exceptionMappers.find(exception.getClass());
         JaxRsMutableResponse response = (JaxRsMutableResponse) exception.getResponse();
         if (response.hasEntity()) {
             return response.getResponse();
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jaxrs.container;
+
+import io.micronaut.context.BeanContext;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.order.OrderUtil;
+import io.micronaut.core.type.Argument;
+import io.micronaut.inject.BeanDefinition;
+import jakarta.inject.Singleton;
+import jakarta.ws.rs.ext.ExceptionMapper;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * The registry of the {@link ExceptionMapper} beans.
+ * The mappers are indexed by the exception type at startup, the nearest mapper of a concrete exception class
+ * is resolved by walking the class hierarchy. The resolved bean definition is memoized per exception class,
+ * the mapper instance is retrieved from the bean context so that the scope of the mapper is respected.
+ *
+ * @author Denis Stepanov
+ * @since 4.7
+ */
+@Internal
+@Singleton
+public final class JaxRsExceptionMappers {
+
+    private final BeanContext beanContext;
+    private final Map<Class<?>, BeanDefinition<ExceptionMapper>> index = new HashMap<>();
+    private final ClassValue<Optional<BeanDefinition<ExceptionMapper>>> resolved = new ClassValue<>() {
+        @Override
+        protected Optional<BeanDefinition<ExceptionMapper>> computeValue(Class<?> type) {
+            return resolve(type);
+        }
+    };
+
+    JaxRsExceptionMappers(BeanContext beanContext) {
+        this.beanContext = beanContext;
+        List<BeanDefinition<ExceptionMapper>> definitions = new ArrayList<>(beanContext.getBeanDefinitions(ExceptionMapper.class));
+        // The mapper with the highest priority wins for the same exception type
+        definitions.sort(Comparator.comparingInt(definition -> OrderUtil.getOrder(definition.getAnnotationMetadata())));
+        for (BeanDefinition<ExceptionMapper> definition : definitions) {
+            index.putIfAbsent(getExceptionType(definition), definition);
+        }
+    }
+
+    private static Class<?> getExceptionType(BeanDefinition<ExceptionMapper> definition) {
+        List<Argument<?>> args = definition.getTypeArguments(ExceptionMapper.class);
+        return args.isEmpty() ? Throwable.class : args.get(0).getType();
+    }
+
+    /**
+     * Find the exception mapper with the nearest exception type.
+     *
+     * @param exceptionType The exception type
+     * @param <T>           The exception type
+     * @return The exception mapper or null
+     */
+    @SuppressWarnings("unchecked")
+    @Nullable
+    public <T extends Throwable> ExceptionMapper<T> find(@NonNull Class<T> exceptionType) {
+        BeanDefinition<ExceptionMapper> definition = resolved.get(exceptionType).orElse(null);
+        if (definition == null) {
+            return null;
+        }
+        return beanContext.getBean(definition);
+    }
+
+    private Optional<BeanDefinition<ExceptionMapper>> resolve(Class<?> exceptionType) {
+        for (Class<?> type = exceptionType; type != null; type = type.getSuperclass()) {
+            BeanDefinition<ExceptionMapper> definition = index.get(type);
+            if (definition != null) {
+                return Optional.of(definition);
+            }
+        }
+        return Optional.empty();
+    }
+}
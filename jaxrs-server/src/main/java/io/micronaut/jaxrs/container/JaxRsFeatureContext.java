@@ -0,0 +1,212 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jaxrs.container;
+
+import io.micronaut.context.BeanContext;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.jaxrs.common.JaxRsUtils;
+import jakarta.ws.rs.RuntimeType;
+import jakarta.ws.rs.core.Configuration;
+import jakarta.ws.rs.core.Feature;
+import jakarta.ws.rs.core.FeatureContext;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * The implementation of {@link FeatureContext} passed to {@link jakarta.ws.rs.container.DynamicFeature}.
+ * Only collects the registered components, the filters are extracted when the route filter chain is resolved.
+ *
+ * @author Denis Stepanov
+ * @since 4.7
+ */
+@Internal
+final class JaxRsFeatureContext implements FeatureContext, Configuration {
+
+    private final BeanContext beanContext;
+    private final Map<String, Object> properties = new LinkedHashMap<>();
+    private final List<Registration> registrations = new ArrayList<>();
+
+    JaxRsFeatureContext(BeanContext beanContext) {
+        this.beanContext = beanContext;
+    }
+
+    /**
+     * Find the registered components of the type.
+     *
+     * @param type The component type
+     * @param <T>  The component type
+     * @return The components with the priority
+     */
+    <T> List<Map.Entry<T, Integer>> getComponentsOfType(Class<T> type) {
+        var components = new ArrayList<Map.Entry<T, Integer>>();
+        for (Registration registration : registrations) {
+            if (!type.isInstance(registration.component)) {
+                continue;
+            }
+            Integer priority;
+            if (registration.contracts.isEmpty()) {
+                priority = registration.priority;
+            } else {
+                priority = registration.contracts.get(type);
+                if (priority == null) {
+                    continue;
+                }
+            }
+            T component = type.cast(registration.component);
+            components.add(Map.entry(component, priority == 0 ? JaxRsUtils.getPriorityOrder(component) : priority));
+        }
+        return components;
+    }
+
+    @Override
+    public Configuration getConfiguration() {
+        return this;
+    }
+
+    @Override
+    public FeatureContext property(String name, Object value) {
+        if (value == null) {
+            properties.remove(name);
+        } else {
+            properties.put(name, value);
+        }
+        return this;
+    }
+
+    @Override
+    public FeatureContext register(Class<?> componentClass) {
+        return register(componentClass, 0);
+    }
+
+    @Override
+    public FeatureContext register(Class<?> componentClass, int priority) {
+        return register(instantiate(componentClass), priority);
+    }
+
+    @Override
+    public FeatureContext register(Class<?> componentClass, Class<?>... contracts) {
+        return register(instantiate(componentClass), contracts);
+    }
+
+    @Override
+    public FeatureContext register(Class<?> componentClass, Map<Class<?>, Integer> contracts) {
+        return register(instantiate(componentClass), contracts);
+    }
+
+    @Override
+    public FeatureContext register(Object component) {
+        return register(component, 0);
+    }
+
+    @Override
+    public FeatureContext register(Object component, int priority) {
+        registrations.add(new Registration(component, priority, Map.of()));
+        return this;
+    }
+
+    @Override
+    public FeatureContext register(Object component, Class<?>... contracts) {
+        if (contracts == null || contracts.length == 0) {
+            return this;
+        }
+        return register(component, Arrays.stream(contracts).collect(Collectors.toMap(Function.identity(), c -> 0, (p1, p2) -> p1)));
+    }
+
+    @Override
+    public FeatureContext register(Object component, Map<Class<?>, Integer> contracts) {
+        if (contracts == null || contracts.isEmpty()) {
+            return this;
+        }
+        registrations.add(new Registration(component, 0, contracts));
+        return this;
+    }
+
+    private Object instantiate(Class<?> componentClass) {
+        return beanContext.findOrInstantiateBean(componentClass)
+            .orElseThrow(() -> new IllegalArgumentException("Cannot instantiate component: " + componentClass));
+    }
+
+    @Override
+    public RuntimeType getRuntimeType() {
+        return RuntimeType.SERVER;
+    }
+
+    @Override
+    public Map<String, Object> getProperties() {
+        return Collections.unmodifiableMap(properties);
+    }
+
+    @Override
+    public Object getProperty(String name) {
+        return properties.get(name);
+    }
+
+    @Override
+    public Collection<String> getPropertyNames() {
+        return properties.keySet();
+    }
+
+    @Override
+    public boolean isEnabled(Feature feature) {
+        return false;
+    }
+
+    @Override
+    public boolean isEnabled(Class<? extends Feature> featureClass) {
+        return false;
+    }
+
+    @Override
+    public boolean isRegistered(Object component) {
+        return registrations.stream().anyMatch(r -> r.component.equals(component));
+    }
+
+    @Override
+    public boolean isRegistered(Class<?> componentClass) {
+        return registrations.stream().anyMatch(r -> r.component.getClass().equals(componentClass));
+    }
+
+    @Override
+    public Map<Class<?>, Integer> getContracts(Class<?> componentClass) {
+        return registrations.stream()
+            .filter(r -> r.component.getClass().equals(componentClass))
+            .findFirst()
+            .map(r -> r.contracts)
+            .orElse(Map.of());
+    }
+
+    @Override
+    public Set<Class<?>> getClasses() {
+        return Set.of();
+    }
+
+    @Override
+    public Set<Object> getInstances() {
+        return registrations.stream().map(r -> r.component).collect(Collectors.toSet());
+    }
+
+    private record Registration(Object component, int priority, Map<Class<?>, Integer> contracts) {
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jaxrs.container;
+
+import io.micronaut.core.annotation.Internal;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+
+import java.util.List;
+
+/**
+ * The resolved JAX-RS filters of a route.
+ *
+ * @param requestFilters  The request filters sorted by priority
+ * @param responseFilters The response filters sorted by the reversed priority
+ * @author Denis Stepanov
+ * @since 4.7
+ */
+@Internal
+record JaxRsFilterChain(List<ContainerRequestFilter> requestFilters,
+                        List<ContainerResponseFilter> responseFilters) {
+
+    static final JaxRsFilterChain EMPTY = new JaxRsFilterChain(List.of(), List.of());
+
+    JaxRsFilterChain {
+        requestFilters = List.copyOf(requestFilters);
+        responseFilters = List.copyOf(responseFilters);
+    }
+}
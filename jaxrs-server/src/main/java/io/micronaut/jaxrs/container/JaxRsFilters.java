@@ -15,35 +15,58 @@
  */
 package io.micronaut.jaxrs.container;
 
+import io.micronaut.context.BeanContext;
+import io.micronaut.context.BeanRegistration;
+import io.micronaut.core.annotation.AnnotationMetadata;
 import io.micronaut.core.annotation.Internal;
 import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.type.Argument;
 import io.micronaut.http.HttpAttributes;
 import io.micronaut.http.HttpMethod;
 import io.micronaut.http.HttpRequest;
-import io.micronaut.http.HttpResponse;
 import io.micronaut.http.MutableHttpRequest;
 import io.micronaut.http.MutableHttpResponse;
 import io.micronaut.http.annotation.RequestFilter;
 import io.micronaut.http.annotation.ResponseFilter;
 import io.micronaut.http.annotation.ServerFilter;
+import io.micronaut.http.filter.FilterContinuation;
 import io.micronaut.inject.annotation.MutableAnnotationMetadata;
 import io.micronaut.jaxrs.common.JaxRsArgumentUtil;
 import io.micronaut.jaxrs.common.JaxRsGenericEntity;
 import io.micronaut.jaxrs.common.JaxRsMutableResponse;
-import io.micronaut.jaxrs.common.JaxRsResponse;
 import io.micronaut.jaxrs.common.JaxRsUtils;
+import io.micronaut.scheduling.TaskExecutors;
+import io.micronaut.web.router.MethodBasedRouteInfo;
 import io.micronaut.web.router.RouteInfo;
+import jakarta.inject.Named;
+import jakarta.ws.rs.NameBinding;
 import jakarta.ws.rs.container.ContainerRequestFilter;
 import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.container.DynamicFeature;
+import jakarta.ws.rs.container.ResourceInfo;
+import jakarta.ws.rs.core.Application;
 import jakarta.ws.rs.core.GenericEntity;
-import jakarta.ws.rs.core.Response;
+import org.reactivestreams.Publisher;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 
 /**
  * A filter which retrieves the actual response from the returned JAX-RS Response object.
+ * The JAX-RS filters applicable to a route, including the {@link NameBinding} and {@link DynamicFeature} selection,
+ * are resolved only once per route; non JAX-RS routes don't have any filters. The {@link jakarta.ws.rs.container.PreMatching}
+ * filters are run by {@link JaxRsPreMatchingFilters}.
+ * The request filters are moved to the blocking executor by {@link JaxRsRequestFilterExecutor} once they read the entity stream of a body not received yet.
  *
  * @author graemerocher
  * @since 1.0
@@ -55,40 +78,59 @@ final class JaxRsFilters {
     private static final String REQUEST_CONTEXT_KEY = ContainerRequestFilter.class.getName();
 
     private final ApplicationPathProvider applicationPathProvider;
-    private final List<ContainerRequestFilter> requestFilters;
-    private final List<ContainerResponseFilter> containerResponseFilters;
+    private final BeanContext beanContext;
+    private final Executor blockingExecutor;
+    private final List<NameBoundFilter<ContainerRequestFilter>> requestFilters;
+    private final List<NameBoundFilter<ContainerResponseFilter>> responseFilters;
+    private final List<DynamicFeature> dynamicFeatures;
+    private final Set<String> applicationNameBindings;
+    private final JaxRsFilterChain unmatchedFilterChain;
+    private final Map<RouteInfo<?>, JaxRsFilterChain> routeFilterChains = new ConcurrentHashMap<>();
 
     JaxRsFilters(ApplicationPathProvider applicationPathProvider,
-                 List<ContainerRequestFilter> requestFilters,
-                 List<ContainerResponseFilter> containerResponseFilters) {
+                 BeanContext beanContext,
+                 Collection<BeanRegistration<ContainerRequestFilter>> requestFilters,
+                 Collection<BeanRegistration<ContainerResponseFilter>> responseFilters,
+                 List<DynamicFeature> dynamicFeatures,
+                 @Named(TaskExecutors.BLOCKING) Executor blockingExecutor) {
         this.applicationPathProvider = applicationPathProvider;
-        this.requestFilters = requestFilters;
-        JaxRsUtils.sortByPriority(requestFilters);
-        this.containerResponseFilters = containerResponseFilters;
-        JaxRsUtils.sortByPriorityReversed(containerResponseFilters);
+        this.beanContext = beanContext;
+        this.blockingExecutor = blockingExecutor;
+        this.requestFilters = requestFilters.stream()
+            .filter(registration -> !JaxRsPreMatchingFilters.isPreMatching(registration))
+            .map(NameBoundFilter::of)
+            .toList();
+        this.responseFilters = responseFilters.stream().map(NameBoundFilter::of).toList();
+        this.dynamicFeatures = dynamicFeatures;
+        this.applicationNameBindings = beanContext.findBeanDefinition(Application.class)
+            .map(bd -> Set.copyOf(bd.getAnnotationNamesByStereotype(NameBinding.class)))
+            .orElse(Set.of());
+        // Requests without a matched route are processed by the global filters
+        this.unmatchedFilterChain = new JaxRsFilterChain(
+            sortByPriority(globalFilters(this.requestFilters), false),
+            sortByPriority(globalFilters(this.responseFilters), true)
+        );
     }
 
-    @Nullable
     @RequestFilter
-    HttpResponse<?> filterRequest(MutableHttpRequest<?> request) throws IOException {
-        if (requestFilters.isEmpty()) {
-            return null;
+    Publisher<MutableHttpResponse<?>> filterRequest(MutableHttpRequest<?> request,
+                                                    FilterContinuation<Publisher<MutableHttpResponse<?>>> continuation) {
+        JaxRsFilterChain filterChain = findFilterChain(request.getAttribute(HttpAttributes.ROUTE_INFO, RouteInfo.class).orElse(null));
+        if (filterChain.requestFilters().isEmpty()) {
+            return continuation.proceed();
         }
         JaxRsContainerRequestContext requestContext = new JaxRsContainerRequestContext(request, applicationPathProvider);
-        if (!containerResponseFilters.isEmpty()) {
+        if (!filterChain.responseFilters().isEmpty()) {
             request.setAttribute(REQUEST_CONTEXT_KEY, requestContext);
         }
-        for (ContainerRequestFilter requestFilter : requestFilters) {
-            requestFilter.filter(requestContext);
-            Response response = requestContext.getResponse();
-            if (response != null) {
-                if (response instanceof JaxRsResponse jaxRsResponse) {
-                    return jaxRsResponse.getResponse();
-                }
+        return JaxRsRequestFilterExecutor.execute(request, requestContext, filterChain.requestFilters(), blockingExecutor, () -> {
+            requestContext.finished();
+            InputStream entityStream = requestContext.getFilteredEntityStream();
+            if (entityStream != null) {
+                continuation.request(new JaxRsEntityStreamRequest<>(request, entityStream, blockingExecutor));
             }
-        }
-        requestContext.finished();
-        return null;
+            return continuation.proceed();
+        });
     }
 
     @ResponseFilter
@@ -112,7 +154,9 @@ final class JaxRsFilters {
             mutableHttpResponse = jaxRsResponse;
             body = mutableHttpResponse.getBody().orElse(null);
         }
-        if (!containerResponseFilters.isEmpty()) {
+        RouteInfo<?> routeInfo = request.getAttribute(HttpAttributes.ROUTE_INFO, RouteInfo.class).orElse(null);
+        List<ContainerResponseFilter> responseFilters = findFilterChain(routeInfo).responseFilters();
+        if (!responseFilters.isEmpty()) {
             Argument<?> bodyArgument = null;
             if (body instanceof JaxRsGenericEntity<?> genericEntity) {
                 bodyArgument = genericEntity.asArgument();
@@ -123,7 +167,6 @@ final class JaxRsFilters {
             } else if (body != null) {
                 bodyArgument = Argument.of(body.getClass());
             }
-            RouteInfo<?> routeInfo = request.getAttribute(HttpAttributes.ROUTE_INFO, RouteInfo.class).orElse(null);
             if (routeInfo != null) {
                 Argument<?> returnType = routeInfo.getReturnType().asArgument();
                 if (bodyArgument == null) {
@@ -139,7 +182,7 @@ final class JaxRsFilters {
                 .orElseGet(() -> new JaxRsContainerRequestContext(request.mutate(), applicationPathProvider));
             requestContext.finished();
             JaxRsContainerResponseContext responseContext = new JaxRsContainerResponseContext(mutableHttpResponse, bodyArgument);
-            for (ContainerResponseFilter responseFilter : containerResponseFilters) {
+            for (ContainerResponseFilter responseFilter : responseFilters) {
                 responseFilter.filter(requestContext, responseContext);
             }
             if (body instanceof GenericEntity<?> genericEntity &&
@@ -151,4 +194,100 @@ final class JaxRsFilters {
         }
         return mutableHttpResponse;
     }
+
+    private JaxRsFilterChain findFilterChain(@Nullable RouteInfo<?> routeInfo) {
+        if (routeInfo == null) {
+            return unmatchedFilterChain;
+        }
+        return routeFilterChains.computeIfAbsent(routeInfo, this::resolveFilterChain);
+    }
+
+    private JaxRsFilterChain resolveFilterChain(RouteInfo<?> routeInfo) {
+        AnnotationMetadata annotationMetadata = routeInfo.getAnnotationMetadata();
+        if (!annotationMetadata.hasStereotype(jakarta.ws.rs.HttpMethod.class)) {
+            // Not a JAX-RS resource
+            return JaxRsFilterChain.EMPTY;
+        }
+        Set<String> nameBindings = new HashSet<>(applicationNameBindings);
+        nameBindings.addAll(annotationMetadata.getAnnotationNamesByStereotype(NameBinding.class));
+
+        List<Map.Entry<ContainerRequestFilter, Integer>> routeRequestFilters = boundFilters(requestFilters, nameBindings);
+        List<Map.Entry<ContainerResponseFilter, Integer>> routeResponseFilters = boundFilters(responseFilters, nameBindings);
+        if (!dynamicFeatures.isEmpty()) {
+            ResourceInfo resourceInfo = new RouteResourceInfo(routeInfo);
+            for (DynamicFeature dynamicFeature : dynamicFeatures) {
+                JaxRsFeatureContext featureContext = new JaxRsFeatureContext(beanContext);
+                dynamicFeature.configure(resourceInfo, featureContext);
+                routeRequestFilters.addAll(featureContext.getComponentsOfType(ContainerRequestFilter.class));
+                routeResponseFilters.addAll(featureContext.getComponentsOfType(ContainerResponseFilter.class));
+            }
+        }
+        if (routeRequestFilters.isEmpty() && routeResponseFilters.isEmpty()) {
+            return JaxRsFilterChain.EMPTY;
+        }
+        return new JaxRsFilterChain(
+            sortByPriority(routeRequestFilters, false),
+            sortByPriority(routeResponseFilters, true)
+        );
+    }
+
+    private static <F> List<Map.Entry<F, Integer>> globalFilters(List<NameBoundFilter<F>> filters) {
+        return boundFilters(filters, Set.of());
+    }
+
+    private static <F> List<Map.Entry<F, Integer>> boundFilters(List<NameBoundFilter<F>> filters, Set<String> nameBindings) {
+        var boundFilters = new ArrayList<Map.Entry<F, Integer>>(filters.size());
+        for (NameBoundFilter<F> filter : filters) {
+            if (nameBindings.containsAll(filter.nameBindings())) {
+                boundFilters.add(Map.entry(filter.filter(), JaxRsUtils.getPriorityOrder(filter.filter())));
+            }
+        }
+        return boundFilters;
+    }
+
+    private static <F> List<F> sortByPriority(List<Map.Entry<F, Integer>> filters, boolean reverse) {
+        Comparator<Map.Entry<F, Integer>> comparator = Comparator.comparingInt(Map.Entry::getValue);
+        if (reverse) {
+            comparator = comparator.reversed();
+        }
+        return filters.stream().sorted(comparator).map(Map.Entry::getKey).toList();
+    }
+
+    /**
+     * The filter with the required name binding annotations.
+     *
+     * @param filter       The filter
+     * @param nameBindings The name binding annotations
+     * @param <F>          The filter type
+     */
+    private record NameBoundFilter<F>(F filter, Set<String> nameBindings) {
+
+        static <F> NameBoundFilter<F> of(BeanRegistration<F> registration) {
+            return new NameBoundFilter<>(
+                registration.bean(),
+                Set.copyOf(registration.getBeanDefinition().getAnnotationNamesByStereotype(NameBinding.class))
+            );
+        }
+    }
+
+    /**
+     * The {@link ResourceInfo} of a route provided to {@link DynamicFeature}.
+     *
+     * @param routeInfo The route info
+     */
+    private record RouteResourceInfo(RouteInfo<?> routeInfo) implements ResourceInfo {
+
+        @Override
+        public Method getResourceMethod() {
+            if (routeInfo instanceof MethodBasedRouteInfo<?, ?> methodBasedRouteInfo) {
+                return methodBasedRouteInfo.getTargetMethod().getTargetMethod();
+            }
+            return null;
+        }
+
+        @Override
+        public Class<?> getResourceClass() {
+            return routeInfo.getDeclaringType();
+        }
+    }
 }
@@ -26,7 +26,6 @@ import io.micronaut.jaxrs.common.JaxRsMutableResponse;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import jakarta.ws.rs.ext.ExceptionMapper;
-import jakarta.ws.rs.ext.Providers;
 
 /**
  * Handles JAX-RS exceptions that occur during the execution of an HTTP request.
@@ -39,23 +38,23 @@ import jakarta.ws.rs.ext.Providers;
 @Internal
 final class JaxRsGlobalExceptionHandler implements ExceptionHandler<Throwable, HttpResponse<?>> {
     private final ErrorResponseProcessor<?> responseProcessor;
-    private final Providers providers;
+    private final JaxRsExceptionMappers exceptionMappers;
 
     /**
      * Constructor.
      *
      * @param responseProcessor Error Response Processor
-     * @param providers         The providers
+     * @param exceptionMappers  The exception mappers
      */
     @Inject
-    JaxRsGlobalExceptionHandler(ErrorResponseProcessor<?> responseProcessor, Providers providers) {
+    JaxRsGlobalExceptionHandler(ErrorResponseProcessor<?> responseProcessor, JaxRsExceptionMappers exceptionMappers) {
         this.responseProcessor = responseProcessor;
-        this.providers = providers;
+        this.exceptionMappers = exceptionMappers;
     }
 
     @Override
     public HttpResponse<?> handle(HttpRequest request, Throwable exception) {
-        ExceptionMapper exceptionMapper = providers.getExceptionMapper(exception.getClass());
+        ExceptionMapper exceptionMapper = exceptionMappers.find(exception.getClass());
         if (exceptionMapper != null) {
             return ((JaxRsMutableResponse) exceptionMapper.toResponse(exception)).getResponse();
         }
@@ -35,7 +35,6 @@ import jakarta.inject.Singleton;
 import jakarta.ws.rs.WebApplicationException;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.ext.ExceptionMapper;
-import jakarta.ws.rs.ext.Providers;
 
 /**
  * Handles JAX-RS exceptions that occur during the execution of an HTTP request.
@@ -49,25 +48,25 @@ import jakarta.ws.rs.ext.Providers;
 @Order(Ordered.HIGHEST_PRECEDENCE)
 final class JaxRsHttpStatusExceptionHandler implements ExceptionHandler<HttpStatusException, HttpResponse<?>> {
     private final ErrorResponseProcessor<?> responseProcessor;
-    private final Providers providers;
+    private final JaxRsExceptionMappers exceptionMappers;
 
     /**
      * Constructor.
      *
      * @param responseProcessor Error Response Processor
-     * @param providers         The providers
+     * @param exceptionMappers  The exception mappers
      */
     @Inject
-    JaxRsHttpStatusExceptionHandler(ErrorResponseProcessor<?> responseProcessor, Providers providers) {
+    JaxRsHttpStatusExceptionHandler(ErrorResponseProcessor<?> responseProcessor, JaxRsExceptionMappers exceptionMappers) {
         this.responseProcessor = responseProcessor;
-        this.providers = providers;
+        this.exceptionMappers = exceptionMappers;
     }
 
     @Override
     public HttpResponse<?> handle(HttpRequest request, HttpStatusException exception) {
         WebApplicationException webApplicationException = remap(exception);
         if (webApplicationException != null) {
-            ExceptionMapper exceptionMapper = providers.getExceptionMapper(webApplicationException.getClass());
+            ExceptionMapper exceptionMapper = exceptionMappers.find(webApplicationException.getClass());
             Response response;
             if (exceptionMapper != null) {
                 response = exceptionMapper.toResponse(webApplicationException);
@@ -28,7 +28,6 @@ import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.ext.ExceptionMapper;
-import jakarta.ws.rs.ext.Providers;
 
 import java.util.ArrayList;
 
@@ -43,16 +42,16 @@ import java.util.ArrayList;
 @Internal
 @Order(Ordered.HIGHEST_PRECEDENCE)
 final class JaxRsNotAllowedExceptionHandler implements ExceptionHandler<NotAllowedException, HttpResponse<?>> {
-    private final Providers providers;
+    private final JaxRsExceptionMappers exceptionMappers;
 
     /**
      * Constructor.
      *
-     * @param providers The providers
+     * @param exceptionMappers The exception mappers
      */
     @Inject
-    JaxRsNotAllowedExceptionHandler(Providers providers) {
-        this.providers = providers;
+    JaxRsNotAllowedExceptionHandler(JaxRsExceptionMappers exceptionMappers) {
+        this.exceptionMappers = exceptionMappers;
     }
 
     @Override
@@ -62,7 +61,7 @@ final class JaxRsNotAllowedExceptionHandler implements ExceptionHandler<NotAllow
             allowedMethods.get(0),
             allowedMethods.subList(1, allowedMethods.size()).toArray(String[]::new)
         );
-        ExceptionMapper exceptionMapper = providers.getExceptionMapper(notAllowedException.getClass());
+        ExceptionMapper exceptionMapper = exceptionMappers.find(notAllowedException.getClass());
         Response response;
         if (exceptionMapper != null) {
             response = exceptionMapper.toResponse(notAllowedException);
@@ -0,0 +1,196 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jaxrs.container;
+
+import io.micronaut.core.annotation.Internal;
+import jakarta.ws.rs.core.GenericEntity;
+import jakarta.ws.rs.core.GenericType;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.sse.OutboundSseEvent;
+
+import java.lang.reflect.Type;
+
+/**
+ * The implementation of {@link OutboundSseEvent}.
+ *
+ * @author Denis Stepanov
+ * @since 4.7
+ */
+@Internal
+final class JaxRsOutboundSseEvent implements OutboundSseEvent {
+
+    private final String id;
+    private final String name;
+    private final String comment;
+    private final long reconnectDelay;
+    private final Class<?> type;
+    private final Type genericType;
+    private final MediaType mediaType;
+    private final Object data;
+
+    private JaxRsOutboundSseEvent(JaxRsOutboundSseEventBuilder builder) {
+        this.id = builder.id;
+        this.name = builder.name;
+        this.comment = builder.comment;
+        this.reconnectDelay = builder.reconnectDelay;
+        this.type = builder.type;
+        this.genericType = builder.genericType;
+        this.mediaType = builder.mediaType;
+        this.data = builder.data;
+    }
+
+    @Override
+    public Class<?> getType() {
+        return type;
+    }
+
+    @Override
+    public Type getGenericType() {
+        return genericType;
+    }
+
+    @Override
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    @Override
+    public Object getData() {
+        return data;
+    }
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String getComment() {
+        return comment;
+    }
+
+    @Override
+    public long getReconnectDelay() {
+        return reconnectDelay;
+    }
+
+    @Override
+    public boolean isReconnectDelaySet() {
+        return reconnectDelay != RECONNECT_NOT_SET;
+    }
+
+    @Override
+    public String toString() {
+        return "OutboundSseEvent{id=" + id + ", name=" + name + ", data=" + data + "}";
+    }
+
+    /**
+     * The implementation of {@link OutboundSseEvent.Builder}.
+     */
+    static final class JaxRsOutboundSseEventBuilder implements OutboundSseEvent.Builder {
+
+        private String id;
+        private String name;
+        private String comment;
+        private long reconnectDelay = RECONNECT_NOT_SET;
+        private Class<?> type;
+        private Type genericType;
+        private MediaType mediaType = MediaType.TEXT_PLAIN_TYPE;
+        private Object data;
+
+        @Override
+        public Builder id(String id) {
+            this.id = id;
+            return this;
+        }
+
+        @Override
+        public Builder name(String name) {
+            this.name = name;
+            return this;
+        }
+
+        @Override
+        public Builder reconnectDelay(long milliseconds) {
+            this.reconnectDelay = milliseconds < 0 ? RECONNECT_NOT_SET : milliseconds;
+            return this;
+        }
+
+        @Override
+        public Builder mediaType(MediaType mediaType) {
+            if (mediaType == null) {
+                throw new NullPointerException("The media type cannot be null");
+            }
+            this.mediaType = mediaType;
+            return this;
+        }
+
+        @Override
+        public Builder comment(String comment) {
+            this.comment = comment;
+            return this;
+        }
+
+        @Override
+        public Builder data(Class type, Object data) {
+            if (type == null || data == null) {
+                throw new IllegalArgumentException("The type and the data cannot be null");
+            }
+            this.type = type;
+            this.genericType = type;
+            this.data = data;
+            return this;
+        }
+
+        @Override
+        public Builder data(GenericType type, Object data) {
+            if (type == null || data == null) {
+                throw new IllegalArgumentException("The type and the data cannot be null");
+            }
+            this.type = type.getRawType();
+            this.genericType = type.getType();
+            this.data = data;
+            return this;
+        }
+
+        @Override
+        public Builder data(Object data) {
+            if (data == null) {
+                throw new IllegalArgumentException("The data cannot be null");
+            }
+            if (data instanceof GenericEntity<?> genericEntity) {
+                this.type = genericEntity.getRawType();
+                this.genericType = genericEntity.getType();
+                this.data = genericEntity.getEntity();
+                return this;
+            }
+            return data(data.getClass(), data);
+        }
+
+        @Override
+        public OutboundSseEvent build() {
+            if (data == null && comment == null) {
+                throw new IllegalStateException("The event requires the data or the comment");
+            }
+            return new JaxRsOutboundSseEvent(this);
+        }
+    }
+}
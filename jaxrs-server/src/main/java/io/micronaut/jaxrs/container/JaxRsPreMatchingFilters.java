@@ -0,0 +1,189 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jaxrs.container;
+
+import io.micronaut.context.BeanRegistration;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.annotation.Order;
+import io.micronaut.core.async.publisher.Publishers;
+import io.micronaut.http.HttpAttributes;
+import io.micronaut.http.HttpHeaders;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.MutableHttpRequest;
+import io.micronaut.http.MutableHttpResponse;
+import io.micronaut.http.annotation.RequestFilter;
+import io.micronaut.http.annotation.ServerFilter;
+import io.micronaut.http.filter.FilterContinuation;
+import io.micronaut.http.exceptions.HttpStatusException;
+import io.micronaut.http.filter.ServerFilterPhase;
+import io.micronaut.jaxrs.common.JaxRsBoundedCache;
+import io.micronaut.jaxrs.common.JaxRsUtils;
+import io.micronaut.scheduling.TaskExecutors;
+import io.micronaut.web.router.Router;
+import io.micronaut.web.router.UriRouteInfo;
+import io.micronaut.web.router.UriRouteMatch;
+import io.micronaut.web.router.filter.FilteredRouter;
+import jakarta.inject.Named;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.container.PreMatching;
+import org.reactivestreams.Publisher;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+
+/**
+ * Runs the {@link PreMatching} request filters before the JAX-RS filters of the route.
+ * Micronaut matches the route before the filters run, so the route of a request with the method or the URI
+ * changed by the filters is resolved again. The resolved routes are cached by the method, the path and the media type headers,
+ * unless the router also matches on other criteria, like the version of a filtered router or the route conditions.
+ * A request rewritten to a path without a route fails with 404 instead of running the route matched before the rewrite.
+ *
+ * @author Denis Stepanov
+ * @since 4.7
+ */
+@ServerFilter("/**")
+@Order(ServerFilterPhase.FIRST.before())
+@Internal
+final class JaxRsPreMatchingFilters {
+
+    private static final int MAX_CACHE_SIZE = 500;
+    private static final String ROUTE_CONDITION = "io.micronaut.http.annotation.RouteCondition";
+
+    private final ApplicationPathProvider applicationPathProvider;
+    private final Router router;
+    private final Executor blockingExecutor;
+    private final List<ContainerRequestFilter> requestFilters;
+    private final JaxRsBoundedCache<RouteKey, Optional<UriRouteInfo<Object, Object>>> routes = new JaxRsBoundedCache<>(MAX_CACHE_SIZE);
+    @Nullable
+    private volatile Boolean cacheable;
+
+    JaxRsPreMatchingFilters(ApplicationPathProvider applicationPathProvider,
+                            Router router,
+                            Collection<BeanRegistration<ContainerRequestFilter>> requestFilters,
+                            @Named(TaskExecutors.BLOCKING) Executor blockingExecutor) {
+        this.applicationPathProvider = applicationPathProvider;
+        this.router = router;
+        this.blockingExecutor = blockingExecutor;
+        List<ContainerRequestFilter> preMatchingFilters = new ArrayList<>();
+        for (BeanRegistration<ContainerRequestFilter> registration : requestFilters) {
+            if (isPreMatching(registration)) {
+                preMatchingFilters.add(registration.bean());
+            }
+        }
+        JaxRsUtils.sortByPriority(preMatchingFilters);
+        this.requestFilters = preMatchingFilters;
+    }
+
+    /**
+     * Check if the filter is annotated with {@link PreMatching}.
+     *
+     * @param registration The filter registration
+     * @return true if the filter is pre-matching
+     */
+    static boolean isPreMatching(BeanRegistration<?> registration) {
+        return registration.getBeanDefinition().hasStereotype(PreMatching.class);
+    }
+
+    @RequestFilter
+    Publisher<MutableHttpResponse<?>> filterRequest(MutableHttpRequest<?> request,
+                                                    FilterContinuation<Publisher<MutableHttpResponse<?>>> continuation) {
+        if (requestFilters.isEmpty()) {
+            return continuation.proceed();
+        }
+        JaxRsContainerRequestContext requestContext = new JaxRsContainerRequestContext(request, applicationPathProvider, true);
+        return JaxRsRequestFilterExecutor.execute(request, requestContext, requestFilters, blockingExecutor,
+            () -> proceed(request, requestContext, continuation));
+    }
+
+    private Publisher<MutableHttpResponse<?>> proceed(MutableHttpRequest<?> request,
+                                                      JaxRsContainerRequestContext requestContext,
+                                                      FilterContinuation<Publisher<MutableHttpResponse<?>>> continuation) {
+        requestContext.finished();
+        MutableHttpRequest<?> filteredRequest = request;
+        String method = requestContext.getRewrittenMethod();
+        if (method != null && !method.equals(request.getMethodName())) {
+            filteredRequest = new JaxRsRewrittenRequest<>(filteredRequest, method, blockingExecutor);
+        }
+        InputStream entityStream = requestContext.getFilteredEntityStream();
+        if (entityStream != null) {
+            filteredRequest = new JaxRsEntityStreamRequest<>(filteredRequest, entityStream, blockingExecutor);
+        }
+        if (requestContext.isRewritten() && !route(filteredRequest)) {
+            return Publishers.<MutableHttpResponse<?>>just(new HttpStatusException(HttpStatus.NOT_FOUND, "Page Not Found"));
+        }
+        if (filteredRequest != request) {
+            continuation.request(filteredRequest);
+        }
+        return continuation.proceed();
+    }
+
+    private boolean route(MutableHttpRequest<?> request) {
+        String path = request.getPath();
+        UriRouteMatch<Object, Object> routeMatch;
+        if (isCacheable()) {
+            RouteKey key = new RouteKey(
+                request.getMethodName(),
+                path,
+                request.getHeaders().get(HttpHeaders.CONTENT_TYPE),
+                request.getHeaders().get(HttpHeaders.ACCEPT)
+            );
+            UriRouteInfo<Object, Object> routeInfo = routes.get(key, k -> findRoute(request)).orElse(null);
+            routeMatch = routeInfo == null ? null : routeInfo.tryMatch(path);
+        } else {
+            routeMatch = router.findClosest(request);
+        }
+        if (routeMatch == null) {
+            request.removeAttribute(HttpAttributes.ROUTE_MATCH);
+            request.removeAttribute(HttpAttributes.ROUTE_INFO);
+            return false;
+        }
+        request.setAttribute(HttpAttributes.ROUTE_MATCH, routeMatch);
+        request.setAttribute(HttpAttributes.ROUTE_INFO, routeMatch.getRouteInfo());
+        return true;
+    }
+
+    private boolean isCacheable() {
+        Boolean result = cacheable;
+        if (result == null) {
+            // The filtered router, for example with the API versioning, and the route conditions match on the whole request
+            result = !(router instanceof FilteredRouter)
+                && router.uriRoutes().noneMatch(routeInfo -> routeInfo.getAnnotationMetadata().hasAnnotation(ROUTE_CONDITION));
+            cacheable = result;
+        }
+        return result;
+    }
+
+    private Optional<UriRouteInfo<Object, Object>> findRoute(MutableHttpRequest<?> request) {
+        UriRouteMatch<Object, Object> routeMatch = router.findClosest(request);
+        return routeMatch == null ? Optional.empty() : Optional.of(routeMatch.getRouteInfo());
+    }
+
+    /**
+     * The key of the resolved route.
+     *
+     * @param method      The method name
+     * @param path        The path
+     * @param contentType The content type header
+     * @param accept      The accept header
+     */
+    private record RouteKey(String method, String path, @Nullable String contentType, @Nullable String accept) {
+    }
+}
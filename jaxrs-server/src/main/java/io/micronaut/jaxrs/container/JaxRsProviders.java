@@ -16,10 +16,11 @@
 package io.micronaut.jaxrs.container;
 
 import io.micronaut.context.BeanContext;
+import io.micronaut.context.event.ApplicationEventListener;
 import io.micronaut.core.annotation.Internal;
 import io.micronaut.core.type.Argument;
-import io.micronaut.inject.BeanDefinition;
-import io.micronaut.inject.qualifiers.MatchArgumentQualifier;
+import io.micronaut.core.util.clhm.ConcurrentLinkedHashMap;
+import io.micronaut.runtime.context.scope.refresh.RefreshEvent;
 import jakarta.inject.Singleton;
 import jakarta.ws.rs.WebApplicationException;
 import jakarta.ws.rs.core.MediaType;
@@ -37,24 +38,63 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 /**
  * The JAX-RS {@link Providers}.
+ * The resolved body readers and writers are cached, the cache is cleared when the context is refreshed.
  *
  * @author Jonas Konrad
  * @since 4.6.0
  */
 @Internal
 @Singleton
-final class JaxRsProviders implements Providers {
+final class JaxRsProviders implements Providers, ApplicationEventListener<RefreshEvent> {
+
+    private static final int MAX_CACHE_SIZE = 200;
+
     private final BeanContext beanContext;
+    private final Map<ProviderKey, Optional<MessageBodyReader<?>>> readers = newCache();
+    private final Map<ProviderKey, Optional<MessageBodyWriter<?>>> writers = newCache();
+    private final JaxRsExceptionMappers exceptionMappers;
 
-    JaxRsProviders(BeanContext beanContext) {
+    JaxRsProviders(BeanContext beanContext, JaxRsExceptionMappers exceptionMappers) {
         this.beanContext = beanContext;
+        this.exceptionMappers = exceptionMappers;
+    }
+
+    private static <K, V> Map<K, V> newCache() {
+        return new ConcurrentLinkedHashMap.Builder<K, V>()
+            .maximumWeightedCapacity(MAX_CACHE_SIZE)
+            .build();
+    }
+
+    @Override
+    public void onApplicationEvent(RefreshEvent event) {
+        clearCache();
+    }
+
+    /**
+     * Clear the resolved providers.
+     */
+    void clearCache() {
+        readers.clear();
+        writers.clear();
     }
 
     @Override
     public <T> MessageBodyReader<T> getMessageBodyReader(Class<T> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        ProviderKey key = new ProviderKey(type, genericType, annotations, mediaType);
+        Optional<MessageBodyReader<?>> reader = readers.get(key);
+        if (reader == null) {
+            reader = Optional.ofNullable(findMessageBodyReader(type, genericType, annotations, mediaType));
+            readers.put(key, reader);
+        }
+        return (MessageBodyReader<T>) reader.orElse(null);
+    }
+
+    private <T> MessageBodyReader<T> findMessageBodyReader(Class<T> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
         Collection<MessageBodyReader> messageBodyReaders = beanContext.getBeansOfType(Argument.of(MessageBodyReader.class, Argument.of(type)));
         return messageBodyReaders.stream()
             .filter(r -> r.isReadable(type, genericType, annotations, mediaType))
@@ -75,6 +115,16 @@ final class JaxRsProviders implements Providers {
 
     @Override
     public <T> MessageBodyWriter<T> getMessageBodyWriter(Class<T> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        ProviderKey key = new ProviderKey(type, genericType, annotations, mediaType);
+        Optional<MessageBodyWriter<?>> writer = writers.get(key);
+        if (writer == null) {
+            writer = Optional.ofNullable(findMessageBodyWriter(type, genericType, annotations, mediaType));
+            writers.put(key, writer);
+        }
+        return (MessageBodyWriter<T>) writer.orElse(null);
+    }
+
+    private <T> MessageBodyWriter<T> findMessageBodyWriter(Class<T> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
         Collection<MessageBodyWriter> messageBodyWriters = beanContext.getBeansOfType(Argument.of(MessageBodyWriter.class, Argument.of(type)));
         return messageBodyWriters.stream()
             .filter(w -> w.isWriteable(type, genericType, annotations, mediaType))
@@ -98,19 +148,9 @@ final class JaxRsProviders implements Providers {
             .orElse(null);
     }
 
-    @SuppressWarnings({"unchecked"})
     @Override
     public <T extends Throwable> ExceptionMapper<T> getExceptionMapper(Class<T> type) {
-        return beanContext.getBeansOfType(ExceptionMapper.class,
-                MatchArgumentQualifier.contravariant(ExceptionMapper.class, Argument.of(type)))
-            .stream()
-            .findFirst()
-            .orElse(null);
-    }
-
-    private Argument<?> getExceptionType(BeanDefinition<ExceptionMapper> definition) {
-        List<Argument<?>> args = definition.getTypeArguments(ExceptionMapper.class);
-        return args.isEmpty() ? null : args.get(0);
+        return exceptionMappers.find(type);
     }
 
     @Override
@@ -118,4 +158,19 @@ final class JaxRsProviders implements Providers {
         // "null if no matching context providers are found"
         return null;
     }
+
+    /**
+     * The key of the resolved body reader or writer.
+     *
+     * @param type        The raw type
+     * @param genericType The generic type
+     * @param annotations The annotations
+     * @param mediaType   The media type
+     */
+    private record ProviderKey(Class<?> type, Type genericType, List<Annotation> annotations, MediaType mediaType) {
+
+        ProviderKey(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+            this(type, genericType, annotations == null ? List.of() : List.of(annotations), mediaType);
+        }
+    }
 }
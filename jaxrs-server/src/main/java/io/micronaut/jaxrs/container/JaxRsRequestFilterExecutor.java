@@ -0,0 +1,146 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jaxrs.container;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.async.publisher.Publishers;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.MutableHttpRequest;
+import io.micronaut.http.MutableHttpResponse;
+import io.micronaut.http.ServerHttpRequest;
+import io.micronaut.http.body.AvailableByteBody;
+import io.micronaut.jaxrs.common.JaxRsResponse;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.core.Response;
+import org.reactivestreams.Publisher;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * Runs the JAX-RS request filters on the calling thread and moves them to the blocking executor only once a filter
+ * accesses or replaces the entity stream of a request with the body not received yet. That filter is run again from
+ * the start on the blocking executor, followed by the remaining filters. The thread running the offloaded filters is
+ * kept as a request attribute, the pre-matching and the route filters of a request share a single hop to the
+ * blocking executor.
+ *
+ * @author Denis Stepanov
+ * @since 4.7
+ */
+@Internal
+final class JaxRsRequestFilterExecutor {
+
+    private static final String OFFLOADED_THREAD = JaxRsRequestFilterExecutor.class.getName() + ".offloadedThread";
+
+    private JaxRsRequestFilterExecutor() {
+    }
+
+    /**
+     * Run the request filters.
+     *
+     * @param request          The request
+     * @param requestContext   The request context passed to the filters
+     * @param filters          The filters
+     * @param blockingExecutor The blocking executor
+     * @param proceed          Proceeds with the request once all the filters pass
+     * @return The response publisher
+     */
+    static Publisher<MutableHttpResponse<?>> execute(MutableHttpRequest<?> request,
+                                                     JaxRsContainerRequestContext requestContext,
+                                                     List<ContainerRequestFilter> filters,
+                                                     Executor blockingExecutor,
+                                                     Supplier<Publisher<MutableHttpResponse<?>>> proceed) {
+        return execute(request, requestContext, filters, 0, blockingExecutor, proceed);
+    }
+
+    /**
+     * Check if the entity stream of the request can be accessed on the current thread.
+     *
+     * @param request The request
+     * @return true if the body is received or the current thread is the blocking thread running the filters
+     */
+    static boolean isBlockingAllowed(HttpRequest<?> request) {
+        return !isBodyPending(request)
+            || request.getAttribute(OFFLOADED_THREAD).orElse(null) == Thread.currentThread();
+    }
+
+    /**
+     * @return The exception thrown to the filter accessing the entity stream on a thread that cannot block
+     */
+    static RuntimeException offloadRequired() {
+        return OffloadRequiredException.INSTANCE;
+    }
+
+    private static Publisher<MutableHttpResponse<?>> execute(MutableHttpRequest<?> request,
+                                                             JaxRsContainerRequestContext requestContext,
+                                                             List<ContainerRequestFilter> filters,
+                                                             int from,
+                                                             Executor blockingExecutor,
+                                                             Supplier<Publisher<MutableHttpResponse<?>>> proceed) {
+        for (int i = from; i < filters.size(); i++) {
+            try {
+                filters.get(i).filter(requestContext);
+            } catch (IOException | RuntimeException e) {
+                // The filter might have wrapped the offload exception
+                if (requestContext.clearOffloadRequired()) {
+                    return offload(request, requestContext, filters, i, blockingExecutor, proceed);
+                }
+                return Publishers.<MutableHttpResponse<?>>just(e);
+            }
+            if (requestContext.clearOffloadRequired()) {
+                // The filter swallowed the offload exception
+                return offload(request, requestContext, filters, i, blockingExecutor, proceed);
+            }
+            Response response = requestContext.getResponse();
+            if (response instanceof JaxRsResponse jaxRsResponse) {
+                return Publishers.<MutableHttpResponse<?>>just(jaxRsResponse.getResponse().toMutableResponse());
+            }
+        }
+        return proceed.get();
+    }
+
+    private static Publisher<MutableHttpResponse<?>> offload(MutableHttpRequest<?> request,
+                                                             JaxRsContainerRequestContext requestContext,
+                                                             List<ContainerRequestFilter> filters,
+                                                             int from,
+                                                             Executor blockingExecutor,
+                                                             Supplier<Publisher<MutableHttpResponse<?>>> proceed) {
+        return subscriber -> blockingExecutor.execute(() -> {
+            request.setAttribute(OFFLOADED_THREAD, Thread.currentThread());
+            execute(request, requestContext, filters, from, blockingExecutor, proceed).subscribe(subscriber);
+        });
+    }
+
+    private static boolean isBodyPending(HttpRequest<?> request) {
+        return JaxRsContainerRequestContext.hasBody(request)
+            && request instanceof ServerHttpRequest<?> serverHttpRequest
+            && !(serverHttpRequest.byteBody() instanceof AvailableByteBody);
+    }
+
+    /**
+     * Interrupts the filter accessing the entity stream on a thread that cannot block.
+     */
+    private static final class OffloadRequiredException extends RuntimeException {
+
+        private static final OffloadRequiredException INSTANCE = new OffloadRequiredException();
+
+        private OffloadRequiredException() {
+            super("The request filters must run on the blocking executor", null, false, false);
+        }
+    }
+}
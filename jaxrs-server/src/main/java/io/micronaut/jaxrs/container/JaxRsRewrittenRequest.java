@@ -0,0 +1,71 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jaxrs.container;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.http.HttpMethod;
+import io.micronaut.http.MutableHttpRequest;
+import io.micronaut.http.MutableHttpRequestWrapper;
+import io.micronaut.http.ServerHttpRequest;
+import io.micronaut.http.body.ByteBody;
+import io.micronaut.http.body.stream.InputStreamByteBody;
+
+import java.io.InputStream;
+import java.util.OptionalLong;
+import java.util.concurrent.Executor;
+
+/**
+ * The request with the method changed by a pre-matching filter.
+ *
+ * @param <B> The body type
+ * @author Denis Stepanov
+ * @since 4.7
+ */
+@Internal
+final class JaxRsRewrittenRequest<B> extends MutableHttpRequestWrapper<B> implements ServerHttpRequest<B> {
+
+    private final MutableHttpRequest<B> delegate;
+    private final String methodName;
+    private final HttpMethod method;
+    private final Executor blockingExecutor;
+
+    JaxRsRewrittenRequest(MutableHttpRequest<B> delegate, String methodName, Executor blockingExecutor) {
+        super(delegate);
+        this.delegate = delegate;
+        this.methodName = methodName;
+        this.method = HttpMethod.parse(methodName);
+        this.blockingExecutor = blockingExecutor;
+    }
+
+    @Override
+    public HttpMethod getMethod() {
+        return method;
+    }
+
+    @Override
+    public String getMethodName() {
+        return methodName;
+    }
+
+    @Override
+    public ByteBody byteBody() {
+        if (delegate instanceof ServerHttpRequest<?> serverHttpRequest) {
+            return serverHttpRequest.byteBody();
+        }
+        // The request that isn't received by the server has no body
+        return InputStreamByteBody.create(InputStream.nullInputStream(), OptionalLong.of(0), blockingExecutor);
+    }
+}
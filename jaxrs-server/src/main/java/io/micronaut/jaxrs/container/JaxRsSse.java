@@ -0,0 +1,112 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jaxrs.container;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.http.sse.Event;
+import jakarta.inject.Singleton;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedHashMap;
+import jakarta.ws.rs.ext.MessageBodyWriter;
+import jakarta.ws.rs.sse.OutboundSseEvent;
+import jakarta.ws.rs.sse.Sse;
+import jakarta.ws.rs.sse.SseBroadcaster;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.annotation.Annotation;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+/**
+ * The implementation of {@link Sse} available with {@link jakarta.ws.rs.core.Context}.
+ * The event data is written by the JAX-RS message body writers, the JSON data without a writer is encoded by Micronaut.
+ *
+ * @author Denis Stepanov
+ * @since 4.7
+ */
+@Internal
+@Singleton
+final class JaxRsSse implements Sse {
+
+    private static final Annotation[] NO_ANNOTATIONS = new Annotation[0];
+
+    private final JaxRsProviders providers;
+
+    JaxRsSse(JaxRsProviders providers) {
+        this.providers = providers;
+    }
+
+    @Override
+    public OutboundSseEvent.Builder newEventBuilder() {
+        return new JaxRsOutboundSseEvent.JaxRsOutboundSseEventBuilder();
+    }
+
+    @Override
+    public SseBroadcaster newBroadcaster() {
+        return new JaxRsSseBroadcaster();
+    }
+
+    /**
+     * @return A new event sink of a request
+     */
+    JaxRsSseEventSink newEventSink() {
+        return new JaxRsSseEventSink(this::toEvent);
+    }
+
+    private Event<?> toEvent(OutboundSseEvent outboundEvent) {
+        Event<Object> event = Event.of(toData(outboundEvent));
+        if (outboundEvent.getId() != null) {
+            event.id(outboundEvent.getId());
+        }
+        if (outboundEvent.getName() != null) {
+            event.name(outboundEvent.getName());
+        }
+        if (outboundEvent.getComment() != null) {
+            event.comment(outboundEvent.getComment());
+        }
+        if (outboundEvent.isReconnectDelaySet()) {
+            event.retry(Duration.ofMillis(outboundEvent.getReconnectDelay()));
+        }
+        return event;
+    }
+
+    private Object toData(OutboundSseEvent event) {
+        Object data = event.getData();
+        if (data == null) {
+            return "";
+        }
+        if (data instanceof CharSequence charSequence) {
+            return charSequence.toString();
+        }
+        MediaType mediaType = event.getMediaType();
+        MessageBodyWriter<Object> writer = providers.getMessageBodyWriter((Class<Object>) event.getType(), event.getGenericType(), NO_ANNOTATIONS, mediaType);
+        if (writer != null) {
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            try {
+                writer.writeTo(data, event.getType(), event.getGenericType(), NO_ANNOTATIONS, mediaType, new MultivaluedHashMap<>(), outputStream);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return outputStream.toString(StandardCharsets.UTF_8);
+        }
+        if (MediaType.APPLICATION_JSON_TYPE.isCompatible(mediaType)) {
+            return data;
+        }
+        return data.toString();
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jaxrs.container;
+
+import io.micronaut.core.annotation.Internal;
+import jakarta.ws.rs.sse.OutboundSseEvent;
+import jakarta.ws.rs.sse.SseBroadcaster;
+import jakarta.ws.rs.sse.SseEventSink;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * The implementation of {@link SseBroadcaster}. The sinks are kept in a concurrent set: the broadcast doesn't lock
+ * and the sinks closed by the resource or the disconnected clients are removed without copying the set.
+ *
+ * @author Denis Stepanov
+ * @since 4.7
+ */
+@Internal
+final class JaxRsSseBroadcaster implements SseBroadcaster {
+
+    private final Set<SseEventSink> sinks = ConcurrentHashMap.newKeySet();
+    private final List<BiConsumer<SseEventSink, Throwable>> errorListeners = new CopyOnWriteArrayList<>();
+    private final List<Consumer<SseEventSink>> closeListeners = new CopyOnWriteArrayList<>();
+    private volatile boolean closed;
+
+    @Override
+    public void onError(BiConsumer<SseEventSink, Throwable> onError) {
+        errorListeners.add(onError);
+    }
+
+    @Override
+    public void onClose(Consumer<SseEventSink> onClose) {
+        closeListeners.add(onClose);
+    }
+
+    @Override
+    public void register(SseEventSink sseEventSink) {
+        if (closed) {
+            throw new IllegalStateException("The broadcaster is closed");
+        }
+        sinks.add(sseEventSink);
+        if (sseEventSink instanceof JaxRsSseEventSink jaxRsSseEventSink) {
+            jaxRsSseEventSink.onClose(() -> removed(sseEventSink));
+        }
+    }
+
+    @Override
+    public CompletionStage<?> broadcast(OutboundSseEvent event) {
+        if (closed) {
+            throw new IllegalStateException("The broadcaster is closed");
+        }
+        List<CompletableFuture<?>> futures = new ArrayList<>();
+        for (SseEventSink sink : sinks) {
+            if (sink.isClosed()) {
+                removed(sink);
+                continue;
+            }
+            futures.add(sink.send(event).toCompletableFuture().whenComplete((ignore, throwable) -> {
+                if (throwable != null) {
+                    errorListeners.forEach(listener -> listener.accept(sink, throwable));
+                }
+            }));
+        }
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new));
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        for (SseEventSink sink : sinks) {
+            sink.close();
+            removed(sink);
+        }
+    }
+
+    private void removed(SseEventSink sink) {
+        if (sinks.remove(sink)) {
+            closeListeners.forEach(listener -> listener.accept(sink));
+        }
+    }
+}
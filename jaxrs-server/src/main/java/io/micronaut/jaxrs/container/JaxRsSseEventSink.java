@@ -0,0 +1,234 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jaxrs.container;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.http.sse.Event;
+import jakarta.ws.rs.sse.OutboundSseEvent;
+import jakarta.ws.rs.sse.SseEventSink;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * The implementation of {@link SseEventSink} publishing the events as the Micronaut {@link Event} response body.
+ * The events sent before the response is subscribed, or above the demand of the connection, are queued up to
+ * {@link #MAX_QUEUED_EVENTS}; the events sent to a full queue are rejected so a slow client can't exhaust the memory.
+ * The stage returned by {@link #send(OutboundSseEvent)} completes when the event is passed to the connection,
+ * or fails once the sink is completed, cancelled by the client or aborted because the response isn't sent.
+ *
+ * @author Denis Stepanov
+ * @since 4.7
+ */
+@Internal
+final class JaxRsSseEventSink implements SseEventSink, Publisher<Event<?>> {
+
+    /**
+     * The request attribute of the sink bound to the resource method.
+     */
+    static final String ATTRIBUTE = SseEventSink.class.getName();
+
+    /**
+     * The default maximum number of the events waiting for the demand of the connection.
+     */
+    static final int MAX_QUEUED_EVENTS = 1024;
+
+    private final Function<OutboundSseEvent, Event<?>> converter;
+    private final int maxQueuedEvents;
+    private final Queue<PendingEvent> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final List<Runnable> closeListeners = new CopyOnWriteArrayList<>();
+    private final AtomicInteger wip = new AtomicInteger();
+    private final AtomicLong requested = new AtomicLong();
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+    private final AtomicBoolean closeNotified = new AtomicBoolean();
+    private volatile Subscriber<? super Event<?>> subscriber;
+    private volatile boolean closed;
+    private volatile boolean cancelled;
+    private boolean terminated;
+
+    JaxRsSseEventSink(Function<OutboundSseEvent, Event<?>> converter) {
+        this(converter, MAX_QUEUED_EVENTS);
+    }
+
+    JaxRsSseEventSink(Function<OutboundSseEvent, Event<?>> converter, int maxQueuedEvents) {
+        this.converter = converter;
+        this.maxQueuedEvents = maxQueuedEvents;
+    }
+
+    /**
+     * Add the listener notified once the sink is closed by the resource or by the disconnected client.
+     *
+     * @param listener The listener
+     */
+    void onClose(Runnable listener) {
+        closeListeners.add(listener);
+        if (closed) {
+            notifyClosed();
+        }
+    }
+
+    @Override
+    public boolean isClosed() {
+        return closed;
+    }
+
+    @Override
+    public CompletionStage<?> send(OutboundSseEvent event) {
+        if (closed) {
+            return CompletableFuture.failedFuture(new IllegalStateException("The event sink is closed"));
+        }
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        Event<?> converted;
+        try {
+            converted = converter.apply(event);
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            return future;
+        }
+        if (queued.incrementAndGet() > maxQueuedEvents) {
+            queued.decrementAndGet();
+            future.completeExceptionally(new IllegalStateException("The event sink queue is full, the client doesn't consume the events"));
+            return future;
+        }
+        queue.offer(new PendingEvent(converted, future));
+        drain();
+        return future;
+    }
+
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            notifyClosed();
+            drain();
+        }
+    }
+
+    /**
+     * Close the sink of the response that is never sent and fail the queued events.
+     */
+    void abort() {
+        cancelled = true;
+        closed = true;
+        notifyClosed();
+        drain();
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super Event<?>> s) {
+        if (!subscribed.compareAndSet(false, true)) {
+            s.onSubscribe(new Subscription() {
+                @Override
+                public void request(long n) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            s.onError(new IllegalStateException("The event sink can be subscribed only once"));
+            return;
+        }
+        s.onSubscribe(new Subscription() {
+            @Override
+            public void request(long n) {
+                if (n <= 0) {
+                    return;
+                }
+                long current;
+                do {
+                    current = requested.get();
+                    if (current == Long.MAX_VALUE) {
+                        break;
+                    }
+                } while (!requested.compareAndSet(current, current + n < 0 ? Long.MAX_VALUE : current + n));
+                drain();
+            }
+
+            @Override
+            public void cancel() {
+                // The client disconnected
+                abort();
+            }
+        });
+        subscriber = s;
+        drain();
+    }
+
+    private void notifyClosed() {
+        if (closeNotified.compareAndSet(false, true)) {
+            closeListeners.forEach(Runnable::run);
+        }
+    }
+
+    private void drain() {
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        do {
+            Subscriber<? super Event<?>> s = subscriber;
+            if (cancelled || terminated) {
+                // The events sent concurrently with the completion are never published
+                PendingEvent pending;
+                while ((pending = queue.poll()) != null) {
+                    queued.decrementAndGet();
+                    pending.future.completeExceptionally(new IllegalStateException("The event sink is closed"));
+                }
+            } else if (s != null) {
+                long demand;
+                while ((demand = requested.get()) > 0) {
+                    PendingEvent pending = queue.poll();
+                    if (pending == null) {
+                        break;
+                    }
+                    queued.decrementAndGet();
+                    if (demand != Long.MAX_VALUE) {
+                        requested.decrementAndGet();
+                    }
+                    s.onNext(pending.event);
+                    pending.future.complete(null);
+                }
+                if (closed && queue.isEmpty()) {
+                    terminated = true;
+                    s.onComplete();
+                }
+            }
+            missed = wip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    /**
+     * The event waiting for the demand.
+     *
+     * @param event  The event
+     * @param future The future completed when the event is published
+     */
+    private record PendingEvent(Event<?> event, CompletableFuture<Void> future) {
+    }
+}
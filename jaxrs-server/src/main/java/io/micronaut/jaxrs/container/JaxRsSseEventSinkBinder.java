@@ -0,0 +1,60 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jaxrs.container;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.convert.ArgumentConversionContext;
+import io.micronaut.core.type.Argument;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.bind.binders.TypedRequestArgumentBinder;
+import jakarta.inject.Singleton;
+import jakarta.ws.rs.sse.SseEventSink;
+
+import java.util.Optional;
+
+/**
+ * Binds the {@link SseEventSink} of the {@link jakarta.ws.rs.core.Context}. The sink becomes the response body.
+ *
+ * @author Denis Stepanov
+ * @since 4.7
+ */
+@Singleton
+@Internal
+final class JaxRsSseEventSinkBinder implements TypedRequestArgumentBinder<SseEventSink> {
+
+    private static final Argument<SseEventSink> ARGUMENT = Argument.of(SseEventSink.class);
+
+    private final JaxRsSse sse;
+
+    JaxRsSseEventSinkBinder(JaxRsSse sse) {
+        this.sse = sse;
+    }
+
+    @Override
+    public BindingResult<SseEventSink> bind(ArgumentConversionContext<SseEventSink> context, HttpRequest<?> source) {
+        JaxRsSseEventSink sink = source.getAttribute(JaxRsSseEventSink.ATTRIBUTE, JaxRsSseEventSink.class).orElseGet(() -> {
+            JaxRsSseEventSink newSink = sse.newEventSink();
+            source.setAttribute(JaxRsSseEventSink.ATTRIBUTE, newSink);
+            return newSink;
+        });
+        return () -> Optional.of(sink);
+    }
+
+    @Override
+    public Argument<SseEventSink> argumentType() {
+        return ARGUMENT;
+    }
+}
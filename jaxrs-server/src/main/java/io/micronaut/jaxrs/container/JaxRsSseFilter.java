@@ -0,0 +1,85 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jaxrs.container;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.async.publisher.Publishers;
+import io.micronaut.core.type.Argument;
+import io.micronaut.http.HttpAttributes;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.MediaType;
+import io.micronaut.http.MutableHttpResponse;
+import io.micronaut.http.annotation.RequestFilter;
+import io.micronaut.http.annotation.ServerFilter;
+import io.micronaut.http.filter.FilterContinuation;
+import io.micronaut.web.router.MethodBasedRouteInfo;
+import io.micronaut.web.router.RouteInfo;
+import jakarta.ws.rs.sse.SseEventSink;
+import org.reactivestreams.Publisher;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Replaces the response body of the resource method with the bound {@link SseEventSink}.
+ * The sink is aborted if the resource method didn't succeed. The routes without an {@link SseEventSink} parameter,
+ * resolved once per route, proceed without any additional work.
+ *
+ * @author Denis Stepanov
+ * @since 4.7
+ */
+@ServerFilter("/**")
+@Internal
+final class JaxRsSseFilter {
+
+    private final Map<RouteInfo<?>, Boolean> sseRoutes = new ConcurrentHashMap<>();
+
+    @RequestFilter
+    Publisher<MutableHttpResponse<?>> filterRequest(HttpRequest<?> request,
+                                                    FilterContinuation<Publisher<MutableHttpResponse<?>>> continuation) {
+        RouteInfo<?> routeInfo = request.getAttribute(HttpAttributes.ROUTE_INFO, RouteInfo.class).orElse(null);
+        if (routeInfo == null || !sseRoutes.computeIfAbsent(routeInfo, JaxRsSseFilter::hasEventSink)) {
+            return continuation.proceed();
+        }
+        return Publishers.map(continuation.proceed(), response -> filterResponse(request, response));
+    }
+
+    private static MutableHttpResponse<?> filterResponse(HttpRequest<?> request, MutableHttpResponse<?> response) {
+        JaxRsSseEventSink sink = request.getAttribute(JaxRsSseEventSink.ATTRIBUTE, JaxRsSseEventSink.class).orElse(null);
+        if (sink == null) {
+            return response;
+        }
+        if (response.code() >= 300) {
+            // The sink is never subscribed, the events sent to it fail
+            sink.abort();
+            return response;
+        }
+        response.body(sink);
+        response.contentType(MediaType.TEXT_EVENT_STREAM_TYPE);
+        return response;
+    }
+
+    private static boolean hasEventSink(RouteInfo<?> routeInfo) {
+        if (routeInfo instanceof MethodBasedRouteInfo<?, ?> methodBasedRouteInfo) {
+            for (Argument<?> argument : methodBasedRouteInfo.getTargetMethod().getArguments()) {
+                if (SseEventSink.class.isAssignableFrom(argument.getType())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -45,7 +45,7 @@ public final class UriInfoBinder implements TypedRequestArgumentBinder<UriInfo>
 
     @Override
     public BindingResult<UriInfo> bind(ArgumentConversionContext<UriInfo> uriInfo, HttpRequest<?> source) {
-        return () -> Optional.of(new UriInfoImpl(source, applicationPathProvider.getPath()));
+        return () -> Optional.of(UriInfoImpl.of(source, applicationPathProvider.getPath()));
     }
 
     @Override
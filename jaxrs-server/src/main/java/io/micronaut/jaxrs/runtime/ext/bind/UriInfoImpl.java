@@ -18,10 +18,10 @@ package io.micronaut.jaxrs.runtime.ext.bind;
 import io.micronaut.core.annotation.Internal;
 import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.annotation.Nullable;
-import io.micronaut.core.util.StringUtils;
 import io.micronaut.http.HttpAttributes;
 import io.micronaut.http.HttpRequest;
 import io.micronaut.web.router.RouteMatch;
+import jakarta.ws.rs.core.AbstractMultivaluedMap;
 import jakarta.ws.rs.core.MultivaluedHashMap;
 import jakarta.ws.rs.core.MultivaluedMap;
 import jakarta.ws.rs.core.PathSegment;
@@ -34,22 +34,38 @@ import java.net.URLDecoder;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Stream;
 
 /**
  * The JAX-RS {@link UriInfo} injected through {@link jakarta.ws.rs.core.Context} annotation.
+ * Each component is parsed at most once and memoized until the request URI changes.
+ * The instance attached to the request by {@link #of(HttpRequest, String)} is shared by the filters and the resources.
  *
  * @author Dan Hollingsworth
  * @since 3.3.0
  */
 @Internal
 public final class UriInfoImpl implements UriInfo {
+
+    private static final String URI_INFO_KEY = UriInfoImpl.class.getName();
+
     private final HttpRequest<?> request;
     private final String basePath;
 
+    private URI requestUri;
+    private String decodedPath;
+    private String encodedPath;
+    private List<PathSegment> decodedPathSegments;
+    private List<PathSegment> encodedPathSegments;
+    private MultivaluedMap<String, String> decodedQueryParameters;
+    private MultivaluedMap<String, String> encodedQueryParameters;
+    private MultivaluedMap<String, String> decodedPathParameters;
+    private MultivaluedMap<String, String> encodedPathParameters;
+    private URI baseUri;
+
     /**
      * Construct from an HTTP request.
      *
@@ -70,6 +86,43 @@ public final class UriInfoImpl implements UriInfo {
         this(request, null);
     }
 
+    /**
+     * Find the instance attached to the request or create a new one.
+     *
+     * @param request  The HTTP request
+     * @param basePath The base path
+     * @return The URI info of the request
+     * @since 4.7
+     */
+    @NonNull
+    public static UriInfoImpl of(@NonNull HttpRequest<?> request, @Nullable String basePath) {
+        UriInfoImpl uriInfo = request.getAttribute(URI_INFO_KEY, UriInfoImpl.class).orElse(null);
+        if (uriInfo == null) {
+            uriInfo = new UriInfoImpl(request, basePath);
+            request.setAttribute(URI_INFO_KEY, uriInfo);
+        }
+        return uriInfo;
+    }
+
+    /**
+     * Drop the memoized components if the request URI was changed.
+     */
+    private void checkRequestUri() {
+        URI uri = request.getUri();
+        if (!uri.equals(requestUri)) {
+            decodedPath = null;
+            encodedPath = null;
+            decodedPathSegments = null;
+            encodedPathSegments = null;
+            decodedQueryParameters = null;
+            encodedQueryParameters = null;
+            decodedPathParameters = null;
+            encodedPathParameters = null;
+            baseUri = null;
+            requestUri = uri;
+        }
+    }
+
     private String getPath(String requestPath, boolean decode) {
         String path = decode ? URLDecoder.decode(requestPath, StandardCharsets.UTF_8) : requestPath;
         if (basePath != null) {
@@ -91,7 +144,17 @@ public final class UriInfoImpl implements UriInfo {
 
     @Override
     public String getPath(boolean decode) {
-        return getPath(request.getPath(), decode);
+        checkRequestUri();
+        if (decode) {
+            if (decodedPath == null) {
+                decodedPath = getPath(request.getPath(), true);
+            }
+            return decodedPath;
+        }
+        if (encodedPath == null) {
+            encodedPath = getPath(request.getPath(), false);
+        }
+        return encodedPath;
     }
 
     @Override
@@ -101,20 +164,46 @@ public final class UriInfoImpl implements UriInfo {
 
     @Override
     public List<PathSegment> getPathSegments(boolean decode) {
-        return Stream.of(request.getPath().split("/"))
-            .filter(StringUtils::isNotEmpty)
-            .<PathSegment>map(token -> {
-                String[] segmentTokens = token.split(";");
-                MultivaluedMap<String, String> params = new MultiMapNullPermitted<>();
-                for (int i = 1; i < segmentTokens.length; ++i) {
-                    String[] keyVal = segmentTokens[i].split("=", 2);
-                    String key = keyVal[0];
-                    String val = keyVal.length > 1 ? keyVal[1] : null;
-                    params.add(getPath(key, decode), getPath(val, decode));
+        checkRequestUri();
+        if (decode) {
+            if (decodedPathSegments == null) {
+                decodedPathSegments = parsePathSegments(true);
+            }
+            return decodedPathSegments;
+        }
+        if (encodedPathSegments == null) {
+            encodedPathSegments = parsePathSegments(false);
+        }
+        return encodedPathSegments;
+    }
+
+    private List<PathSegment> parsePathSegments(boolean decode) {
+        String path = request.getPath();
+        int length = path.length();
+        List<PathSegment> segments = new ArrayList<>();
+        int start = 0;
+        for (int i = 0; i <= length; i++) {
+            if (i == length || path.charAt(i) == '/') {
+                if (i > start) {
+                    segments.add(new UriPathSegment(path, start, i, decode));
                 }
-                return new UriPathSegment(getPath(segmentTokens[0], decode), params);
-            })
-            .toList();
+                start = i + 1;
+            }
+        }
+        return Collections.unmodifiableList(segments);
+    }
+
+    private static String decodeSegment(String path, int start, int end, boolean decode) {
+        if (!decode) {
+            return path.substring(start, end);
+        }
+        for (int i = start; i < end; i++) {
+            char c = path.charAt(i);
+            if (c == '%' || c == '+') {
+                return URLDecoder.decode(path.substring(start, end), StandardCharsets.UTF_8);
+            }
+        }
+        return path.substring(start, end);
     }
 
     @Override
@@ -151,7 +240,14 @@ public final class UriInfoImpl implements UriInfo {
 
     @Override
     public URI getBaseUri() {
-        URI uri = request.getUri();
+        checkRequestUri();
+        if (baseUri == null) {
+            baseUri = createBaseUri(request.getUri());
+        }
+        return baseUri;
+    }
+
+    private static URI createBaseUri(URI uri) {
         try {
             return new URI(uri.getScheme(), uri.getUserInfo(), uri.getHost(), uri.getPort(), "", uri.getQuery(), uri.getFragment());
         } catch (URISyntaxException e) {
@@ -177,6 +273,20 @@ public final class UriInfoImpl implements UriInfo {
 
     @Override
     public MultivaluedMap<String, String> getPathParameters(boolean decode) {
+        checkRequestUri();
+        if (decode) {
+            if (decodedPathParameters == null) {
+                decodedPathParameters = createPathParameters(true);
+            }
+            return decodedPathParameters;
+        }
+        if (encodedPathParameters == null) {
+            encodedPathParameters = createPathParameters(false);
+        }
+        return encodedPathParameters;
+    }
+
+    private MultivaluedMap<String, String> createPathParameters(boolean decode) {
         RouteMatch<?> match = request.getAttribute(HttpAttributes.ROUTE_MATCH, RouteMatch.class)
             .orElseThrow(() -> new IllegalStateException("Route match not available!"));
         MultivaluedMap<String, String> map = new MultivaluedHashMap<>();
@@ -189,7 +299,7 @@ public final class UriInfoImpl implements UriInfo {
                 URLEncoder.encode(value.toString(), StandardCharsets.UTF_8).replace("+", "%20")
             ));
         }
-        return map;
+        return unmodifiable(map);
     }
 
     @Override
@@ -199,6 +309,20 @@ public final class UriInfoImpl implements UriInfo {
 
     @Override
     public MultivaluedMap<String, String> getQueryParameters(boolean decode) {
+        checkRequestUri();
+        if (decode) {
+            if (decodedQueryParameters == null) {
+                decodedQueryParameters = createQueryParameters(true);
+            }
+            return decodedQueryParameters;
+        }
+        if (encodedQueryParameters == null) {
+            encodedQueryParameters = createQueryParameters(false);
+        }
+        return encodedQueryParameters;
+    }
+
+    private MultivaluedMap<String, String> createQueryParameters(boolean decode) {
         var map = new MultivaluedHashMap<String, String>();
         if (decode) {
             request.getParameters().forEach(
@@ -209,7 +333,14 @@ public final class UriInfoImpl implements UriInfo {
                 (str, vals) -> vals.forEach(
                     val -> map.add(str, val)));
         }
-        return map;
+        return unmodifiable(map);
+    }
+
+    private static MultivaluedMap<String, String> unmodifiable(MultivaluedMap<String, String> map) {
+        Map<String, List<String>> store = new LinkedHashMap<>(map.size());
+        map.forEach((name, values) -> store.put(name, Collections.unmodifiableList(values)));
+        return new AbstractMultivaluedMap<>(Collections.unmodifiableMap(store)) {
+        };
     }
 
     public static Map<String, List<String>> getEncodedParameters(URI url) {
@@ -274,15 +405,74 @@ public final class UriInfoImpl implements UriInfo {
         return request.getUri().relativize(uri);
     }
 
-    private record UriPathSegment(String path,
-                                  MultivaluedMap<String, String> params) implements PathSegment {
+    /**
+     * The view over a segment of the request path, the segment and the matrix parameters are parsed on the first access.
+     */
+    private static final class UriPathSegment implements PathSegment {
+
+        private static final MultivaluedMap<String, String> NO_MATRIX_PARAMETERS = new AbstractMultivaluedMap<>(Collections.emptyMap()) {
+        };
+
+        private final String requestPath;
+        private final int start;
+        private final int end;
+        private final boolean decode;
+        private String path;
+        private MultivaluedMap<String, String> matrixParameters;
+
+        UriPathSegment(String requestPath, int start, int end, boolean decode) {
+            this.requestPath = requestPath;
+            this.start = start;
+            this.end = end;
+            this.decode = decode;
+        }
+
+        private int matrixStart() {
+            int index = requestPath.indexOf(';', start);
+            return index < 0 || index > end ? end : index;
+        }
+
         @Override
         public String getPath() {
+            if (path == null) {
+                path = decodeSegment(requestPath, start, matrixStart(), decode);
+            }
             return path;
         }
 
         @Override
         public MultivaluedMap<String, String> getMatrixParameters() {
+            if (matrixParameters == null) {
+                matrixParameters = parseMatrixParameters();
+            }
+            return matrixParameters;
+        }
+
+        private MultivaluedMap<String, String> parseMatrixParameters() {
+            int parameterStart = matrixStart();
+            if (parameterStart == end) {
+                return NO_MATRIX_PARAMETERS;
+            }
+            MultivaluedMap<String, String> params = new MultiMapNullPermitted<>();
+            while (parameterStart < end) {
+                parameterStart++;
+                int parameterEnd = requestPath.indexOf(';', parameterStart);
+                if (parameterEnd < 0 || parameterEnd > end) {
+                    parameterEnd = end;
+                }
+                if (parameterEnd > parameterStart) {
+                    int separator = requestPath.indexOf('=', parameterStart);
+                    if (separator < 0 || separator > parameterEnd) {
+                        params.add(decodeSegment(requestPath, parameterStart, parameterEnd, decode), null);
+                    } else {
+                        params.add(
+                            decodeSegment(requestPath, parameterStart, separator, decode),
+                            decodeSegment(requestPath, separator + 1, parameterEnd, decode)
+                        );
+                    }
+                }
+                parameterStart = parameterEnd;
+            }
             return params;
         }
     }
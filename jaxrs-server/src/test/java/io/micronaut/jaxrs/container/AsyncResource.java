@@ -0,0 +1,62 @@
+package io.micronaut.jaxrs.container;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.NotFoundException;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.container.AsyncResponse;
+import jakarta.ws.rs.container.Suspended;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+
+@Path("/async")
+@Produces(MediaType.TEXT_PLAIN)
+public class AsyncResource {
+
+    @GET
+    @Path("/resume")
+    public void resume(@Suspended AsyncResponse asyncResponse) {
+        CompletableFuture.runAsync(() -> asyncResponse.resume("resumed"), CompletableFuture.delayedExecutor(100, TimeUnit.MILLISECONDS));
+    }
+
+    @GET
+    @Path("/response")
+    public void response(@Suspended AsyncResponse asyncResponse) {
+        CompletableFuture.runAsync(() -> asyncResponse.resume(Response.status(Response.Status.ACCEPTED).entity("accepted").build()));
+    }
+
+    @GET
+    @Path("/empty")
+    public void empty(@Suspended AsyncResponse asyncResponse) {
+        CompletableFuture.runAsync(() -> asyncResponse.resume((Object) null));
+    }
+
+    @GET
+    @Path("/error")
+    public void error(@Suspended AsyncResponse asyncResponse) {
+        CompletableFuture.runAsync(() -> asyncResponse.resume(new NotFoundException()));
+    }
+
+    @GET
+    @Path("/timeout")
+    public void timeout(@Suspended AsyncResponse asyncResponse) {
+        asyncResponse.setTimeout(100, TimeUnit.MILLISECONDS);
+    }
+
+    @GET
+    @Path("/timeout-handler")
+    public void timeoutHandler(@Suspended AsyncResponse asyncResponse) {
+        asyncResponse.setTimeoutHandler(response -> response.resume("timeout"));
+        asyncResponse.setTimeout(100, TimeUnit.MILLISECONDS);
+    }
+
+    @GET
+    @Path("/stage")
+    public CompletionStage<String> stage() {
+        return CompletableFuture.supplyAsync(() -> "stage");
+    }
+}
@@ -0,0 +1,68 @@
+package io.micronaut.jaxrs.container;
+
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.client.HttpClient;
+import io.micronaut.http.client.annotation.Client;
+import io.micronaut.http.client.exceptions.HttpClientResponseException;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@MicronautTest
+class AsyncResponseTest {
+
+    @Inject
+    @Client("/api")
+    HttpClient httpClient;
+
+    @Test
+    void testResume() {
+        assertEquals("resumed", httpClient.toBlocking().retrieve("/async/resume"));
+    }
+
+    @Test
+    void testResumeWithResponse() {
+        HttpResponse<String> response = httpClient.toBlocking().exchange(HttpRequest.GET("/async/response"), String.class);
+
+        assertEquals(HttpStatus.ACCEPTED, response.getStatus());
+        assertEquals("accepted", response.body());
+    }
+
+    @Test
+    void testResumeWithNull() {
+        HttpResponse<String> response = httpClient.toBlocking().exchange(HttpRequest.GET("/async/empty"), String.class);
+
+        assertEquals(HttpStatus.NO_CONTENT, response.getStatus());
+    }
+
+    @Test
+    void testResumeWithException() {
+        HttpClientResponseException e = assertThrows(HttpClientResponseException.class,
+            () -> httpClient.toBlocking().retrieve("/async/error"));
+
+        assertEquals(HttpStatus.NOT_FOUND, e.getStatus());
+    }
+
+    @Test
+    void testTimeout() {
+        HttpClientResponseException e = assertThrows(HttpClientResponseException.class,
+            () -> httpClient.toBlocking().retrieve("/async/timeout"));
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, e.getStatus());
+    }
+
+    @Test
+    void testTimeoutHandler() {
+        assertEquals("timeout", httpClient.toBlocking().retrieve("/async/timeout-handler"));
+    }
+
+    @Test
+    void testCompletionStage() {
+        assertEquals("stage", httpClient.toBlocking().retrieve("/async/stage"));
+    }
+}
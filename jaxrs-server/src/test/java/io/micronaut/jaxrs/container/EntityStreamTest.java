@@ -0,0 +1,166 @@
+package io.micronaut.jaxrs.container;
+
+import io.micronaut.context.annotation.Property;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.MediaType;
+import io.micronaut.http.client.HttpClient;
+import io.micronaut.http.client.annotation.Client;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.annotation.Priority;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Priorities;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.ext.Provider;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@MicronautTest
+@Property(name = "spec.name", value = "EntityStreamTest")
+class EntityStreamTest {
+
+    // Content-Encoding is already decoded by the server
+    private static final String ENCODING_HEADER = "X-Entity-Encoding";
+    private static final String RECORD_THREAD_HEADER = "X-Record-Thread";
+    private static final AtomicReference<String> HEADER_FILTER_THREAD = new AtomicReference<>();
+
+    @Inject
+    @Client("/")
+    HttpClient client;
+
+    @Test
+    void testPlainEntity() {
+        String body = client.toBlocking().retrieve(
+            HttpRequest.POST("/api/entity-stream/echo", "plain").contentType(MediaType.TEXT_PLAIN_TYPE),
+            String.class
+        );
+        assertEquals("plain", body);
+    }
+
+    @Test
+    void testEntityStreamReplacedByFilter() throws IOException {
+        String text = "compressed ".repeat(1000);
+        String body = client.toBlocking().retrieve(
+            HttpRequest.POST("/api/entity-stream/echo", gzip(text))
+                .contentType(MediaType.TEXT_PLAIN_TYPE)
+                .header(ENCODING_HEADER, "gzip"),
+            String.class
+        );
+        assertEquals(text, body);
+    }
+
+    @Test
+    void testLargeEntityStreamReplacedByFilter() throws IOException {
+        // The body is received in many chunks, the filter reads it on the blocking executor
+        Random random = new Random(1);
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 1_000_000; i++) {
+            text.append((char) ('0' + random.nextInt(10)));
+        }
+        String body = client.toBlocking().retrieve(
+            HttpRequest.POST("/api/entity-stream/length", gzip(text.toString()))
+                .contentType(MediaType.TEXT_PLAIN_TYPE)
+                .header(ENCODING_HEADER, "gzip"),
+            String.class
+        );
+        assertEquals(String.valueOf(text.length()), body);
+    }
+
+    @Test
+    void testFilterNotReadingTheEntityIsNotOffloaded() throws IOException {
+        String text = "pending ".repeat(100_000);
+        String body = client.toBlocking().retrieve(
+            HttpRequest.POST("/api/entity-stream/length", gzip(text))
+                .contentType(MediaType.TEXT_PLAIN_TYPE)
+                .header(ENCODING_HEADER, "gzip")
+                .header(RECORD_THREAD_HEADER, "true"),
+            String.class
+        );
+        assertEquals(String.valueOf(text.length()), body);
+        // The header filter runs before the entity stream is read, on the event loop
+        String thread = HEADER_FILTER_THREAD.get();
+        assertTrue(thread.contains("EventLoopGroup"), thread);
+    }
+
+    @Test
+    void testEntityStreamReadByResource() throws IOException {
+        String text = "streamed ".repeat(1000);
+        String body = client.toBlocking().retrieve(
+            HttpRequest.POST("/api/entity-stream/length", gzip(text))
+                .contentType(MediaType.TEXT_PLAIN_TYPE)
+                .header(ENCODING_HEADER, "gzip"),
+            String.class
+        );
+        assertEquals(String.valueOf(text.length()), body);
+    }
+
+    private static byte[] gzip(String text) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream)) {
+            gzipOutputStream.write(text.getBytes(StandardCharsets.UTF_8));
+        }
+        return outputStream.toByteArray();
+    }
+
+    @Path("/entity-stream")
+    @Requires(property = "spec.name", value = "EntityStreamTest")
+    static class EntityStreamResource {
+
+        @POST
+        @Path("/echo")
+        @Consumes("text/plain")
+        @Produces("text/plain")
+        public String echo(String body) {
+            return body;
+        }
+
+        @POST
+        @Path("/length")
+        @Consumes("text/plain")
+        @Produces("text/plain")
+        public String length(InputStream body) throws IOException {
+            return String.valueOf(body.readAllBytes().length);
+        }
+    }
+
+    @Provider
+    @Priority(Priorities.AUTHENTICATION)
+    @Requires(property = "spec.name", value = "EntityStreamTest")
+    static class HeaderFilter implements ContainerRequestFilter {
+
+        @Override
+        public void filter(ContainerRequestContext requestContext) {
+            if (requestContext.getHeaderString(RECORD_THREAD_HEADER) != null) {
+                HEADER_FILTER_THREAD.set(Thread.currentThread().getName());
+            }
+        }
+    }
+
+    @Provider
+    @Requires(property = "spec.name", value = "EntityStreamTest")
+    static class GzipFilter implements ContainerRequestFilter {
+
+        @Override
+        public void filter(ContainerRequestContext requestContext) throws IOException {
+            if ("gzip".equals(requestContext.getHeaderString(ENCODING_HEADER))) {
+                requestContext.setEntityStream(new GZIPInputStream(requestContext.getEntityStream()));
+            }
+        }
+    }
+}
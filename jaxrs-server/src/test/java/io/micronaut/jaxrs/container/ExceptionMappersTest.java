@@ -0,0 +1,109 @@
+package io.micronaut.jaxrs.container;
+
+import io.micronaut.context.annotation.Property;
+import io.micronaut.context.annotation.Prototype;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.annotation.Priority;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.ext.ExceptionMapper;
+import jakarta.ws.rs.ext.Provider;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+@MicronautTest
+@Property(name = "spec.name", value = "ExceptionMappersTest")
+class ExceptionMappersTest {
+
+    @Inject
+    JaxRsExceptionMappers exceptionMappers;
+
+    @Test
+    void testNearestMapper() {
+        assertInstanceOf(IllegalArgumentMapper.class, exceptionMappers.find(IllegalArgumentException.class));
+        assertInstanceOf(IllegalArgumentMapper.class, exceptionMappers.find(NumberFormatException.class));
+        assertInstanceOf(RuntimeMapper.class, exceptionMappers.find(IllegalStateException.class));
+    }
+
+    @Test
+    void testMapperPriority() {
+        assertInstanceOf(HighPriorityMapper.class, exceptionMappers.find(PriorityException.class));
+    }
+
+    @Test
+    void testMemoizedMapperKeepsItsScope() {
+        assertSame(exceptionMappers.find(UnsupportedOperationException.class), exceptionMappers.find(UnsupportedOperationException.class));
+
+        ExceptionMapper<ArithmeticException> first = exceptionMappers.find(ArithmeticException.class);
+        ExceptionMapper<ArithmeticException> second = exceptionMappers.find(ArithmeticException.class);
+        assertInstanceOf(PrototypeMapper.class, first);
+        assertInstanceOf(PrototypeMapper.class, second);
+        assertNotSame(first, second);
+    }
+
+    @Test
+    void testNoMapper() {
+        assertNull(exceptionMappers.find(Error.class));
+        assertNull(exceptionMappers.find(Error.class));
+    }
+
+    @Provider
+    @Requires(property = "spec.name", value = "ExceptionMappersTest")
+    static class RuntimeMapper implements ExceptionMapper<RuntimeException> {
+
+        @Override
+        public Response toResponse(RuntimeException exception) {
+            return Response.serverError().build();
+        }
+    }
+
+    @Provider
+    @Requires(property = "spec.name", value = "ExceptionMappersTest")
+    static class IllegalArgumentMapper implements ExceptionMapper<IllegalArgumentException> {
+
+        @Override
+        public Response toResponse(IllegalArgumentException exception) {
+            return Response.status(Response.Status.BAD_REQUEST).build();
+        }
+    }
+
+    @Prototype
+    @Requires(property = "spec.name", value = "ExceptionMappersTest")
+    static class PrototypeMapper implements ExceptionMapper<ArithmeticException> {
+
+        @Override
+        public Response toResponse(ArithmeticException exception) {
+            return Response.status(Response.Status.BAD_REQUEST).build();
+        }
+    }
+
+    static class PriorityException extends RuntimeException {
+    }
+
+    @Provider
+    @Priority(10)
+    @Requires(property = "spec.name", value = "ExceptionMappersTest")
+    static class LowPriorityMapper implements ExceptionMapper<PriorityException> {
+
+        @Override
+        public Response toResponse(PriorityException exception) {
+            return Response.status(Response.Status.CONFLICT).build();
+        }
+    }
+
+    @Provider
+    @Priority(1)
+    @Requires(property = "spec.name", value = "ExceptionMappersTest")
+    static class HighPriorityMapper implements ExceptionMapper<PriorityException> {
+
+        @Override
+        public Response toResponse(PriorityException exception) {
+            return Response.status(Response.Status.GONE).build();
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package io.micronaut.jaxrs.container;
+
+import io.micronaut.context.annotation.Property;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.client.HttpClient;
+import io.micronaut.http.client.annotation.Client;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.NameBinding;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.container.DynamicFeature;
+import jakarta.ws.rs.container.ResourceInfo;
+import jakarta.ws.rs.core.FeatureContext;
+import jakarta.ws.rs.ext.Provider;
+import org.junit.jupiter.api.Test;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@MicronautTest
+@Property(name = "spec.name", value = "FilterBindingTest")
+class FilterBindingTest {
+
+    @Inject
+    @Client("/")
+    HttpClient client;
+
+    @Test
+    void testGlobalFilter() {
+        HttpResponse<String> response = client.toBlocking().exchange("/api/filter-binding/unbound", String.class);
+        assertEquals("unbound", response.body());
+        assertEquals("true", response.header("X-Global"));
+        assertNull(response.header("X-Bound"));
+        assertNull(response.header("X-Dynamic"));
+    }
+
+    @Test
+    void testNameBoundFilter() {
+        HttpResponse<String> response = client.toBlocking().exchange("/api/filter-binding/bound", String.class);
+        assertEquals("bound", response.body());
+        assertEquals("true", response.header("X-Global"));
+        assertEquals("true", response.header("X-Bound"));
+        assertNull(response.header("X-Dynamic"));
+    }
+
+    @Test
+    void testDynamicFeatureFilter() {
+        HttpResponse<String> response = client.toBlocking().exchange("/api/filter-binding/dynamic", String.class);
+        assertEquals("dynamic", response.body());
+        assertEquals("true", response.header("X-Global"));
+        assertNull(response.header("X-Bound"));
+        assertEquals("true", response.header("X-Dynamic"));
+    }
+
+    @Test
+    void testNonJaxRsRoute() {
+        HttpResponse<String> response = client.toBlocking().exchange("/api/micronaut/test", String.class);
+        assertEquals("ok", response.body());
+        assertNull(response.header("X-Global"));
+    }
+
+    @NameBinding
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target({ElementType.TYPE, ElementType.METHOD})
+    @interface Bound {
+    }
+
+    @Path("/filter-binding")
+    @Requires(property = "spec.name", value = "FilterBindingTest")
+    static class FilterBindingResource {
+
+        @GET
+        @Path("/unbound")
+        @Produces("text/plain")
+        public String unbound() {
+            return "unbound";
+        }
+
+        @GET
+        @Bound
+        @Path("/bound")
+        @Produces("text/plain")
+        public String bound() {
+            return "bound";
+        }
+
+        @GET
+        @Path("/dynamic")
+        @Produces("text/plain")
+        public String dynamic() {
+            return "dynamic";
+        }
+    }
+
+    @Provider
+    @Requires(property = "spec.name", value = "FilterBindingTest")
+    static class GlobalFilter implements ContainerResponseFilter {
+
+        @Override
+        public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext) {
+            responseContext.getHeaders().add("X-Global", "true");
+        }
+    }
+
+    @Bound
+    @Provider
+    @Requires(property = "spec.name", value = "FilterBindingTest")
+    static class BoundFilter implements ContainerResponseFilter {
+
+        @Override
+        public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext) {
+            responseContext.getHeaders().add("X-Bound", "true");
+        }
+    }
+
+    @Provider
+    @Requires(property = "spec.name", value = "FilterBindingTest")
+    static class DynamicFilterFeature implements DynamicFeature {
+
+        @Override
+        public void configure(ResourceInfo resourceInfo, FeatureContext context) {
+            if (resourceInfo.getResourceMethod().getName().equals("dynamic")) {
+                context.register((ContainerResponseFilter) (requestContext, responseContext) -> responseContext.getHeaders().add("X-Dynamic", "true"));
+            }
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package io.micronaut.jaxrs.container;
+
+import io.micronaut.http.sse.Event;
+import jakarta.ws.rs.sse.OutboundSseEvent;
+import jakarta.ws.rs.sse.SseEventSink;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JaxRsSseBroadcasterTest {
+
+    @Test
+    void testBroadcastIsSentToEverySink() throws Exception {
+        JaxRsSseBroadcaster broadcaster = new JaxRsSseBroadcaster();
+        JaxRsSseEventSink first = newSink(JaxRsSseEventSink.MAX_QUEUED_EVENTS);
+        JaxRsSseEventSink second = newSink(JaxRsSseEventSink.MAX_QUEUED_EVENTS);
+        CollectingSubscriber firstSubscriber = subscribe(first, Long.MAX_VALUE);
+        CollectingSubscriber secondSubscriber = subscribe(second, Long.MAX_VALUE);
+        broadcaster.register(first);
+        broadcaster.register(second);
+
+        broadcaster.broadcast(event("one")).toCompletableFuture().get(10, TimeUnit.SECONDS);
+        broadcaster.broadcast(event("two")).toCompletableFuture().get(10, TimeUnit.SECONDS);
+
+        assertEquals(List.of("one", "two"), firstSubscriber.data);
+        assertEquals(List.of("one", "two"), secondSubscriber.data);
+    }
+
+    @Test
+    void testFullSinkIsReportedToErrorListeners() throws Exception {
+        JaxRsSseBroadcaster broadcaster = new JaxRsSseBroadcaster();
+        List<SseEventSink> failedSinks = new CopyOnWriteArrayList<>();
+        List<Throwable> failures = new CopyOnWriteArrayList<>();
+        broadcaster.onError((sink, throwable) -> {
+            failedSinks.add(sink);
+            failures.add(throwable);
+        });
+        JaxRsSseEventSink slow = newSink(2);
+        JaxRsSseEventSink fast = newSink(2);
+        CollectingSubscriber fastSubscriber = subscribe(fast, Long.MAX_VALUE);
+        broadcaster.register(slow);
+        broadcaster.register(fast);
+
+        broadcaster.broadcast(event("one"));
+        broadcaster.broadcast(event("two"));
+        CompletableFuture<?> third = broadcaster.broadcast(event("three")).toCompletableFuture();
+
+        assertInstanceOf(IllegalStateException.class, assertThrows(Exception.class, () -> third.get(10, TimeUnit.SECONDS)).getCause());
+        assertEquals(List.of(slow), failedSinks);
+        assertInstanceOf(IllegalStateException.class, failures.get(0));
+        assertEquals(List.of("one", "two", "three"), fastSubscriber.data);
+
+        // The queued events are still delivered once the client consumes them
+        CollectingSubscriber slowSubscriber = subscribe(slow, Long.MAX_VALUE);
+        assertEquals(List.of("one", "two"), slowSubscriber.data);
+        broadcaster.broadcast(event("four")).toCompletableFuture().get(10, TimeUnit.SECONDS);
+        assertEquals(List.of("one", "two", "four"), slowSubscriber.data);
+    }
+
+    @Test
+    void testCloseClosesEverySink() {
+        JaxRsSseBroadcaster broadcaster = new JaxRsSseBroadcaster();
+        List<SseEventSink> closedSinks = new CopyOnWriteArrayList<>();
+        broadcaster.onClose(closedSinks::add);
+        JaxRsSseEventSink first = newSink(JaxRsSseEventSink.MAX_QUEUED_EVENTS);
+        JaxRsSseEventSink second = newSink(JaxRsSseEventSink.MAX_QUEUED_EVENTS);
+        CollectingSubscriber firstSubscriber = subscribe(first, Long.MAX_VALUE);
+        CollectingSubscriber secondSubscriber = subscribe(second, Long.MAX_VALUE);
+        broadcaster.register(first);
+        broadcaster.register(second);
+
+        broadcaster.close();
+
+        assertTrue(first.isClosed());
+        assertTrue(second.isClosed());
+        assertTrue(firstSubscriber.completion.isDone());
+        assertTrue(secondSubscriber.completion.isDone());
+        assertEquals(2, closedSinks.size());
+        assertTrue(closedSinks.containsAll(List.of(first, second)));
+        assertThrows(IllegalStateException.class, () -> broadcaster.broadcast(event("one")));
+        assertThrows(IllegalStateException.class, () -> broadcaster.register(newSink(JaxRsSseEventSink.MAX_QUEUED_EVENTS)));
+    }
+
+    @Test
+    void testDisconnectedSinkIsRemoved() throws Exception {
+        JaxRsSseBroadcaster broadcaster = new JaxRsSseBroadcaster();
+        List<SseEventSink> closedSinks = new CopyOnWriteArrayList<>();
+        broadcaster.onClose(closedSinks::add);
+        JaxRsSseEventSink disconnected = newSink(JaxRsSseEventSink.MAX_QUEUED_EVENTS);
+        JaxRsSseEventSink connected = newSink(JaxRsSseEventSink.MAX_QUEUED_EVENTS);
+        CollectingSubscriber disconnectedSubscriber = subscribe(disconnected, Long.MAX_VALUE);
+        CollectingSubscriber connectedSubscriber = subscribe(connected, Long.MAX_VALUE);
+        broadcaster.register(disconnected);
+        broadcaster.register(connected);
+
+        disconnectedSubscriber.subscription.cancel();
+
+        assertEquals(List.of(disconnected), closedSinks);
+        broadcaster.broadcast(event("one")).toCompletableFuture().get(10, TimeUnit.SECONDS);
+        assertEquals(List.of(), disconnectedSubscriber.data);
+        assertEquals(List.of("one"), connectedSubscriber.data);
+        assertFalse(connected.isClosed());
+    }
+
+    @Test
+    void testEventsAboveTheDemandAreQueued() {
+        JaxRsSseEventSink sink = newSink(JaxRsSseEventSink.MAX_QUEUED_EVENTS);
+        CollectingSubscriber subscriber = subscribe(sink, 1);
+
+        CompletableFuture<?> first = sink.send(event("one")).toCompletableFuture();
+        CompletableFuture<?> second = sink.send(event("two")).toCompletableFuture();
+
+        assertTrue(first.isDone());
+        assertFalse(second.isDone());
+        assertEquals(List.of("one"), subscriber.data);
+
+        subscriber.subscription.request(1);
+        assertTrue(second.isDone());
+        assertEquals(List.of("one", "two"), subscriber.data);
+    }
+
+    @Test
+    void testEventSentConcurrentlyWithCloseFails() {
+        AtomicReference<JaxRsSseEventSink> sinkReference = new AtomicReference<>();
+        JaxRsSseEventSink sink = new JaxRsSseEventSink(event -> {
+            // The sink is closed after the send checked it
+            sinkReference.get().close();
+            return Event.of(event.getData());
+        });
+        sinkReference.set(sink);
+        CollectingSubscriber subscriber = subscribe(sink, Long.MAX_VALUE);
+
+        CompletableFuture<?> future = sink.send(event("one")).toCompletableFuture();
+
+        assertTrue(subscriber.completion.isDone());
+        assertTrue(future.isCompletedExceptionally());
+        assertEquals(List.of(), subscriber.data);
+    }
+
+    @Test
+    void testAbortFailsTheQueuedEvents() {
+        JaxRsSseEventSink sink = newSink(JaxRsSseEventSink.MAX_QUEUED_EVENTS);
+        CompletableFuture<?> future = sink.send(event("one")).toCompletableFuture();
+        assertFalse(future.isDone());
+
+        sink.abort();
+
+        assertTrue(sink.isClosed());
+        assertTrue(future.isCompletedExceptionally());
+    }
+
+    private static JaxRsSseEventSink newSink(int maxQueuedEvents) {
+        return new JaxRsSseEventSink(event -> Event.of(event.getData()), maxQueuedEvents);
+    }
+
+    private static OutboundSseEvent event(String data) {
+        return new JaxRsOutboundSseEvent.JaxRsOutboundSseEventBuilder().data(data).build();
+    }
+
+    private static CollectingSubscriber subscribe(JaxRsSseEventSink sink, long demand) {
+        CollectingSubscriber subscriber = new CollectingSubscriber();
+        sink.subscribe(subscriber);
+        subscriber.subscription.request(demand);
+        return subscriber;
+    }
+
+    private static final class CollectingSubscriber implements Subscriber<Event<?>> {
+
+        private final List<Object> data = new CopyOnWriteArrayList<>();
+        private final CompletableFuture<Void> completion = new CompletableFuture<>();
+        private volatile Subscription subscription;
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(Event<?> event) {
+            data.add(event.getData());
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            completion.completeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            completion.complete(null);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package io.micronaut.jaxrs.container;
+
+import io.micronaut.context.annotation.Property;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.client.HttpClient;
+import io.micronaut.http.client.annotation.Client;
+import io.micronaut.http.client.exceptions.HttpClientResponseException;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.PUT;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.container.PreMatching;
+import jakarta.ws.rs.ext.Provider;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@MicronautTest
+@Property(name = "spec.name", value = "PreMatchingTest")
+class PreMatchingTest {
+
+    @Inject
+    @Client("/")
+    HttpClient client;
+
+    @Test
+    void testNotRewritten() {
+        assertEquals("hello", client.toBlocking().retrieve("/api/pre-matching/hello"));
+    }
+
+    @Test
+    void testRequestUriRewritten() {
+        assertEquals("hello", client.toBlocking().retrieve("/api/v1/pre-matching/hello"));
+        assertEquals("hello", client.toBlocking().retrieve("/api/v1/pre-matching/hello"));
+    }
+
+    @Test
+    void testMethodRewritten() {
+        String body = client.toBlocking().retrieve(
+            HttpRequest.GET("/api/pre-matching/method").header("X-HTTP-Method-Override", "PUT")
+        );
+        assertEquals("put", body);
+    }
+
+    @Test
+    void testRewrittenToUnknownPath() {
+        HttpClientResponseException e = assertThrows(HttpClientResponseException.class, () -> client.toBlocking().retrieve(
+            HttpRequest.GET("/api/pre-matching/hello").header("X-Rewrite-Path", "/api/pre-matching/unknown")
+        ));
+        assertEquals(HttpStatus.NOT_FOUND, e.getStatus());
+    }
+
+    @Path("/pre-matching")
+    @Requires(property = "spec.name", value = "PreMatchingTest")
+    static class PreMatchingResource {
+
+        @GET
+        @Path("/hello")
+        @Produces("text/plain")
+        public String hello() {
+            return "hello";
+        }
+
+        @GET
+        @Path("/method")
+        @Produces("text/plain")
+        public String get() {
+            return "get";
+        }
+
+        @PUT
+        @Path("/method")
+        @Produces("text/plain")
+        public String put() {
+            return "put";
+        }
+    }
+
+    @Provider
+    @PreMatching
+    @Requires(property = "spec.name", value = "PreMatchingTest")
+    static class VersionFilter implements ContainerRequestFilter {
+
+        @Override
+        public void filter(ContainerRequestContext requestContext) {
+            String path = requestContext.getUriInfo().getRequestUri().getPath();
+            if (path.startsWith("/api/v1/")) {
+                requestContext.setRequestUri(URI.create(path.replaceFirst("/v1/", "/")));
+            }
+            String rewritePath = requestContext.getHeaderString("X-Rewrite-Path");
+            if (rewritePath != null) {
+                requestContext.setRequestUri(URI.create(rewritePath));
+            }
+            String method = requestContext.getHeaderString("X-HTTP-Method-Override");
+            if (method != null) {
+                requestContext.setMethod(method);
+            }
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package io.micronaut.jaxrs.container;
+
+import io.micronaut.context.annotation.Property;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.event.ApplicationEventPublisher;
+import io.micronaut.runtime.context.scope.refresh.RefreshEvent;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.MessageBodyReader;
+import jakarta.ws.rs.ext.Provider;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+@MicronautTest
+@Property(name = "spec.name", value = "ProvidersTest")
+class ProvidersTest {
+
+    private static final Annotation[] NO_ANNOTATIONS = new Annotation[0];
+
+    @Inject
+    JaxRsProviders providers;
+
+    @Inject
+    TokenReader tokenReader;
+
+    @Inject
+    ApplicationEventPublisher<RefreshEvent> refreshEventPublisher;
+
+    @Test
+    void testCachedReader() {
+        int lookups = tokenReader.lookups.get();
+        MessageBodyReader<Token> reader = providers.getMessageBodyReader(Token.class, Token.class, NO_ANNOTATIONS, MediaType.TEXT_PLAIN_TYPE);
+
+        assertNotNull(reader);
+        assertSame(reader, providers.getMessageBodyReader(Token.class, Token.class, NO_ANNOTATIONS, MediaType.TEXT_PLAIN_TYPE));
+        assertEquals(lookups + 1, tokenReader.lookups.get());
+    }
+
+    @Test
+    void testCachedMissingReader() {
+        int lookups = tokenReader.lookups.get();
+
+        assertNull(providers.getMessageBodyReader(Token.class, Token.class, NO_ANNOTATIONS, MediaType.APPLICATION_XML_TYPE));
+        assertNull(providers.getMessageBodyReader(Token.class, Token.class, NO_ANNOTATIONS, MediaType.APPLICATION_XML_TYPE));
+        assertEquals(lookups + 1, tokenReader.lookups.get());
+    }
+
+    @Test
+    void testCacheClearedOnRefresh() {
+        MessageBodyReader<Token> reader = providers.getMessageBodyReader(Token.class, Token.class, NO_ANNOTATIONS, MediaType.TEXT_PLAIN_TYPE);
+        int lookups = tokenReader.lookups.get();
+
+        refreshEventPublisher.publishEvent(new RefreshEvent());
+
+        MessageBodyReader<Token> refreshedReader = providers.getMessageBodyReader(Token.class, Token.class, NO_ANNOTATIONS, MediaType.TEXT_PLAIN_TYPE);
+        assertNotNull(refreshedReader);
+        assertEquals(lookups + 1, tokenReader.lookups.get());
+        assertSame(refreshedReader, providers.getMessageBodyReader(Token.class, Token.class, NO_ANNOTATIONS, MediaType.TEXT_PLAIN_TYPE));
+        assertEquals(lookups + 1, tokenReader.lookups.get());
+        assertNotNull(reader);
+    }
+
+    record Token(String value) {
+    }
+
+    @Provider
+    @Requires(property = "spec.name", value = "ProvidersTest")
+    static class TokenReader implements MessageBodyReader<Token> {
+
+        final AtomicInteger lookups = new AtomicInteger();
+
+        @Override
+        public boolean isReadable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+            lookups.incrementAndGet();
+            return MediaType.TEXT_PLAIN_TYPE.isCompatible(mediaType);
+        }
+
+        @Override
+        public Token readFrom(Class<Token> type, Type genericType, Annotation[] annotations, MediaType mediaType,
+                              MultivaluedMap<String, String> httpHeaders, InputStream entityStream) {
+            return new Token("token");
+        }
+    }
+}
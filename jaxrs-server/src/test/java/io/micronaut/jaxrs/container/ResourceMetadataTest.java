@@ -0,0 +1,27 @@
+package io.micronaut.jaxrs.container;
+
+import io.micronaut.jaxrs.common.JaxRsResourceMetadata;
+import jakarta.ws.rs.core.UriBuilder;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ResourceMetadataTest {
+
+    @Test
+    void testGeneratedMetadata() {
+        JaxRsResourceMetadata metadata = JaxRsResourceMetadata.find(HeadersResource.class).orElseThrow();
+        assertEquals(HeadersResource.class.getName(), metadata.getResourceTypeName());
+        assertEquals("/headers", metadata.getPath());
+        assertEquals("/cookie", metadata.getMethodPath("cookie"));
+        assertNull(metadata.getMethodPath("missing"));
+        assertTrue(JaxRsResourceMetadata.find(String.class).isEmpty());
+    }
+
+    @Test
+    void testUriBuilderPath() {
+        assertEquals("/headers/cookie", UriBuilder.fromPath("").path(HeadersResource.class).path(HeadersResource.class, "cookie").build().toString());
+    }
+}
@@ -0,0 +1,31 @@
+package io.micronaut.jaxrs.container;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.sse.Sse;
+import jakarta.ws.rs.sse.SseEventSink;
+
+import java.util.concurrent.CompletableFuture;
+
+@Path("/sse")
+public class SseResource {
+
+    @GET
+    @Produces(MediaType.SERVER_SENT_EVENTS)
+    public void events(@Context SseEventSink sink, @Context Sse sse) {
+        CompletableFuture.runAsync(() -> {
+            try (sink) {
+                for (int i = 1; i <= 3; i++) {
+                    sink.send(sse.newEventBuilder()
+                        .id(String.valueOf(i))
+                        .name("count")
+                        .data("event " + i)
+                        .build());
+                }
+            }
+        });
+    }
+}
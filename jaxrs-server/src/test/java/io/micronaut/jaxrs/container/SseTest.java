@@ -0,0 +1,33 @@
+package io.micronaut.jaxrs.container;
+
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.MediaType;
+import io.micronaut.http.client.HttpClient;
+import io.micronaut.http.client.annotation.Client;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@MicronautTest
+class SseTest {
+
+    @Inject
+    @Client("/api")
+    HttpClient httpClient;
+
+    @Test
+    void testEventSink() {
+        String body = httpClient.toBlocking().retrieve(
+            HttpRequest.GET("/sse").accept(MediaType.TEXT_EVENT_STREAM_TYPE),
+            String.class
+        );
+
+        for (int i = 1; i <= 3; i++) {
+            assertTrue(body.contains("id: " + i + "\n"), body);
+            assertTrue(body.contains("data: event " + i + "\n"), body);
+        }
+        assertTrue(body.contains("event: count\n"), body);
+    }
+}
@@ -1,15 +1,18 @@
 package io.micronaut.jaxrs.container;
 
 import io.micronaut.http.HttpRequest;
+import io.micronaut.http.MutableHttpRequest;
 import io.micronaut.http.client.HttpClient;
 import io.micronaut.http.client.annotation.Client;
 import io.micronaut.jaxrs.runtime.ext.bind.UriInfoImpl;
 import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
 import jakarta.inject.Inject;
+import jakarta.ws.rs.core.PathSegment;
 import jakarta.ws.rs.core.UriInfo;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.net.URI;
 import java.util.Arrays;
 import java.util.List;
 import java.util.function.Consumer;
@@ -149,6 +152,41 @@ class UriInfoTest {
         Assertions.assertEquals(expectedUri.getRequestUri(), actualUri.getRequestUri());
     }
 
+    @Test
+    void testPathSegmentsParsing() {
+        UriInfo uriInfo = new UriInfoImpl(HttpRequest.GET("http://example.com//foo;a=1;b;c=/baz"));
+
+        List<PathSegment> decoded = uriInfo.getPathSegments();
+        Assertions.assertEquals(2, decoded.size());
+        Assertions.assertEquals("foo", decoded.get(0).getPath());
+        Assertions.assertEquals(List.of("1"), decoded.get(0).getMatrixParameters().get("a"));
+        Assertions.assertEquals(Arrays.asList((String) null), decoded.get(0).getMatrixParameters().get("b"));
+        Assertions.assertEquals(List.of(""), decoded.get(0).getMatrixParameters().get("c"));
+        Assertions.assertEquals("baz", decoded.get(1).getPath());
+        Assertions.assertTrue(decoded.get(1).getMatrixParameters().isEmpty());
+
+        List<PathSegment> encoded = uriInfo.getPathSegments(false);
+        Assertions.assertEquals("foo", encoded.get(0).getPath());
+        Assertions.assertEquals(List.of("1"), encoded.get(0).getMatrixParameters().get("a"));
+    }
+
+    @Test
+    void testUriInfoAttachedToRequest() {
+        MutableHttpRequest<?> request = HttpRequest.GET("http://example.com/foo;color=red/bar?baz=bam");
+        UriInfo uriInfo = UriInfoImpl.of(request, null);
+
+        Assertions.assertSame(uriInfo, UriInfoImpl.of(request, null));
+        Assertions.assertSame(uriInfo.getPathSegments(), uriInfo.getPathSegments());
+        Assertions.assertSame(uriInfo.getQueryParameters(), uriInfo.getQueryParameters());
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> uriInfo.getQueryParameters().add("baz", "qux"));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> uriInfo.getQueryParameters().get("baz").clear());
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> uriInfo.getQueryParameters(false).remove("baz"));
+
+        request.uri(URI.create("http://example.com/other?baz=qux"));
+        Assertions.assertEquals("/other", uriInfo.getPath());
+        Assertions.assertEquals(List.of("qux"), uriInfo.getQueryParameters().get("baz"));
+    }
+
     @Test
     void testUnsupportedMethods() {
         List<Consumer<UriInfo>> unsupportedMethods = Arrays.asList(